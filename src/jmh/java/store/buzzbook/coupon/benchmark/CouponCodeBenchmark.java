@@ -0,0 +1,60 @@
+package store.buzzbook.coupon.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import store.buzzbook.coupon.common.utils.CouponCodeCipher;
+
+/**
+ * 쿠폰 코드 생성과 형식 확인의 처리량을 측정하는 벤치마크입니다.
+ * <p>
+ * 일련번호 할당은 데이터베이스를 거치므로 제외하고, 요청마다 수행되는 암호화와 형식 확인만 측정합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CouponCodeBenchmark {
+
+	private final AtomicLong serial = new AtomicLong();
+
+	private CouponCodeCipher cipher;
+	private String couponCode;
+
+	@Setup
+	public void setUp() {
+		cipher = new CouponCodeCipher("benchmark-secret");
+		couponCode = cipher.encrypt(1_000_000);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String encryptSingleThread() {
+		return cipher.encrypt(serial.getAndIncrement());
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String encryptAllThreads() {
+		return cipher.encrypt(serial.getAndIncrement());
+	}
+
+	@Benchmark
+	public long decrypt() {
+		return cipher.decrypt(couponCode);
+	}
+
+	@Benchmark
+	public boolean isWellFormed() {
+		return cipher.isWellFormed(couponCode);
+	}
+}
@@ -0,0 +1,165 @@
+package store.buzzbook.coupon.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+
+/**
+ * 요청 하나를 처리하며 남기는 로그의 비용을 동기 파일 어펜더와 비동기 어펜더로 비교하는 벤치마크입니다.
+ * <p>
+ * LogBackConfig 와 같은 패턴으로 파일에 쓰며, 요청마다 INFO 로그 4개와 출력되지 않는 DEBUG 로그 1개를 남깁니다.
+ * {@code async} 는 버림 기준 0, 큐가 차면 기다리도록 설정해 동기 어펜더와 같은 줄을 모두 기록하므로 두 결과를 그대로 비교할 수 있습니다.
+ * {@code async-lossy} 는 LogBackConfig 의 기본값과 같이 큐 1024, 버림 기준 204, never-block 으로 설정하며,
+ * 큐가 차면 로그를 버리므로 시간만으로는 비교할 수 없습니다.
+ * 세 설정 모두 호출자 정보를 수집하지 않으며, 남긴 줄 수와 파일까지 도달하지 못한 줄 수를 보조 카운터 {@code logged}, {@code dropped} 로 함께 보고합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoggingBenchmark {
+
+	private static final String LOG_PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-3level %logger{5} - %msg %n";
+	private static final int LINES_PER_REQUEST = 4;
+	private static final int QUEUE_SIZE = 1024;
+
+	/**
+	 * 로그를 남긴 스레드 이름별로 파일에 기록된 줄 수입니다.
+	 */
+	private static final Map<String, LongAdder> WRITTEN = new ConcurrentHashMap<>();
+
+	@Param({"sync", "async", "async-lossy"})
+	private String mode;
+
+	private Path logFile;
+	private LoggerContext loggerContext;
+	private AsyncAppender asyncAppender;
+	private Logger logger;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		logFile = Files.createTempFile("logging-benchmark", ".log");
+		loggerContext = new LoggerContext();
+		loggerContext.setMDCAdapter(new LogbackMDCAdapter());
+
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(loggerContext);
+		encoder.setPattern(LOG_PATTERN);
+		encoder.start();
+
+		FileAppender<ILoggingEvent> fileAppender = new FileAppender<>() {
+			@Override
+			protected void subAppend(ILoggingEvent event) {
+				super.subAppend(event);
+				WRITTEN.computeIfAbsent(event.getThreadName(), name -> new LongAdder()).increment();
+			}
+		};
+		fileAppender.setName("FILE");
+		fileAppender.setContext(loggerContext);
+		fileAppender.setEncoder(encoder);
+		fileAppender.setFile(logFile.toString());
+		fileAppender.start();
+
+		Appender<ILoggingEvent> appender = fileAppender;
+		if (!"sync".equals(mode)) {
+			boolean lossy = "async-lossy".equals(mode);
+			asyncAppender = new AsyncAppender();
+			asyncAppender.setName("ASYNC_FILE");
+			asyncAppender.setContext(loggerContext);
+			asyncAppender.setQueueSize(QUEUE_SIZE);
+			asyncAppender.setDiscardingThreshold(lossy ? QUEUE_SIZE / 5 : 0);
+			asyncAppender.setNeverBlock(lossy);
+			asyncAppender.setIncludeCallerData(false);
+			asyncAppender.addAppender(fileAppender);
+			asyncAppender.start();
+			appender = asyncAppender;
+		}
+
+		logger = loggerContext.getLogger("store.buzzbook.coupon.service.impl.CouponServiceImpl");
+		logger.setLevel(ch.qos.logback.classic.Level.INFO);
+		logger.setAdditive(false);
+		logger.addAppender(appender);
+	}
+
+	/**
+	 * 측정 구간이 끝나면 큐에 남은 로그가 파일에 기록될 때까지 기다려, 기록 중인 줄이 버린 줄로 집계되지 않게 합니다.
+	 */
+	@TearDown(Level.Iteration)
+	public void drain() throws InterruptedException {
+		while (asyncAppender != null && asyncAppender.getNumberOfElementsInQueue() > 0) {
+			TimeUnit.MILLISECONDS.sleep(1);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		loggerContext.stop();
+		Files.deleteIfExists(logFile);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void request(LineCounters lineCounters) {
+		long userId = ThreadLocalRandom.current().nextLong(1_000_000);
+		logger.info("Received coupon request for user {}", userId);
+		logger.debug("Resolved coupon policy {} for user {}", 42, userId);
+		logger.info("Issued coupon {} to user {}", "ABCDEFGHIJKLMNOPQRS1", userId);
+		logger.info("Published coupon event for user {}", userId);
+		logger.info("Completed coupon request for user {} in {} ms", userId, 3);
+		lineCounters.loggedLines += LINES_PER_REQUEST;
+	}
+
+	/**
+	 * 측정 구간 동안 이 스레드가 남긴 줄 수와 그중 파일에 기록되지 않은 줄 수입니다.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class LineCounters {
+
+		private LongAdder written;
+		private long writtenAtStart;
+		private long loggedLines;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			written = WRITTEN.computeIfAbsent(Thread.currentThread().getName(), name -> new LongAdder());
+			writtenAtStart = written.sum();
+			loggedLines = 0;
+		}
+
+		public long logged() {
+			return loggedLines;
+		}
+
+		public long dropped() {
+			return loggedLines - (written.sum() - writtenAtStart);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package store.buzzbook.coupon.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import store.buzzbook.coupon.common.constant.CouponScope;
+import store.buzzbook.coupon.common.constant.CouponStatus;
+import store.buzzbook.coupon.common.constant.DiscountType;
+import store.buzzbook.coupon.common.utils.DateFormatter;
+
+/**
+ * 요청 파라미터를 변환하는 날짜와 enum 파서의 지연 시간을 측정하는 벤치마크입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+
+	@Param({"2024-07-01"})
+	private String date;
+
+	@Param({"category"})
+	private String couponScope;
+
+	@Param({"available"})
+	private String couponStatus;
+
+	@Param({"amount"})
+	private String discountType;
+
+	@Benchmark
+	public LocalDate toLocalDate() {
+		return DateFormatter.toLocalDate(date);
+	}
+
+	@Benchmark
+	public CouponScope couponScopeFromString() {
+		return CouponScope.fromString(couponScope);
+	}
+
+	@Benchmark
+	public CouponStatus couponStatusFromString() {
+		return CouponStatus.fromString(couponStatus);
+	}
+
+	@Benchmark
+	public DiscountType discountTypeFromString() {
+		return DiscountType.fromString(discountType);
+	}
+}
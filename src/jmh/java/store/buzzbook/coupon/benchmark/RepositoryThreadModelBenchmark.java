@@ -0,0 +1,145 @@
+package store.buzzbook.coupon.benchmark;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jdk.jfr.consumer.RecordingStream;
+import store.buzzbook.coupon.common.config.DataSourceConfig;
+import store.buzzbook.coupon.repository.impl.CouponJdbcRepositoryImpl;
+
+/**
+ * {@link ThreadModelBenchmark} 의 비교를 sleep 대신 실제 레포지토리, 커넥션 풀, JDBC 드라이버를 거쳐 수행하는 벤치마크입니다.
+ * <p>
+ * 작업마다 {@link CouponJdbcRepositoryImpl#allocateIds} 로 ID 블록을 할당받으며, 행 잠금이 겹치지 않도록 작업마다 다른 시퀀스를 사용합니다.
+ * 커넥션 풀은 운영 설정과 같은 DBCP2 풀이며, 최대 커넥션 수는 플랫폼 스레드 풀과 비교할 수 있도록 파라미터로 받습니다.
+ * 기본값은 H2 메모리 데이터베이스이고, {@code -p jdbcUrl=jdbc:mysql://... -p username=... -p password=...} 로 MySQL 에서 실행할 수 있습니다.
+ * 가상 스레드가 드라이버나 풀 안에서 캐리어 스레드에 고정된 횟수를 JFR 로 세어 보조 카운터 {@code pinned} 로 함께 보고합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RepositoryThreadModelBenchmark {
+
+	private static final int PLATFORM_POOL_SIZE = 200;
+	private static final int SEQUENCES = 64;
+
+	private static final AtomicLong PINNED_EVENTS = new AtomicLong();
+
+	@Param({"platform", "virtual"})
+	private String threadModel;
+
+	@Param({"1000"})
+	private int tasks;
+
+	@Param({"20"})
+	private int maxConnections;
+
+	@Param({"jdbc:h2:mem:repository-thread-model;DB_CLOSE_DELAY=-1"})
+	private String jdbcUrl;
+
+	@Param({"sa"})
+	private String username;
+
+	@Param({""})
+	private String password;
+
+	private BasicDataSource dataSource;
+	private CouponJdbcRepositoryImpl couponJdbcRepository;
+	private ExecutorService executor;
+	private RecordingStream recordingStream;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		dataSource = new BasicDataSource();
+		dataSource.setUrl(jdbcUrl);
+		dataSource.setUsername(username);
+		dataSource.setPassword(password);
+		dataSource.setMaxTotal(maxConnections);
+		dataSource.setMaxIdle(maxConnections);
+		dataSource.setMaxWait(Duration.ofSeconds(30));
+
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("create table if not exists id_sequence "
+			+ "(sequence_name varchar(255) not null primary key, next_val bigint)");
+
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(
+			Map.of(DataSourceConfig.ID_SEQUENCE_DATA_SOURCE, dataSource));
+		couponJdbcRepository = new CouponJdbcRepositoryImpl(jdbcTemplate,
+			beanFactory.getBeanProvider(DataSource.class));
+
+		executor = "virtual".equals(threadModel)
+			? Executors.newVirtualThreadPerTaskExecutor()
+			: Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+
+		recordingStream = new RecordingStream();
+		recordingStream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+		recordingStream.onEvent("jdk.VirtualThreadPinned", event -> PINNED_EVENTS.incrementAndGet());
+		recordingStream.startAsync();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		recordingStream.close();
+		executor.shutdownNow();
+		dataSource.close();
+	}
+
+	@Benchmark
+	public long allocateIds(PinningCounter pinningCounter) throws InterruptedException, ExecutionException {
+		List<Future<Long>> futures = new ArrayList<>(tasks);
+		for (int i = 0; i < tasks; i++) {
+			String sequenceName = "benchmark-" + i % SEQUENCES;
+			futures.add(executor.submit(() -> couponJdbcRepository.allocateIds(sequenceName, 1)));
+		}
+
+		long allocated = 0;
+		for (Future<Long> future : futures) {
+			allocated += future.get();
+		}
+		pinningCounter.pinned += PINNED_EVENTS.getAndSet(0);
+		return allocated;
+	}
+
+	/**
+	 * 측정 구간 동안 가상 스레드가 캐리어 스레드에 고정된 횟수입니다.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class PinningCounter {
+
+		public long pinned;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			pinned = 0;
+			PINNED_EVENTS.set(0);
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package store.buzzbook.coupon.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import store.buzzbook.coupon.common.constant.CouponScope;
+import store.buzzbook.coupon.common.constant.CouponStatus;
+import store.buzzbook.coupon.common.constant.DiscountType;
+import store.buzzbook.coupon.dto.coupon.OrderCouponResponse;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyResponse;
+import store.buzzbook.coupon.entity.Coupon;
+import store.buzzbook.coupon.entity.CouponPolicy;
+import store.buzzbook.coupon.entity.CouponType;
+
+/**
+ * 엔티티를 응답 레코드로 변환하고 JSON 으로 직렬화하는 비용을 측정하는 벤치마크입니다.
+ * <p>
+ * ObjectMapper 는 애플리케이션과 같은 기본 설정을 사용합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseMappingBenchmark {
+
+	private ObjectMapper objectMapper;
+	private CouponPolicy couponPolicy;
+	private Coupon coupon;
+	private CouponPolicyResponse couponPolicyResponse;
+	private OrderCouponResponse orderCouponResponse;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+		CouponType couponType = CouponType.builder()
+			.id(1)
+			.name(CouponScope.CATEGORY)
+			.build();
+		couponPolicy = CouponPolicy.builder()
+			.id(1)
+			.couponType(couponType)
+			.name("benchmark policy")
+			.discountType(DiscountType.AMOUNT)
+			.discountRate(0)
+			.discountAmount(1_000)
+			.period(30)
+			.standardPrice(10_000)
+			.maxDiscountAmount(1_000)
+			.startDate(LocalDate.of(2024, 7, 1))
+			.endDate(LocalDate.of(2024, 12, 31))
+			.build();
+		coupon = Coupon.builder()
+			.id(1)
+			.couponPolicy(couponPolicy)
+			.couponCode("AAAAAAAAAAAAAAAAAAA1")
+			.createDate(LocalDate.of(2024, 7, 1))
+			.expireDate(LocalDate.of(2024, 7, 31))
+			.status(CouponStatus.AVAILABLE)
+			.build();
+
+		couponPolicyResponse = CouponPolicyResponse.from(couponPolicy);
+		orderCouponResponse = OrderCouponResponse.from(coupon);
+	}
+
+	@Benchmark
+	public CouponPolicyResponse couponPolicyResponseFrom() {
+		return CouponPolicyResponse.from(couponPolicy);
+	}
+
+	@Benchmark
+	public OrderCouponResponse orderCouponResponseFrom() {
+		return OrderCouponResponse.from(coupon);
+	}
+
+	@Benchmark
+	public String serializeCouponPolicyResponse() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(couponPolicyResponse);
+	}
+
+	@Benchmark
+	public String serializeOrderCouponResponse() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(orderCouponResponse);
+	}
+}
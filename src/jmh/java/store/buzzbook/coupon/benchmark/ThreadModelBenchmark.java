@@ -0,0 +1,97 @@
+package store.buzzbook.coupon.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 블로킹 호출이 많은 요청을 플랫폼 스레드 풀과 가상 스레드에서 처리할 때의 소요 시간을 비교하는 벤치마크입니다.
+ * <p>
+ * 각 작업은 웰컴 쿠폰 발급처럼 데이터베이스와 HTTP 호출을 기다리는 시간을 sleep 으로 흉내 냅니다.
+ * 플랫폼 스레드 풀은 Tomcat 의 기본 최대 스레드 수인 200 개로 고정하고, 가상 스레드는 작업마다 하나씩 만듭니다.
+ * 작업마다 서로 다른 락을 잡은 채로 기다리므로 경합은 없고, synchronized 로 잡은 경우 가상 스레드가 캐리어 스레드에 고정되는 비용만 드러납니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ThreadModelBenchmark {
+
+	private static final int PLATFORM_POOL_SIZE = 200;
+
+	@Param({"platform", "virtual"})
+	private String threadModel;
+
+	@Param({"lock", "synchronized"})
+	private String guard;
+
+	@Param({"1000"})
+	private int tasks;
+
+	@Param({"10"})
+	private int blockMillis;
+
+	private ExecutorService executor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		executor = "virtual".equals(threadModel)
+			? Executors.newVirtualThreadPerTaskExecutor()
+			: Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Benchmark
+	public int blockingRequests() throws InterruptedException, ExecutionException {
+		boolean useMonitor = "synchronized".equals(guard);
+		List<Future<Integer>> futures = new ArrayList<>(tasks);
+		for (int i = 0; i < tasks; i++) {
+			futures.add(executor.submit(() -> useMonitor ? blockWithMonitor() : blockWithLock()));
+		}
+
+		int completed = 0;
+		for (Future<Integer> future : futures) {
+			completed += future.get();
+		}
+		return completed;
+	}
+
+	private int blockWithMonitor() throws InterruptedException {
+		Object monitor = new Object();
+		synchronized (monitor) {
+			Thread.sleep(blockMillis);
+		}
+		return 1;
+	}
+
+	private int blockWithLock() throws InterruptedException {
+		ReentrantLock lock = new ReentrantLock();
+		lock.lock();
+		try {
+			Thread.sleep(blockMillis);
+		} finally {
+			lock.unlock();
+		}
+		return 1;
+	}
+}
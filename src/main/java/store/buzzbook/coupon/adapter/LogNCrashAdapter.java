@@ -1,6 +1,10 @@
 package store.buzzbook.coupon.adapter;
 
+import java.util.List;
+
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
@@ -11,4 +15,14 @@ public interface LogNCrashAdapter {
 
 	@PostMapping("/v2/log")
 	void sendLog(@RequestBody LogNCrashRequest request);
+
+	@PostMapping("/v2/log")
+	void sendLogs(@RequestBody List<LogNCrashRequest> requests);
+
+	@PostMapping(value = "/v2/log", consumes = MediaType.APPLICATION_JSON_VALUE)
+	void sendRawLogs(@RequestBody byte[] body);
+
+	@PostMapping(value = "/v2/log", consumes = MediaType.APPLICATION_JSON_VALUE,
+		headers = HttpHeaders.CONTENT_ENCODING + "=gzip")
+	void sendCompressedLogs(@RequestBody byte[] body);
 }
@@ -0,0 +1,48 @@
+package store.buzzbook.coupon.common.actuator;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import store.buzzbook.coupon.common.appender.DebugSamplingFilter;
+import store.buzzbook.coupon.dto.log.LogSamplingResponse;
+
+/**
+ * 로거마다 초당 허용할 DEBUG 로그 수를 조회하고 실행 중에 바꾸는 액추에이터 엔드포인트입니다.
+ * <p>
+ * 로거의 레벨은 기본 제공되는 /actuator/loggers 엔드포인트로 바꾸고, 이 엔드포인트로는 DEBUG 로그의 양을 조절합니다.
+ * </p>
+ */
+@Component
+@Endpoint(id = "logsampling")
+@RequiredArgsConstructor
+public class LogSamplingEndpoint {
+
+	private final DebugSamplingFilter debugSamplingFilter;
+
+	@ReadOperation
+	public LogSamplingResponse getSampling() {
+		return createResponse();
+	}
+
+	/**
+	 * 로거마다 초당 허용할 DEBUG 로그 수를 바꿉니다.
+	 *
+	 * @param debugPerSecond 초당 허용할 DEBUG 로그 수, 0 이면 제한하지 않음
+	 * @return 바뀐 설정
+	 */
+	@WriteOperation
+	public LogSamplingResponse updateSampling(int debugPerSecond) {
+		debugSamplingFilter.setEventsPerSecond(debugPerSecond);
+		return createResponse();
+	}
+
+	private LogSamplingResponse createResponse() {
+		return LogSamplingResponse.builder()
+			.debugPerSecond(debugSamplingFilter.getEventsPerSecond())
+			.droppedEvents(debugSamplingFilter.getDroppedEvents())
+			.build();
+	}
+}
@@ -0,0 +1,118 @@
+package store.buzzbook.coupon.common.appender;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 로거마다 초당 DEBUG 이하 레벨의 로그 수를 제한하는 터보 필터 클래스입니다.
+ * <p>
+ * 로그 이벤트를 만들기 전에 실행되므로, 제한을 넘은 DEBUG 로그는 메시지 포맷팅과 어펜더 큐를 거치지 않고 버려집니다.
+ * 로거의 레벨 때문에 어차피 출력되지 않는 로그와 {@code isDebugEnabled()} 같은 레벨 확인은 제한 횟수에 포함하지 않습니다.
+ * 초당 허용 수가 0 이면 제한하지 않으며, 실행 중에 바꿀 수 있습니다.
+ * </p>
+ */
+public class DebugSamplingFilter extends TurboFilter implements MeterBinder {
+
+	private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final Map<String, Window> windows = new ConcurrentHashMap<>();
+	private final AtomicLong droppedEvents = new AtomicLong();
+	private final LongSupplier nanoClock;
+
+	private volatile int eventsPerSecond;
+
+	/**
+	 * @param eventsPerSecond 로거마다 초당 허용할 DEBUG 로그 수, 0 이면 제한하지 않음
+	 */
+	public DebugSamplingFilter(int eventsPerSecond) {
+		this(eventsPerSecond, System::nanoTime);
+	}
+
+	DebugSamplingFilter(int eventsPerSecond, LongSupplier nanoClock) {
+		this.nanoClock = nanoClock;
+		setEventsPerSecond(eventsPerSecond);
+	}
+
+	@Override
+	public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+		Throwable t) {
+		int limit = eventsPerSecond;
+		if (limit == 0 || Objects.isNull(format) || level.isGreaterOrEqual(Level.INFO)
+			|| !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+			return FilterReply.NEUTRAL;
+		}
+
+		Window window = windows.computeIfAbsent(logger.getName(), name -> new Window());
+		if (window.tryAcquire(nanoClock.getAsLong() / WINDOW_NANOS, limit)) {
+			return FilterReply.NEUTRAL;
+		}
+
+		droppedEvents.incrementAndGet();
+		return FilterReply.DENY;
+	}
+
+	/**
+	 * 로거마다 초당 허용할 DEBUG 로그 수를 바꿉니다.
+	 *
+	 * @param eventsPerSecond 초당 허용할 DEBUG 로그 수, 0 이면 제한하지 않음
+	 * @throws IllegalArgumentException 음수인 경우
+	 */
+	public void setEventsPerSecond(int eventsPerSecond) {
+		if (eventsPerSecond < 0) {
+			throw new IllegalArgumentException("초당 DEBUG 로그 수는 0 이상이어야 합니다.");
+		}
+		this.eventsPerSecond = eventsPerSecond;
+	}
+
+	public int getEventsPerSecond() {
+		return eventsPerSecond;
+	}
+
+	/**
+	 * 제한을 넘어 버린 DEBUG 로그 수를 반환합니다.
+	 *
+	 * @return 버린 로그 수
+	 */
+	public long getDroppedEvents() {
+		return droppedEvents.get();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("logging.debug.sampled.dropped", droppedEvents, AtomicLong::get)
+			.description("DEBUG events dropped because their logger exceeded the per-second limit")
+			.register(registry);
+	}
+
+	/**
+	 * 1초 단위 고정 창의 로그 수입니다. 창이 바뀌는 순간에는 근삿값으로 동작합니다.
+	 */
+	private static final class Window {
+
+		private final AtomicLong second = new AtomicLong(Long.MIN_VALUE);
+		private final AtomicInteger count = new AtomicInteger();
+
+		private boolean tryAcquire(long currentSecond, int limit) {
+			long windowSecond = second.get();
+			if (windowSecond != currentSecond && second.compareAndSet(windowSecond, currentSecond)) {
+				count.set(0);
+			}
+			return count.incrementAndGet() <= limit;
+		}
+	}
+}
@@ -1,27 +1,235 @@
 package store.buzzbook.coupon.common.appender;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.AppenderBase;
-import lombok.AllArgsConstructor;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import store.buzzbook.coupon.adapter.LogNCrashAdapter;
+import store.buzzbook.coupon.common.utils.BoundedRingBuffer;
 import store.buzzbook.coupon.dto.log.LogNCrashRequest;
 
-@AllArgsConstructor
-public class LogNCrashAppender extends AppenderBase<ILoggingEvent> {
+/**
+ * 로그를 LogNCrash 로 비동기 전송하는 어펜더 클래스입니다.
+ * <p>
+ * 로그를 남긴 스레드는 요청을 만들어 {@link BoundedRingBuffer} 에 넣기만 하고,
+ * 전송 스레드가 배치 크기만큼 모이거나 가장 오래된 로그가 최대 대기 시간을 넘기면 한 번에 전송합니다.
+ * 큐가 가득 차면 설정한 정책에 따라 가장 오래된 로그를 버리거나, 기준 레벨 미만의 로그를 버립니다.
+ * 전송 중인 스레드에서 남긴 로그는 Feign 호출 중 다시 이 어펜더로 들어오지 않도록 무시합니다.
+ * {@link SpooledLogSender} 가 있으면 배치를 직접 전송하지 않고 디스크 스풀에 넘깁니다.
+ * </p>
+ */
+public class LogNCrashAppender extends UnsynchronizedAppenderBase<ILoggingEvent> implements MeterBinder {
+
+	private static final String SHIPPER_NAME = "logncrash-shipper";
+	private static final long STOP_TIMEOUT_MILLIS = 5000;
+
+	/**
+	 * LogNCrash 로 전송 중인 스레드를 표시합니다. 전송 중 Feign 이 남긴 로그가 다시 이 어펜더로 들어오지 않도록 무시합니다.
+	 */
+	static final ThreadLocal<Boolean> SENDING = ThreadLocal.withInitial(() -> false);
+
+	private final String version;
+	private final String host;
+	private final String platform;
+	private final String logVersion;
+	private final String logSource;
+	private final String logType;
+	private final String appKey;
+	private final LogNCrashAdapter logNCrashAdapter;
+	private final Batching batching;
+	private final SpooledLogSender spooledLogSender;
+	private final BoundedRingBuffer<QueuedLog> buffer;
+
+	private final AtomicLong sentEvents = new AtomicLong();
+	private final AtomicLong overflowDrops = new AtomicLong();
+	private final AtomicLong failedEvents = new AtomicLong();
+
+	private volatile Thread shipper;
+
+	public LogNCrashAppender(String version, String host, String platform, String logVersion, String logSource,
+		String logType, String appKey, LogNCrashAdapter logNCrashAdapter, Batching batching,
+		SpooledLogSender spooledLogSender) {
+		this.version = version;
+		this.host = host;
+		this.platform = platform;
+		this.logVersion = logVersion;
+		this.logSource = logSource;
+		this.logType = logType;
+		this.appKey = appKey;
+		this.logNCrashAdapter = logNCrashAdapter;
+		this.batching = batching;
+		this.spooledLogSender = spooledLogSender;
+		this.buffer = new BoundedRingBuffer<>(batching.queueSize());
+	}
+
+	@Override
+	public void start() {
+		if (isStarted()) {
+			return;
+		}
+
+		super.start();
+		if (Objects.nonNull(spooledLogSender)) {
+			spooledLogSender.start();
+		}
+		shipper = new Thread(this::ship, SHIPPER_NAME);
+		shipper.setDaemon(true);
+		shipper.start();
+	}
+
+	/**
+	 * 어펜더를 멈추고, 큐에 남은 로그를 전송하거나 스풀에 넘길 때까지 잠시 기다립니다.
+	 */
+	@Override
+	public void stop() {
+		if (!isStarted()) {
+			return;
+		}
+
+		super.stop();
+		Thread stoppingShipper = shipper;
+		LockSupport.unpark(stoppingShipper);
+		try {
+			stoppingShipper.join(STOP_TIMEOUT_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
 
-	private String version;
-	private String host;
-	private String platform;
-	private String logVersion;
-	private String logSource;
-	private String logType;
-	private String appKey;
-	private LogNCrashAdapter logNCrashAdapter;
+		if (Objects.nonNull(spooledLogSender)) {
+			spooledLogSender.stop();
+		}
+	}
 
 	@Override
 	protected void append(ILoggingEvent iLoggingEvent) {
-		LogNCrashRequest request = createLogNCrashRequest(iLoggingEvent);
-		logNCrashAdapter.sendLog(request);
+		if (SENDING.get()) {
+			return;
+		}
+
+		QueuedLog queuedLog = new QueuedLog(createLogNCrashRequest(iLoggingEvent), iLoggingEvent.getLevel(),
+			iLoggingEvent.getTimeStamp());
+		if (!enqueue(queuedLog)) {
+			overflowDrops.incrementAndGet();
+			return;
+		}
+
+		if (buffer.size() >= batching.batchSize()) {
+			LockSupport.unpark(shipper);
+		}
+	}
+
+	/**
+	 * 로그를 큐에 넣습니다. 큐가 가득 차 있으면 정책에 따라 가장 오래된 로그를 버리고 다시 넣습니다.
+	 *
+	 * @param queuedLog 넣을 로그
+	 * @return 넣었으면 true, 넣지 못하고 버렸으면 false
+	 */
+	boolean enqueue(QueuedLog queuedLog) {
+		if (buffer.offer(queuedLog)) {
+			return true;
+		}
+		if (batching.overflowPolicy() == OverflowPolicy.DROP_BELOW_LEVEL
+			&& !queuedLog.level().isGreaterOrEqual(batching.discardBelow())) {
+			return false;
+		}
+
+		if (Objects.nonNull(buffer.poll())) {
+			overflowDrops.incrementAndGet();
+		}
+		return buffer.offer(queuedLog);
+	}
+
+	/**
+	 * 배치 크기만큼 모이거나 가장 오래된 로그가 최대 대기 시간을 넘기면 전송합니다.
+	 * 어펜더가 멈추면 큐에 남은 로그를 모두 전송하고 끝납니다.
+	 */
+	private void ship() {
+		long maxBatchAgeMillis = batching.maxBatchAge().toMillis();
+		List<LogNCrashRequest> batch = new ArrayList<>(batching.batchSize());
+		long oldestTimestamp = 0;
+
+		while (isStarted() || buffer.size() > 0 || !batch.isEmpty()) {
+			QueuedLog queuedLog;
+			while (batch.size() < batching.batchSize() && Objects.nonNull(queuedLog = buffer.poll())) {
+				if (batch.isEmpty()) {
+					oldestTimestamp = queuedLog.timestamp();
+				}
+				batch.add(queuedLog.request());
+			}
+
+			long waitMillis = oldestTimestamp + maxBatchAgeMillis - System.currentTimeMillis();
+			if (batch.size() >= batching.batchSize() || (!batch.isEmpty() && (waitMillis <= 0 || !isStarted()))) {
+				send(batch);
+				batch = new ArrayList<>(batching.batchSize());
+				continue;
+			}
+
+			long parkMillis = batch.isEmpty() ? maxBatchAgeMillis : waitMillis;
+			LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(parkMillis));
+		}
+	}
+
+	/**
+	 * 배치를 전송하거나 스풀에 넘깁니다. 실패한 배치는 버리고 Logback 상태 메시지로 남깁니다.
+	 *
+	 * @param batch 전송할 요청 목록
+	 */
+	private void send(List<LogNCrashRequest> batch) {
+		if (Objects.nonNull(spooledLogSender)) {
+			if (spooledLogSender.spool(batch)) {
+				sentEvents.addAndGet(batch.size());
+			} else {
+				failedEvents.addAndGet(batch.size());
+			}
+			return;
+		}
+
+		SENDING.set(true);
+		try {
+			logNCrashAdapter.sendLogs(batch);
+			sentEvents.addAndGet(batch.size());
+		} catch (RuntimeException e) {
+			failedEvents.addAndGet(batch.size());
+			addWarn("Failed to send " + batch.size() + " logs to LogNCrash", e);
+		} finally {
+			SENDING.set(false);
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("logncrash.queue.depth", buffer, BoundedRingBuffer::size)
+			.description("Log events waiting to be shipped to LogNCrash")
+			.register(registry);
+		Gauge.builder("logncrash.queue.capacity", buffer, BoundedRingBuffer::capacity)
+			.description("Maximum number of log events waiting to be shipped to LogNCrash")
+			.register(registry);
+		FunctionCounter.builder("logncrash.events.sent", sentEvents, AtomicLong::get)
+			.description("Log events shipped to LogNCrash or handed to the spool")
+			.register(registry);
+		FunctionCounter.builder("logncrash.events.dropped", overflowDrops, AtomicLong::get)
+			.description("Log events dropped before shipping")
+			.tag("reason", "overflow")
+			.register(registry);
+		FunctionCounter.builder("logncrash.events.dropped", failedEvents, AtomicLong::get)
+			.description("Log events dropped before shipping")
+			.tag("reason", "send-failure")
+			.register(registry);
+
+		if (Objects.nonNull(spooledLogSender)) {
+			spooledLogSender.bindTo(registry);
+		}
 	}
 
 	private LogNCrashRequest createLogNCrashRequest(ILoggingEvent iLoggingEvent) {
@@ -37,4 +245,41 @@ public class LogNCrashAppender extends AppenderBase<ILoggingEvent> {
 			.Platform(platform)
 			.build();
 	}
+
+	/**
+	 * 큐가 가득 찼을 때 버릴 로그를 고르는 정책입니다.
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * 가장 오래된 로그를 버리고 새 로그를 넣습니다.
+		 */
+		DROP_OLDEST,
+		/**
+		 * 기준 레벨 미만의 새 로그는 버리고, 기준 레벨 이상의 로그는 가장 오래된 로그를 버리고 넣습니다.
+		 */
+		DROP_BELOW_LEVEL
+	}
+
+	/**
+	 * 비동기 전송 설정입니다.
+	 *
+	 * @param queueSize 큐의 최소 용량, 2의 거듭제곱으로 올림
+	 * @param batchSize 한 번에 전송할 최대 로그 수
+	 * @param maxBatchAge 배치가 가득 차지 않아도 전송하기까지 기다리는 최대 시간
+	 * @param overflowPolicy 큐가 가득 찼을 때의 정책
+	 * @param discardBelow {@link OverflowPolicy#DROP_BELOW_LEVEL} 에서 버릴 로그의 기준 레벨
+	 */
+	public record Batching(int queueSize, int batchSize, Duration maxBatchAge, OverflowPolicy overflowPolicy,
+		Level discardBelow) {
+
+		public Batching {
+			if (queueSize <= 0 || batchSize <= 0 || maxBatchAge.isNegative() || maxBatchAge.isZero()
+				|| Objects.isNull(overflowPolicy) || Objects.isNull(discardBelow)) {
+				throw new IllegalArgumentException("잘못된 LogNCrash 전송 설정입니다.");
+			}
+		}
+	}
+
+	record QueuedLog(LogNCrashRequest request, Level level, long timestamp) {
+	}
 }
@@ -0,0 +1,359 @@
+package store.buzzbook.coupon.common.appender;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 전송할 로그 배치를 디스크에 보관하는 추가 전용 스풀 클래스입니다.
+ * <p>
+ * 스풀은 같은 크기의 세그먼트 파일을 메모리에 매핑해 두고, 배치를 [길이, CRC32, 내용] 형식의 레코드로 이어서 씁니다.
+ * 전송이 끝난 레코드의 위치는 오프셋 파일에 기록하므로, 재시작하면 기록된 위치 다음의 레코드부터 다시 읽습니다.
+ * 끝까지 읽은 세그먼트는 삭제하며, 세그먼트 수가 상한을 넘으면 가장 오래된 세그먼트를 읽지 않았더라도 버립니다.
+ * 쓰기와 읽기는 각각 하나의 스레드에서 호출하는 것을 전제로 하며, 두 스레드 사이는 락으로 보호합니다.
+ * </p>
+ */
+public class LogSpool implements AutoCloseable {
+
+	private static final String SEGMENT_PREFIX = "segment-";
+	private static final String SEGMENT_SUFFIX = ".spool";
+	private static final String OFFSET_FILE = "offset";
+	private static final String LOCK_FILE = "lock";
+	private static final int HEADER_SIZE = Integer.BYTES * 2;
+
+	private final Path directory;
+	private final int segmentSize;
+	private final int maxSegments;
+	private final Deque<Segment> segments = new ArrayDeque<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final FileChannel lockChannel;
+	private final FileLock fileLock;
+	private final MappedByteBuffer offsetBuffer;
+	private final AtomicLong droppedSegments = new AtomicLong();
+
+	private long nextSegmentId;
+	private int readPosition;
+	private long peekedSegmentId = -1;
+	private int peekedPosition = -1;
+	private boolean closed;
+
+	/**
+	 * 디렉터리의 스풀을 열고, 남아 있는 세그먼트와 오프셋을 복구합니다.
+	 *
+	 * @param directory 스풀 디렉터리
+	 * @param segmentSize 세그먼트 파일의 크기
+	 * @param maxSegments 보관할 최대 세그먼트 수
+	 * @throws IOException 파일을 열 수 없거나 다른 프로세스가 스풀을 사용 중인 경우
+	 */
+	public LogSpool(Path directory, int segmentSize, int maxSegments) throws IOException {
+		if (segmentSize <= HEADER_SIZE || maxSegments <= 0) {
+			throw new IllegalArgumentException("잘못된 로그 스풀 설정입니다.");
+		}
+
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.maxSegments = maxSegments;
+
+		Files.createDirectories(directory);
+		this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+			StandardOpenOption.WRITE);
+		this.fileLock = tryLock(lockChannel);
+		if (Objects.isNull(fileLock)) {
+			lockChannel.close();
+			throw new IOException("Log spool is already in use: " + directory);
+		}
+
+		try (FileChannel offsetChannel = FileChannel.open(directory.resolve(OFFSET_FILE), StandardOpenOption.CREATE,
+			StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			this.offsetBuffer = offsetChannel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES + Integer.BYTES);
+		}
+		recover();
+	}
+
+	/**
+	 * 레코드를 추가합니다. 현재 세그먼트에 자리가 없으면 새 세그먼트를 만듭니다.
+	 *
+	 * @param payload 레코드 내용
+	 * @return 추가했으면 true, 한 세그먼트보다 커서 추가할 수 없으면 false
+	 * @throws IOException 세그먼트를 만들 수 없거나 스풀이 닫힌 경우
+	 */
+	public boolean append(byte[] payload) throws IOException {
+		if (payload.length == 0 || HEADER_SIZE + payload.length > segmentSize) {
+			return false;
+		}
+
+		lock.lock();
+		try {
+			if (closed) {
+				throw new IOException("Log spool is closed: " + directory);
+			}
+
+			Segment tail = segments.peekLast();
+			if (Objects.isNull(tail) || tail.remaining() < HEADER_SIZE + payload.length) {
+				tail = roll();
+			}
+
+			CRC32 crc = new CRC32();
+			crc.update(payload);
+			int position = tail.writePosition;
+			tail.buffer.putInt(position + Integer.BYTES, (int)crc.getValue());
+			tail.buffer.put(position + HEADER_SIZE, payload);
+			tail.buffer.putInt(position, payload.length);
+			tail.writePosition = position + HEADER_SIZE + payload.length;
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 아직 전송하지 않은 가장 오래된 레코드를 읽습니다. 읽은 위치는 {@link #commit()} 을 호출해야 넘어갑니다.
+	 *
+	 * @return 레코드 내용, 읽을 레코드가 없으면 null
+	 */
+	public byte[] peek() {
+		lock.lock();
+		try {
+			Segment head = advanceHead();
+			if (Objects.isNull(head)) {
+				return null;
+			}
+
+			int length = head.buffer.getInt(readPosition);
+			byte[] payload = new byte[length];
+			head.buffer.get(readPosition + HEADER_SIZE, payload);
+			peekedSegmentId = head.id;
+			peekedPosition = readPosition;
+			return payload;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * {@link #peek()} 으로 읽은 레코드를 전송한 것으로 기록합니다.
+	 * 그 사이 스풀이 가득 차 읽던 세그먼트를 버렸다면, 새로 가장 오래된 레코드가 된 배치를 건너뛰지 않도록 아무것도 하지 않습니다.
+	 */
+	public void commit() {
+		lock.lock();
+		try {
+			Segment head = advanceHead();
+			boolean peekedHead = Objects.nonNull(head) && head.id == peekedSegmentId
+				&& readPosition == peekedPosition;
+			peekedSegmentId = -1;
+			peekedPosition = -1;
+			if (!peekedHead) {
+				return;
+			}
+
+			readPosition += HEADER_SIZE + head.buffer.getInt(readPosition);
+			offsetBuffer.putLong(0, head.id);
+			offsetBuffer.putInt(Long.BYTES, readPosition);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 보관 중인 세그먼트 수를 반환합니다.
+	 *
+	 * @return 세그먼트 수
+	 */
+	public int segmentCount() {
+		lock.lock();
+		try {
+			return segments.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 상한을 넘어 읽기 전에 버린 세그먼트 수를 반환합니다.
+	 *
+	 * @return 버린 세그먼트 수
+	 */
+	public long droppedSegments() {
+		return droppedSegments.get();
+	}
+
+	/**
+	 * 매핑한 내용을 디스크에 쓰고 스풀을 닫습니다.
+	 */
+	@Override
+	public void close() throws IOException {
+		lock.lock();
+		try {
+			if (closed) {
+				return;
+			}
+
+			closed = true;
+			for (Segment segment : segments) {
+				segment.buffer.force();
+			}
+			offsetBuffer.force();
+			segments.clear();
+			fileLock.release();
+			lockChannel.close();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 남아 있는 세그먼트를 매핑하고, 각 세그먼트에서 올바른 마지막 레코드의 끝을 쓰기 위치로 정합니다.
+	 * 오프셋 파일에 기록된 세그먼트보다 오래된 세그먼트는 이미 전송한 것이므로 삭제합니다.
+	 */
+	private void recover() throws IOException {
+		long committedSegment = offsetBuffer.getLong(0);
+		int committedPosition = offsetBuffer.getInt(Long.BYTES);
+
+		List<Path> files;
+		try (Stream<Path> stream = Files.list(directory)) {
+			files = stream.filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+				.sorted()
+				.toList();
+		}
+
+		for (Path file : files) {
+			long id = parseId(file);
+			if (id < committedSegment) {
+				Files.deleteIfExists(file);
+				continue;
+			}
+
+			Segment segment = map(id, file);
+			segment.writePosition = scan(segment.buffer);
+			segments.addLast(segment);
+		}
+
+		Segment head = segments.peekFirst();
+		readPosition = Objects.nonNull(head) && head.id == committedSegment
+			? Math.min(committedPosition, head.writePosition)
+			: 0;
+		nextSegmentId = segments.isEmpty() ? committedSegment + 1 : segments.getLast().id + 1;
+	}
+
+	/**
+	 * 길이가 0 이거나 세그먼트를 넘거나 CRC 가 맞지 않는 레코드를 만날 때까지 읽어 쓰기 위치를 구합니다.
+	 */
+	private int scan(MappedByteBuffer buffer) {
+		int position = 0;
+		while (position + HEADER_SIZE <= segmentSize) {
+			int length = buffer.getInt(position);
+			if (length <= 0 || position + HEADER_SIZE + length > segmentSize) {
+				break;
+			}
+
+			byte[] payload = new byte[length];
+			buffer.get(position + HEADER_SIZE, payload);
+			CRC32 crc = new CRC32();
+			crc.update(payload);
+			if ((int)crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+				break;
+			}
+			position += HEADER_SIZE + length;
+		}
+		return position;
+	}
+
+	/**
+	 * 새 세그먼트를 만들고, 세그먼트 수가 상한을 넘으면 가장 오래된 세그먼트를 버립니다.
+	 */
+	private Segment roll() throws IOException {
+		Segment tail = segments.peekLast();
+		if (Objects.nonNull(tail)) {
+			tail.buffer.force();
+		}
+
+		long id = nextSegmentId++;
+		Segment segment = map(id, directory.resolve(SEGMENT_PREFIX + "%020d".formatted(id) + SEGMENT_SUFFIX));
+		segments.addLast(segment);
+		while (segments.size() > maxSegments) {
+			delete(segments.removeFirst());
+			readPosition = 0;
+			droppedSegments.incrementAndGet();
+		}
+		return segment;
+	}
+
+	/**
+	 * 끝까지 읽은 세그먼트를 삭제하고, 읽을 레코드가 남은 가장 오래된 세그먼트를 반환합니다.
+	 */
+	private Segment advanceHead() {
+		Segment head = segments.peekFirst();
+		while (Objects.nonNull(head) && readPosition >= head.writePosition && head != segments.peekLast()) {
+			delete(segments.removeFirst());
+			readPosition = 0;
+			head = segments.peekFirst();
+		}
+
+		if (Objects.isNull(head) || readPosition >= head.writePosition) {
+			return null;
+		}
+		return head;
+	}
+
+	/**
+	 * 다른 프로세스나 같은 프로세스의 다른 스풀이 디렉터리를 사용 중이면 null 을 반환합니다.
+	 */
+	private static FileLock tryLock(FileChannel channel) throws IOException {
+		try {
+			return channel.tryLock();
+		} catch (OverlappingFileLockException e) {
+			return null;
+		}
+	}
+
+	private Segment map(long id, Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+			StandardOpenOption.WRITE)) {
+			return new Segment(id, file, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+		}
+	}
+
+	private void delete(Segment segment) {
+		try {
+			Files.deleteIfExists(segment.file);
+		} catch (IOException e) {
+			// 삭제하지 못한 세그먼트는 다음 복구 시 오프셋보다 오래된 세그먼트로 삭제됨
+		}
+	}
+
+	private long parseId(Path file) {
+		String fileName = file.getFileName().toString();
+		return Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+	}
+
+	private static final class Segment {
+
+		private final long id;
+		private final Path file;
+		private final MappedByteBuffer buffer;
+		private int writePosition;
+
+		private Segment(long id, Path file, MappedByteBuffer buffer) {
+			this.id = id;
+			this.file = file;
+			this.buffer = buffer;
+		}
+
+		private int remaining() {
+			return buffer.capacity() - writePosition;
+		}
+	}
+}
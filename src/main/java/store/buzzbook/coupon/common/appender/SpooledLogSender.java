@@ -0,0 +1,230 @@
+package store.buzzbook.coupon.common.appender;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ch.qos.logback.core.spi.ContextAwareBase;
+import feign.FeignException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import store.buzzbook.coupon.adapter.LogNCrashAdapter;
+import store.buzzbook.coupon.dto.log.LogNCrashRequest;
+
+/**
+ * 로그 배치를 {@link LogSpool} 에 보관했다가 LogNCrash 로 전송하는 클래스입니다.
+ * <p>
+ * 배치는 JSON 으로 직렬화하고 gzip 으로 압축해 스풀에 씁니다.
+ * 전송 스레드는 스풀의 가장 오래된 배치부터 보내고, 보낸 뒤에만 스풀의 읽기 위치를 넘기므로
+ * 전송에 실패하거나 애플리케이션이 재시작되어도 배치를 잃지 않습니다.
+ * 전송에 실패하면 대기 시간을 두 배씩 늘려 최대 대기 시간까지 재시도하며, 재시도해도 성공할 수 없는 4xx 응답을 받은 배치는 버립니다.
+ * </p>
+ */
+public class SpooledLogSender extends ContextAwareBase implements MeterBinder {
+
+	private static final String SENDER_NAME = "logncrash-sender";
+	private static final long STOP_TIMEOUT_MILLIS = 5000;
+
+	private final LogSpool logSpool;
+	private final LogNCrashAdapter logNCrashAdapter;
+	private final ObjectMapper objectMapper;
+	private final Backoff backoff;
+	private final boolean compressRequests;
+
+	private final AtomicLong sentBatches = new AtomicLong();
+	private final AtomicLong retries = new AtomicLong();
+	private final AtomicLong rejectedBatches = new AtomicLong();
+
+	private volatile boolean running;
+	private volatile Thread sender;
+
+	/**
+	 * @param logSpool 배치를 보관할 스풀
+	 * @param logNCrashAdapter 전송에 사용할 어댑터
+	 * @param objectMapper 배치를 직렬화할 매퍼
+	 * @param backoff 재시도 대기 시간 설정
+	 * @param compressRequests 압축한 배치를 그대로 보내면 true, 압축을 풀어 보내면 false
+	 */
+	public SpooledLogSender(LogSpool logSpool, LogNCrashAdapter logNCrashAdapter, ObjectMapper objectMapper,
+		Backoff backoff, boolean compressRequests) {
+		this.logSpool = logSpool;
+		this.logNCrashAdapter = logNCrashAdapter;
+		this.objectMapper = objectMapper;
+		this.backoff = backoff;
+		this.compressRequests = compressRequests;
+	}
+
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+
+		running = true;
+		sender = new Thread(this::send, SENDER_NAME);
+		sender.setDaemon(true);
+		sender.start();
+	}
+
+	/**
+	 * 전송 스레드를 멈추고 스풀을 닫습니다. 보내지 못한 배치는 스풀에 남아 다음 시작 시 전송됩니다.
+	 */
+	public synchronized void stop() {
+		if (!running) {
+			return;
+		}
+
+		running = false;
+		LockSupport.unpark(sender);
+		try {
+			sender.join(STOP_TIMEOUT_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		try {
+			logSpool.close();
+		} catch (IOException e) {
+			addWarn("Failed to close log spool", e);
+		}
+	}
+
+	/**
+	 * 배치를 압축해 스풀에 씁니다.
+	 *
+	 * @param batch 로그 배치
+	 * @return 썼으면 true, 직렬화나 쓰기에 실패했거나 배치가 세그먼트보다 크면 false
+	 */
+	public boolean spool(List<LogNCrashRequest> batch) {
+		try {
+			boolean appended = logSpool.append(compress(objectMapper.writeValueAsBytes(batch)));
+			LockSupport.unpark(sender);
+			return appended;
+		} catch (IOException e) {
+			addWarn("Failed to spool " + batch.size() + " logs", e);
+			return false;
+		}
+	}
+
+	/**
+	 * 스풀의 배치를 순서대로 전송합니다. 보낼 배치가 없으면 초기 대기 시간만큼 기다립니다.
+	 */
+	private void send() {
+		long delayNanos = backoff.initial().toNanos();
+		while (running) {
+			byte[] payload = logSpool.peek();
+			if (Objects.isNull(payload)) {
+				LockSupport.parkNanos(this, backoff.initial().toNanos());
+				continue;
+			}
+
+			LogNCrashAppender.SENDING.set(true);
+			try {
+				if (compressRequests) {
+					logNCrashAdapter.sendCompressedLogs(payload);
+				} else {
+					logNCrashAdapter.sendRawLogs(decompress(payload));
+				}
+				sentBatches.incrementAndGet();
+			} catch (FeignException e) {
+				if (!isRetryable(e)) {
+					rejectedBatches.incrementAndGet();
+					addWarn("LogNCrash rejected a log batch with status " + e.status(), e);
+				} else {
+					delayNanos = retryAfter(delayNanos, e);
+					continue;
+				}
+			} catch (UncheckedIOException e) {
+				rejectedBatches.incrementAndGet();
+				addWarn("Dropped a corrupted log batch from the spool", e);
+			} catch (RuntimeException e) {
+				delayNanos = retryAfter(delayNanos, e);
+				continue;
+			} finally {
+				LogNCrashAppender.SENDING.set(false);
+			}
+
+			logSpool.commit();
+			delayNanos = backoff.initial().toNanos();
+		}
+	}
+
+	private long retryAfter(long delayNanos, RuntimeException e) {
+		retries.incrementAndGet();
+		addWarn("Failed to send log batch, retrying in " + TimeUnit.NANOSECONDS.toMillis(delayNanos) + " ms", e);
+		LockSupport.parkNanos(this, delayNanos);
+		return Math.min(delayNanos * 2, backoff.max().toNanos());
+	}
+
+	/**
+	 * 연결 실패와 5xx, 408, 429 응답은 재시도하고, 나머지 4xx 응답은 재시도하지 않습니다.
+	 */
+	private boolean isRetryable(FeignException e) {
+		int status = e.status();
+		return status < 400 || status >= 500 || status == 408 || status == 429;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("logncrash.spool.segments", logSpool, LogSpool::segmentCount)
+			.description("Spool segment files holding log batches")
+			.register(registry);
+		FunctionCounter.builder("logncrash.spool.segments.dropped", logSpool, LogSpool::droppedSegments)
+			.description("Spool segments dropped before they were sent because the spool was full")
+			.register(registry);
+		FunctionCounter.builder("logncrash.spool.batches.sent", sentBatches, AtomicLong::get)
+			.description("Log batches sent from the spool")
+			.register(registry);
+		FunctionCounter.builder("logncrash.spool.batches.rejected", rejectedBatches, AtomicLong::get)
+			.description("Log batches dropped because LogNCrash rejected them")
+			.register(registry);
+		FunctionCounter.builder("logncrash.spool.retries", retries, AtomicLong::get)
+			.description("Failed attempts to send a spooled log batch")
+			.register(registry);
+	}
+
+	private byte[] compress(byte[] json) throws IOException {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+		try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+			gzip.write(json);
+		}
+		return compressed.toByteArray();
+	}
+
+	private byte[] decompress(byte[] payload) {
+		try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+			return gzip.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 전송 재시도 대기 시간 설정입니다.
+	 *
+	 * @param initial 첫 재시도까지의 대기 시간, 보낼 배치가 없을 때 스풀을 다시 확인하는 주기로도 사용
+	 * @param max 최대 대기 시간
+	 */
+	public record Backoff(Duration initial, Duration max) {
+
+		public Backoff {
+			if (initial.isNegative() || initial.isZero() || max.compareTo(initial) < 0) {
+				throw new IllegalArgumentException("잘못된 로그 전송 재시도 설정입니다.");
+			}
+		}
+	}
+}
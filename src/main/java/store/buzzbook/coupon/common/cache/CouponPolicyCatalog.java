@@ -0,0 +1,276 @@
+package store.buzzbook.coupon.common.cache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.coupon.common.constant.CouponScope;
+import store.buzzbook.coupon.common.discount.DiscountRule;
+import store.buzzbook.coupon.common.utils.IntObjectMap;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyResponse;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTarget;
+import store.buzzbook.coupon.repository.CategoryCouponRepository;
+import store.buzzbook.coupon.repository.SpecificCouponRepository;
+import store.buzzbook.coupon.repository.couponpolicy.CouponPolicyRepository;
+
+/**
+ * 삭제되지 않은 쿠폰 정책을 메모리에 보관하는 카탈로그 클래스입니다.
+ * <p>
+ * 쿠폰 범위별로 오늘 다운로드 가능한 쿠폰 정책을 미리 계산해 두고, 날짜가 바뀌면 보관 중인 정책의 시작일과 종료일로 다시 계산합니다.
+ * 책 ID와 카테고리 ID에서 쿠폰 정책 ID로의 역색인과, 쿠폰 정책 ID별 {@link DiscountRule} 을 {@link IntObjectMap} 으로 함께 보관합니다.
+ * 쿠폰 정책이 생성, 수정, 삭제되면 트랜잭션 커밋 이후 무효화되어 다음 조회 시 다시 적재됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponPolicyCatalog {
+
+	private static final String BIRTHDAY_KEYWORD = "생일";
+
+	private final CouponPolicyRepository couponPolicyRepository;
+	private final SpecificCouponRepository specificCouponRepository;
+	private final CategoryCouponRepository categoryCouponRepository;
+	private final AtomicLong generation = new AtomicLong();
+	private final ReentrantLock refreshLock = new ReentrantLock();
+
+	@Value("${coupon.policy-catalog.refresh-interval:PT5M}")
+	private Duration refreshInterval = Duration.ofMinutes(5);
+
+	private volatile Snapshot snapshot;
+
+	/**
+	 * 쿠폰 범위에 해당하는 오늘 다운로드 가능한 쿠폰 정책을 조회합니다.
+	 * <p>
+	 * 글로벌 범위의 경우 생일 쿠폰 정책은 제외됩니다.
+	 * </p>
+	 *
+	 * @param couponScope 쿠폰 범위
+	 * @return 쿠폰 범위에 해당하는 쿠폰 정책 응답 리스트
+	 */
+	public List<CouponPolicyResponse> getActivePolicies(CouponScope couponScope) {
+		return currentSnapshot().activePolicies().get(couponScope);
+	}
+
+	/**
+	 * 책에 적용되는 오늘 다운로드 가능한 쿠폰 정책을 조회합니다.
+	 *
+	 * @param bookId 책 ID
+	 * @return 책에 적용되는 쿠폰 정책 응답 리스트
+	 */
+	public List<CouponPolicyResponse> getBookPolicies(int bookId) {
+		Snapshot current = currentSnapshot();
+		return current.resolve(current.bookIndex().get(bookId));
+	}
+
+	/**
+	 * 카테고리에 적용되는 오늘 다운로드 가능한 쿠폰 정책을 조회합니다.
+	 *
+	 * @param categoryId 카테고리 ID
+	 * @return 카테고리에 적용되는 쿠폰 정책 응답 리스트
+	 */
+	public List<CouponPolicyResponse> getCategoryPolicies(int categoryId) {
+		Snapshot current = currentSnapshot();
+		return current.resolve(current.categoryIndex().get(categoryId));
+	}
+
+	/**
+	 * 쿠폰 정책의 할인 규칙을 조회합니다.
+	 * <p>
+	 * 적재할 때 변환해 둔 규칙을 반환하며, 카탈로그에 없는 쿠폰 정책(삭제된 정책 등)은 즉시 변환합니다.
+	 * </p>
+	 *
+	 * @param policy 쿠폰 정책 응답
+	 * @return 할인 규칙
+	 */
+	public DiscountRule getDiscountRule(CouponPolicyResponse policy) {
+		DiscountRule discountRule = currentSnapshot().discountRules().get(policy.id());
+		return Objects.nonNull(discountRule) ? discountRule : DiscountRule.from(policy);
+	}
+
+	/**
+	 * 카탈로그를 무효화합니다.
+	 * <p>
+	 * 진행 중인 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 무효화합니다.
+	 * </p>
+	 */
+	public void invalidate() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evict();
+				}
+			});
+			return;
+		}
+		evict();
+	}
+
+	private void evict() {
+		generation.incrementAndGet();
+		snapshot = null;
+	}
+
+	private Snapshot currentSnapshot() {
+		Snapshot current = snapshot;
+		LocalDate today = LocalDate.now();
+
+		if (Objects.nonNull(current) && current.isFresh(today, System.nanoTime())) {
+			return current;
+		}
+		return refresh(today);
+	}
+
+	/**
+	 * 카탈로그를 갱신합니다.
+	 * <p>
+	 * 날짜만 바뀐 경우 보관 중인 정책으로 다시 계산하고, 갱신 주기가 지났거나 무효화된 경우 데이터베이스에서 다시 적재합니다.
+	 * 적재 도중 무효화가 발생하면 적재한 결과는 공개하지 않습니다.
+	 * 적재하는 동안 데이터베이스를 기다리므로, 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 락을 사용합니다.
+	 * </p>
+	 */
+	private Snapshot refresh(LocalDate today) {
+		refreshLock.lock();
+		try {
+			long now = System.nanoTime();
+			long loadGeneration = generation.get();
+			Snapshot current = snapshot;
+
+			if (Objects.nonNull(current) && current.isFresh(today, now)) {
+				return current;
+			}
+
+			Snapshot refreshed;
+			if (Objects.nonNull(current) && now - current.expiresAt() < 0) {
+				refreshed = Snapshot.of(current.policies(), current.bookIndex(), current.categoryIndex(),
+					current.discountRules(), today, current.expiresAt());
+			} else {
+				List<CouponPolicyResponse> policies = couponPolicyRepository.findAllByDeleted(false).stream()
+					.map(CouponPolicyResponse::from)
+					.toList();
+				IntObjectMap<int[]> bookIndex = createIndex(specificCouponRepository.findAllTargets());
+				IntObjectMap<int[]> categoryIndex = createIndex(categoryCouponRepository.findAllTargets());
+				IntObjectMap<DiscountRule> discountRules = new IntObjectMap<>(policies.size());
+				policies.forEach(policy -> discountRules.put(policy.id(), DiscountRule.from(policy)));
+
+				refreshed = Snapshot.of(policies, bookIndex, categoryIndex, discountRules, today,
+					now + refreshInterval.toNanos());
+				log.debug("Loaded {} coupon policies, {} books, {} categories into catalog", policies.size(),
+					bookIndex.size(), categoryIndex.size());
+			}
+
+			if (generation.get() == loadGeneration) {
+				snapshot = refreshed;
+			}
+			return refreshed;
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	/**
+	 * 대상 ID에서 쿠폰 정책 ID 배열로의 역색인을 생성합니다.
+	 *
+	 * @param targets 대상 ID와 쿠폰 정책 ID 리스트
+	 * @return 대상 ID별 쿠폰 정책 ID 배열
+	 */
+	private static IntObjectMap<int[]> createIndex(List<CouponPolicyTarget> targets) {
+		IntObjectMap<int[]> index = new IntObjectMap<>(targets.size());
+
+		for (CouponPolicyTarget target : targets) {
+			int[] policyIds = index.get(target.targetId());
+			if (Objects.isNull(policyIds)) {
+				index.put(target.targetId(), new int[] {target.couponPolicyId()});
+			} else {
+				int[] appended = Arrays.copyOf(policyIds, policyIds.length + 1);
+				appended[policyIds.length] = target.couponPolicyId();
+				index.put(target.targetId(), appended);
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * 특정 날짜 기준으로 계산된 카탈로그 스냅샷입니다.
+	 *
+	 * @param policies 삭제되지 않은 모든 쿠폰 정책
+	 * @param bookIndex 책 ID별 쿠폰 정책 ID 배열
+	 * @param categoryIndex 카테고리 ID별 쿠폰 정책 ID 배열
+	 * @param discountRules 쿠폰 정책 ID별 할인 규칙
+	 * @param today 기준 날짜
+	 * @param expiresAt 데이터베이스에서 다시 적재해야 하는 시각 (nano time)
+	 * @param activePolicies 쿠폰 범위별 다운로드 가능한 쿠폰 정책
+	 * @param activePoliciesById 쿠폰 정책 ID별 다운로드 가능한 쿠폰 정책
+	 */
+	private record Snapshot(
+		List<CouponPolicyResponse> policies,
+		IntObjectMap<int[]> bookIndex,
+		IntObjectMap<int[]> categoryIndex,
+		IntObjectMap<DiscountRule> discountRules,
+		LocalDate today,
+		long expiresAt,
+		Map<CouponScope, List<CouponPolicyResponse>> activePolicies,
+		IntObjectMap<CouponPolicyResponse> activePoliciesById
+	) {
+		static Snapshot of(List<CouponPolicyResponse> policies, IntObjectMap<int[]> bookIndex,
+			IntObjectMap<int[]> categoryIndex, IntObjectMap<DiscountRule> discountRules, LocalDate today,
+			long expiresAt) {
+			Map<CouponScope, List<CouponPolicyResponse>> activePolicies = new EnumMap<>(CouponScope.class);
+			for (CouponScope couponScope : CouponScope.values()) {
+				activePolicies.put(couponScope, new ArrayList<>());
+			}
+			IntObjectMap<CouponPolicyResponse> activePoliciesById = new IntObjectMap<>(policies.size());
+
+			for (CouponPolicyResponse policy : policies) {
+				CouponScope couponScope = CouponScope.fromString(policy.couponTypeResponse().name());
+				boolean active = policy.startDate().isBefore(today) && policy.endDate().isAfter(today);
+				boolean birthday = couponScope == CouponScope.GLOBAL && policy.name().contains(BIRTHDAY_KEYWORD);
+
+				if (active) {
+					activePoliciesById.put(policy.id(), policy);
+				}
+				if (active && !birthday) {
+					activePolicies.get(couponScope).add(policy);
+				}
+			}
+
+			activePolicies.replaceAll((couponScope, scopePolicies) -> List.copyOf(scopePolicies));
+			return new Snapshot(policies, bookIndex, categoryIndex, discountRules, today, expiresAt, activePolicies,
+				activePoliciesById);
+		}
+
+		List<CouponPolicyResponse> resolve(int[] policyIds) {
+			if (Objects.isNull(policyIds)) {
+				return List.of();
+			}
+
+			List<CouponPolicyResponse> resolved = new ArrayList<>(policyIds.length);
+			for (int policyId : policyIds) {
+				CouponPolicyResponse policy = activePoliciesById.get(policyId);
+				if (Objects.nonNull(policy)) {
+					resolved.add(policy);
+				}
+			}
+			return resolved;
+		}
+
+		boolean isFresh(LocalDate date, long now) {
+			return today.equals(date) && now - expiresAt < 0;
+		}
+	}
+}
@@ -1,15 +1,25 @@
 package store.buzzbook.coupon.common.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 import javax.sql.DataSource;
 
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.coupon.common.datasource.InstrumentedDataSource;
+import store.buzzbook.coupon.common.datasource.InstrumentedDataSource.AdaptiveSizing;
+import store.buzzbook.coupon.common.datasource.ReplicaRoutingDataSource;
 
 @Slf4j
 @Getter
@@ -18,6 +28,11 @@ import lombok.extern.slf4j.Slf4j;
 @ConfigurationProperties(prefix = "spring.datasource")
 public class DataSourceConfig {
 
+	/**
+	 * ID 시퀀스 할당에만 사용하는 데이터 소스의 빈 이름입니다.
+	 */
+	public static final String ID_SEQUENCE_DATA_SOURCE = "idSequenceDataSource";
+
 	private String driverClassName;
 	private String url;
 	private String username;
@@ -27,8 +42,77 @@ public class DataSourceConfig {
 	private Integer initialSize;
 	private Integer minIdle;
 
+	/**
+	 * 커넥션을 빌릴 때 기다리는 최대 시간입니다. 풀이 고갈되면 무한정 기다리지 않고 예외를 발생시킵니다.
+	 */
+	private Duration maxWait = Duration.ofSeconds(3);
+
+	/**
+	 * ID 시퀀스 할당용 데이터 소스의 최대 커넥션 수입니다.
+	 */
+	private int idSequenceMaxTotal = 2;
+
+	/**
+	 * 읽기 전용 트랜잭션에 사용할 복제본 목록입니다. 비어 있으면 모든 트랜잭션이 주 데이터 소스를 사용합니다.
+	 */
+	private List<Replica> replicas = new ArrayList<>();
+	private Duration replicaHealthCheckInterval = Duration.ofSeconds(10);
+
+	/**
+	 * 대기 시간에 따른 커넥션 풀 크기 조정 설정입니다. 주 데이터 소스와 복제본 풀에 각각 적용됩니다.
+	 */
+	private Adaptive adaptive = new Adaptive();
+
 	@Bean
+	@Primary
 	public DataSource dataSource() {
+		DataSource primary = createDataSource("primary", url, username, password, maxTotal, maxIdle, initialSize,
+			minIdle, adaptive.isEnabled());
+		if (replicas.isEmpty()) {
+			return primary;
+		}
+
+		List<DataSource> replicaDataSources = new ArrayList<>(replicas.size());
+		for (int i = 0; i < replicas.size(); i++) {
+			Replica replica = replicas.get(i);
+			replicaDataSources.add(createDataSource("replica-" + i, replica.getUrl(),
+				Objects.requireNonNullElse(replica.getUsername(), username),
+				Objects.requireNonNullElse(replica.getPassword(), password),
+				Objects.requireNonNullElse(replica.getMaxTotal(), maxTotal),
+				Objects.requireNonNullElse(replica.getMaxIdle(), maxIdle),
+				Objects.requireNonNullElse(replica.getInitialSize(), initialSize),
+				Objects.requireNonNullElse(replica.getMinIdle(), minIdle), adaptive.isEnabled()));
+		}
+
+		log.info("Routing read-only transactions to {} replicas", replicaDataSources.size());
+		return new ReplicaRoutingDataSource(primary, replicaDataSources, replicaHealthCheckInterval);
+	}
+
+	/**
+	 * ID 시퀀스 테이블의 블록 할당에만 사용하는 작은 데이터 소스를 생성합니다.
+	 * <p>
+	 * 블록 할당은 호출한 트랜잭션과 분리해 바로 커밋해야 하므로 커넥션을 하나 더 사용합니다.
+	 * 주 데이터 소스의 커넥션을 쥔 트랜잭션들이 남은 커넥션을 두고 서로 기다리지 않도록 별도의 풀에서 빌립니다.
+	 * </p>
+	 *
+	 * @return ID 시퀀스 할당용 데이터 소스
+	 */
+	@Bean(ID_SEQUENCE_DATA_SOURCE)
+	public InstrumentedDataSource idSequenceDataSource() {
+		return createDataSource("id-sequence", url, username, password, idSequenceMaxTotal, idSequenceMaxTotal, 0, 0,
+			false);
+	}
+
+	@Bean
+	public MeterBinder dataSourceMetrics(DataSource dataSource) {
+		return dataSource instanceof MeterBinder meterBinder
+			? meterBinder
+			: registry -> {
+			};
+	}
+
+	private InstrumentedDataSource createDataSource(String poolName, String url, String username, String password,
+		Integer maxTotal, Integer maxIdle, Integer initialSize, Integer minIdle, boolean adaptiveSizingEnabled) {
 		BasicDataSource basicDataSource = new BasicDataSource();
 
 		basicDataSource.setDriverClassName(driverClassName);
@@ -39,13 +123,49 @@ public class DataSourceConfig {
 		basicDataSource.setMaxTotal(maxTotal);
 		basicDataSource.setInitialSize(initialSize);
 		basicDataSource.setMinIdle(minIdle);
+		basicDataSource.setMaxWait(maxWait);
 
 		basicDataSource.setValidationQuery("SELECT 1");
 		basicDataSource.setTestOnReturn(false);
 		basicDataSource.setTestOnBorrow(false);
 		basicDataSource.setTestWhileIdle(false);
 
-		return basicDataSource;
+		AdaptiveSizing adaptiveSizing = adaptiveSizingEnabled
+			? new AdaptiveSizing(Objects.requireNonNullElse(adaptive.getMinTotal(), maxTotal),
+			Objects.requireNonNullElse(adaptive.getMaxTotal(), maxTotal * 4), adaptive.getTargetWait(),
+			adaptive.getInterval())
+			: null;
+
+		return new InstrumentedDataSource(poolName, basicDataSource, adaptiveSizing);
 	}
 
+	/**
+	 * 복제본 데이터 소스 설정입니다. 값이 없는 항목은 주 데이터 소스의 설정을 사용합니다.
+	 */
+	@Getter
+	@Setter
+	public static class Replica {
+
+		private String url;
+		private String username;
+		private String password;
+		private Integer maxIdle;
+		private Integer maxTotal;
+		private Integer initialSize;
+		private Integer minIdle;
+	}
+
+	/**
+	 * 커넥션 풀 크기 조정 설정입니다. 최대 커넥션 수의 하한과 상한이 없으면 풀의 최대 커넥션 수와 그 4배를 사용합니다.
+	 */
+	@Getter
+	@Setter
+	public static class Adaptive {
+
+		private boolean enabled;
+		private Integer minTotal;
+		private Integer maxTotal;
+		private Duration targetWait = Duration.ofMillis(50);
+		private Duration interval = Duration.ofSeconds(10);
+	}
 }
@@ -3,27 +3,45 @@ package store.buzzbook.coupon.common.config;
 import static ch.qos.logback.classic.Level.*;
 import static java.io.File.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import ch.qos.logback.classic.AsyncAppender;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
 import ch.qos.logback.classic.filter.LevelFilter;
 import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.ConsoleAppender;
 import ch.qos.logback.core.rolling.RollingFileAppender;
 import ch.qos.logback.core.rolling.RollingPolicy;
 import ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy;
 import ch.qos.logback.core.spi.FilterReply;
+import ch.qos.logback.core.status.WarnStatus;
 import ch.qos.logback.core.util.FileSize;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import store.buzzbook.coupon.adapter.LogNCrashAdapter;
+import store.buzzbook.coupon.common.appender.DebugSamplingFilter;
 import store.buzzbook.coupon.common.appender.LogNCrashAppender;
+import store.buzzbook.coupon.common.appender.LogNCrashAppender.Batching;
+import store.buzzbook.coupon.common.appender.LogNCrashAppender.OverflowPolicy;
+import store.buzzbook.coupon.common.appender.LogSpool;
+import store.buzzbook.coupon.common.appender.SpooledLogSender;
+import store.buzzbook.coupon.common.appender.SpooledLogSender.Backoff;
 
 @Configuration
 @RequiredArgsConstructor
@@ -56,7 +74,59 @@ public class LogBackConfig {
 	@Value("${logncrash.config.file-name}")
 	private String fileName;
 
+	@Value("${logncrash.config.async.enabled:true}")
+	private boolean asyncEnabled;
+
+	@Value("${logncrash.config.async.queue-size:1024}")
+	private int asyncQueueSize;
+
+	@Value("${logncrash.config.async.discarding-threshold:204}")
+	private int asyncDiscardingThreshold;
+
+	@Value("${logncrash.config.async.never-block:true}")
+	private boolean asyncNeverBlock;
+
+	@Value("${logncrash.config.async.max-flush-time:1s}")
+	private Duration asyncMaxFlushTime;
+
+	@Value("${logncrash.config.sampling.debug-per-second:0}")
+	private int debugPerSecond;
+
+	@Value("${logncrash.appender.queue-size:8192}")
+	private int queueSize;
+
+	@Value("${logncrash.appender.batch-size:100}")
+	private int batchSize;
+
+	@Value("${logncrash.appender.max-batch-age:2s}")
+	private Duration maxBatchAge;
+
+	@Value("${logncrash.appender.overflow-policy:DROP_BELOW_LEVEL}")
+	private OverflowPolicy overflowPolicy;
+
+	@Value("${logncrash.appender.discard-below:WARN}")
+	private String discardBelow;
+
+	@Value("${logncrash.spool.enabled:true}")
+	private boolean spoolEnabled;
+
+	@Value("${logncrash.spool.segment-size:8MB}")
+	private DataSize spoolSegmentSize;
+
+	@Value("${logncrash.spool.max-segments:16}")
+	private int spoolMaxSegments;
+
+	@Value("${logncrash.spool.initial-backoff:1s}")
+	private Duration spoolInitialBackoff;
+
+	@Value("${logncrash.spool.max-backoff:1m}")
+	private Duration spoolMaxBackoff;
+
+	@Value("${logncrash.spool.compress-requests:false}")
+	private boolean spoolCompressRequests;
+
 	private final LogNCrashAdapter logNCrashAdapter;
+	private final ObjectMapper objectMapper;
 
 	private final LoggerContext logCtx = (LoggerContext)LoggerFactory.getILoggerFactory();
 	private static final String LOG_PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-3level %logger{5} - %msg %n";
@@ -64,21 +134,44 @@ public class LogBackConfig {
 	private static final String EXT = ".log";
 	private static final String MAX_FILE_SIZE = "10MB";
 	private static final int MAX_HISTORY = 30;
+	private static final String SPOOL_DIRECTORY = "spool";
+	private static final String SAMPLING_FILTER_NAME = "DEBUG_SAMPLING";
 
-	private ConsoleAppender<ILoggingEvent> consoleAppender;
-	private RollingFileAppender<ILoggingEvent> fileAppender;
-	private RollingFileAppender<ILoggingEvent> filterAppender;
-	private AppenderBase<ILoggingEvent> logNCrashAppender;
+	private Appender<ILoggingEvent> consoleAppender;
+	private Appender<ILoggingEvent> fileAppender;
+	private Appender<ILoggingEvent> filterAppender;
+	private LogNCrashAppender logNCrashAppender;
+	private DebugSamplingFilter debugSamplingFilter;
 
 	@PostConstruct
 	public void logConfig() {
-		consoleAppender = getLogConsoleAppender();
-		fileAppender = getLogFileAppender();
-		filterAppender = getFilterLogFileAppender();
+		debugSamplingFilter = getDebugSamplingFilter();
+		consoleAppender = wrapAsync(getLogConsoleAppender());
+		fileAppender = wrapAsync(getLogFileAppender());
+		filterAppender = wrapAsync(getFilterLogFileAppender());
 		logNCrashAppender = getLogNCrashAppender();
 		createLoggers();
 	}
 
+	// 종료 시 비동기 어펜더와 LogNCrash 전송 큐에 남은 로그 처리
+	@PreDestroy
+	public void stopAppenders() {
+		consoleAppender.stop();
+		fileAppender.stop();
+		filterAppender.stop();
+		logNCrashAppender.stop();
+	}
+
+	@Bean
+	public MeterBinder logNCrashMetrics() {
+		return logNCrashAppender;
+	}
+
+	@Bean
+	public DebugSamplingFilter debugSamplingFilter() {
+		return debugSamplingFilter;
+	}
+
 	private void createLoggers() {
 		// 로거 이름, 로깅 레벨, 상위 로깅 설정 상속 여부
 		createLogger("root", INFO, true);
@@ -105,12 +198,67 @@ public class LogBackConfig {
 	}
 
 	private LogNCrashAppender getLogNCrashAppender() {
+		Batching batching = new Batching(queueSize, batchSize, maxBatchAge, overflowPolicy,
+			Level.toLevel(discardBelow, WARN));
 		LogNCrashAppender newLogNCrashAppender = new LogNCrashAppender(version, host, platform, logVersion, logSource,
-			logType, appKey, logNCrashAdapter);
+			logType, appKey, logNCrashAdapter, batching, getSpooledLogSender());
+		newLogNCrashAppender.setName("LOGNCRASH");
+		newLogNCrashAppender.setContext(logCtx);
 		newLogNCrashAppender.start();
 		return newLogNCrashAppender;
 	}
 
+	// 디스크 스풀을 거쳐 전송하는 LogNCrash 전송기 생성, 스풀을 열 수 없으면 직접 전송
+	private SpooledLogSender getSpooledLogSender() {
+		if (!spoolEnabled) {
+			return null;
+		}
+
+		Path spoolDirectory = Path.of(filePath, SPOOL_DIRECTORY);
+		try {
+			LogSpool logSpool = new LogSpool(spoolDirectory, (int)spoolSegmentSize.toBytes(), spoolMaxSegments);
+			SpooledLogSender spooledLogSender = new SpooledLogSender(logSpool, logNCrashAdapter, objectMapper,
+				new Backoff(spoolInitialBackoff, spoolMaxBackoff), spoolCompressRequests);
+			spooledLogSender.setContext(logCtx);
+			return spooledLogSender;
+		} catch (IOException e) {
+			logCtx.getStatusManager().add(new WarnStatus("Failed to open log spool " + spoolDirectory, this, e));
+			return null;
+		}
+	}
+
+	// 로거마다 초당 DEBUG 로그 수 제한, 재설정 시 이전 필터를 교체
+	private DebugSamplingFilter getDebugSamplingFilter() {
+		DebugSamplingFilter newDebugSamplingFilter = new DebugSamplingFilter(debugPerSecond);
+		newDebugSamplingFilter.setName(SAMPLING_FILTER_NAME);
+		newDebugSamplingFilter.setContext(logCtx);
+		newDebugSamplingFilter.start();
+
+		logCtx.getTurboFilterList().removeIf(filter -> SAMPLING_FILTER_NAME.equals(filter.getName()));
+		logCtx.addTurboFilter(newDebugSamplingFilter);
+		return newDebugSamplingFilter;
+	}
+
+	// 호출 스레드에서 큐에 넣기만 하도록 비동기 어펜더로 감쌈, 감싼 어펜더의 필터는 큐에 넣기 전에 적용
+	private Appender<ILoggingEvent> wrapAsync(Appender<ILoggingEvent> appender) {
+		if (!asyncEnabled) {
+			return appender;
+		}
+
+		AsyncAppender asyncAppender = new AsyncAppender();
+		asyncAppender.setName("ASYNC_" + appender.getName());
+		asyncAppender.setContext(logCtx);
+		asyncAppender.setQueueSize(asyncQueueSize);
+		asyncAppender.setDiscardingThreshold(asyncDiscardingThreshold);
+		asyncAppender.setNeverBlock(asyncNeverBlock);
+		asyncAppender.setIncludeCallerData(false);
+		asyncAppender.setMaxFlushTime((int)asyncMaxFlushTime.toMillis());
+		appender.getCopyOfAttachedFiltersList().forEach(asyncAppender::addFilter);
+		asyncAppender.addAppender(appender);
+		asyncAppender.start();
+		return asyncAppender;
+	}
+
 	// 콘솔 로그 어펜더 생성
 	private ConsoleAppender<ILoggingEvent> getLogConsoleAppender() {
 		PatternLayoutEncoder consoleLogEncoder = createLogEncoder();
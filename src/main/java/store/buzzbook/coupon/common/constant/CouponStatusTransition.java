@@ -0,0 +1,78 @@
+package store.buzzbook.coupon.common.constant;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 허용된 쿠폰 상태 전이를 나타내는 enum 클래스입니다.
+ * <p>
+ * 변경할 상태마다 전이 전 상태가 하나로 정해지므로, 변경할 상태만으로 조건부 UPDATE 의 기대 상태를 결정할 수 있습니다.
+ * </p>
+ */
+public enum CouponStatusTransition {
+
+	/**
+	 * 주문에 쿠폰을 사용합니다.
+	 */
+	REDEEM(CouponStatus.AVAILABLE, CouponStatus.USED),
+
+	/**
+	 * 주문 취소로 사용한 쿠폰을 되돌립니다.
+	 */
+	RESTORE(CouponStatus.USED, CouponStatus.AVAILABLE),
+
+	/**
+	 * 만료일이 지난 쿠폰을 만료합니다.
+	 */
+	EXPIRE(CouponStatus.AVAILABLE, CouponStatus.EXPIRED);
+
+	private static final Map<CouponStatus, CouponStatusTransition> BY_TARGET = new EnumMap<>(CouponStatus.class);
+
+	static {
+		for (CouponStatusTransition transition : values()) {
+			BY_TARGET.put(transition.target, transition);
+		}
+	}
+
+	private final CouponStatus source;
+	private final CouponStatus target;
+
+	CouponStatusTransition(CouponStatus source, CouponStatus target) {
+		this.source = source;
+		this.target = target;
+	}
+
+	/**
+	 * 변경할 상태에 해당하는 상태 전이를 반환합니다.
+	 *
+	 * @param target 변경할 쿠폰 상태
+	 * @return 변경할 상태에 해당하는 상태 전이
+	 * @throws IllegalArgumentException 변경할 상태가 null 이거나 허용된 전이가 없는 경우
+	 */
+	public static CouponStatusTransition to(CouponStatus target) {
+		CouponStatusTransition transition = Objects.isNull(target) ? null : BY_TARGET.get(target);
+		if (Objects.isNull(transition)) {
+			throw new IllegalArgumentException("허용되지 않은 쿠폰 상태 변경입니다.");
+		}
+		return transition;
+	}
+
+	/**
+	 * 전이 전 상태를 반환합니다.
+	 *
+	 * @return 전이 전 쿠폰 상태
+	 */
+	public CouponStatus source() {
+		return source;
+	}
+
+	/**
+	 * 전이 후 상태를 반환합니다.
+	 *
+	 * @return 전이 후 쿠폰 상태
+	 */
+	public CouponStatus target() {
+		return target;
+	}
+}
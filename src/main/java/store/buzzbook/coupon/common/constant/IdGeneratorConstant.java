@@ -0,0 +1,67 @@
+package store.buzzbook.coupon.common.constant;
+
+/**
+ * 엔티티 ID 생성과 관련된 상수를 포함하는 클래스입니다.
+ * <p>
+ * 엔티티의 ID는 ID 시퀀스 테이블에서 블록 단위로 할당받으며, 엔티티마다 시퀀스 테이블의 한 행을 사용합니다.
+ * 이 클래스는 인스턴스화할 수 없습니다.
+ * </p>
+ */
+public final class IdGeneratorConstant {
+
+	/**
+	 * ID 시퀀스 테이블의 이름을 나타내는 상수입니다.
+	 */
+	public static final String ID_SEQUENCE_TABLE = "id_sequence";
+
+	/**
+	 * ID 시퀀스 테이블에서 시퀀스 이름을 저장하는 컬럼의 이름을 나타내는 상수입니다.
+	 */
+	public static final String SEQUENCE_NAME_COLUMN = "sequence_name";
+
+	/**
+	 * ID 시퀀스 테이블에서 다음에 할당할 ID를 저장하는 컬럼의 이름을 나타내는 상수입니다.
+	 */
+	public static final String NEXT_VALUE_COLUMN = "next_val";
+
+	/**
+	 * 쿠폰 ID 시퀀스의 이름을 나타내는 상수입니다.
+	 */
+	public static final String COUPON_SEQUENCE = "coupon";
+
+	/**
+	 * 쿠폰 정책 ID 시퀀스의 이름을 나타내는 상수입니다.
+	 */
+	public static final String COUPON_POLICY_SEQUENCE = "coupon_policy";
+
+	/**
+	 * 특정 쿠폰 ID 시퀀스의 이름을 나타내는 상수입니다.
+	 */
+	public static final String SPECIFIC_COUPON_SEQUENCE = "specific_coupon";
+
+	/**
+	 * 카테고리 쿠폰 ID 시퀀스의 이름을 나타내는 상수입니다.
+	 */
+	public static final String CATEGORY_COUPON_SEQUENCE = "category_coupon";
+
+	/**
+	 * 쿠폰 코드 일련번호 시퀀스의 이름을 나타내는 상수입니다.
+	 */
+	public static final String COUPON_CODE_SEQUENCE = "coupon_code";
+
+	/**
+	 * 쿠폰 ID를 한 번에 할당받는 개수를 나타내는 상수입니다.
+	 */
+	public static final int COUPON_ALLOCATION_SIZE = 100;
+
+	/**
+	 * 쿠폰 정책과 쿠폰 정책 대상 ID를 한 번에 할당받는 개수를 나타내는 상수입니다.
+	 */
+	public static final int COUPON_POLICY_ALLOCATION_SIZE = 20;
+
+	/**
+	 * 인스턴스화를 방지하기 위한 생성자입니다.
+	 */
+	private IdGeneratorConstant() {
+	}
+}
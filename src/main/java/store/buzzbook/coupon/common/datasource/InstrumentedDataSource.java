@@ -0,0 +1,269 @@
+package store.buzzbook.coupon.common.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커넥션 풀의 사용 현황을 측정하고, 선택적으로 대기 시간에 따라 풀 크기를 조정하는 데이터 소스 클래스입니다.
+ * <p>
+ * 커넥션을 빌리는 데 걸린 시간과 빌린 커넥션을 닫을 때까지의 시간을 기록하고, 활성, 유휴, 대기 중인 커넥션 수를 메트릭으로 제공합니다.
+ * 크기 조정을 사용하면 주기마다 평균 대기 시간이 목표보다 길 때 최대 커넥션 수를 4분의 1씩 늘리고,
+ * 평균 대기 시간이 목표의 4분의 1보다 짧고 주기 중 최대 활성 커넥션 수가 절반 미만이면 하나씩 줄입니다.
+ * </p>
+ */
+@Slf4j
+public class InstrumentedDataSource extends DelegatingDataSource implements MeterBinder, AutoCloseable {
+
+	private final String name;
+	private final BasicDataSource pool;
+	private final AdaptiveSizing adaptiveSizing;
+	private final ScheduledExecutorService resizer;
+
+	private final AtomicInteger waiters = new AtomicInteger();
+	private final AtomicInteger peakActive = new AtomicInteger();
+	private final AtomicLong borrowsInWindow = new AtomicLong();
+	private final AtomicLong waitNanosInWindow = new AtomicLong();
+	private final AtomicLong borrowFailures = new AtomicLong();
+
+	private volatile Timer borrowTimer;
+	private volatile Timer holdTimer;
+	private volatile Counter resizeCounter;
+
+	/**
+	 * 커넥션 풀을 감싸는 데이터 소스를 생성하고, 크기 조정 설정이 있으면 크기 조정을 시작합니다.
+	 *
+	 * @param name 메트릭에 사용할 풀 이름
+	 * @param pool 감쌀 커넥션 풀
+	 * @param adaptiveSizing 크기 조정 설정, 크기를 조정하지 않으면 null
+	 */
+	public InstrumentedDataSource(String name, BasicDataSource pool, AdaptiveSizing adaptiveSizing) {
+		super(pool);
+		this.name = name;
+		this.pool = pool;
+		this.adaptiveSizing = adaptiveSizing;
+
+		if (Objects.isNull(adaptiveSizing)) {
+			this.resizer = null;
+			return;
+		}
+
+		pool.setMaxTotal(Math.clamp(pool.getMaxTotal(), adaptiveSizing.minTotal(), adaptiveSizing.maxTotal()));
+		this.resizer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "pool-resizer-" + name);
+			thread.setDaemon(true);
+			return thread;
+		});
+		long intervalMillis = adaptiveSizing.interval().toMillis();
+		resizer.scheduleWithFixedDelay(this::resize, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return borrow(null, null);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return borrow(username, password);
+	}
+
+	/**
+	 * 커넥션 풀의 현황과 커넥션 대기, 사용 시간을 메트릭으로 등록합니다.
+	 *
+	 * @param registry 메트릭 레지스트리
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("datasource.pool.active", pool, BasicDataSource::getNumActive)
+			.tag("pool", name)
+			.description("Connections currently borrowed from the pool")
+			.register(registry);
+		Gauge.builder("datasource.pool.idle", pool, BasicDataSource::getNumIdle)
+			.tag("pool", name)
+			.description("Idle connections in the pool")
+			.register(registry);
+		Gauge.builder("datasource.pool.max", pool, BasicDataSource::getMaxTotal)
+			.tag("pool", name)
+			.description("Maximum number of connections the pool may open")
+			.register(registry);
+		Gauge.builder("datasource.pool.waiters", waiters, AtomicInteger::get)
+			.tag("pool", name)
+			.description("Threads waiting to borrow a connection")
+			.register(registry);
+		FunctionCounter.builder("datasource.pool.borrow.failures", borrowFailures, AtomicLong::get)
+			.tag("pool", name)
+			.description("Connection borrows that failed or timed out")
+			.register(registry);
+
+		this.borrowTimer = Timer.builder("datasource.pool.borrow.wait")
+			.tag("pool", name)
+			.description("Time spent waiting to borrow a connection")
+			.publishPercentileHistogram()
+			.register(registry);
+		this.holdTimer = Timer.builder("datasource.pool.hold")
+			.tag("pool", name)
+			.description("Time a borrowed connection is held before it is returned")
+			.publishPercentileHistogram()
+			.register(registry);
+		this.resizeCounter = Counter.builder("datasource.pool.resized")
+			.tag("pool", name)
+			.description("Adaptive changes of the maximum pool size")
+			.register(registry);
+	}
+
+	/**
+	 * 크기 조정을 멈추고 커넥션 풀을 닫습니다.
+	 *
+	 * @throws SQLException 커넥션 풀을 닫지 못한 경우
+	 */
+	@Override
+	public void close() throws SQLException {
+		if (Objects.nonNull(resizer)) {
+			resizer.shutdownNow();
+		}
+		pool.close();
+	}
+
+	/**
+	 * 마지막 조정 이후의 평균 대기 시간과 최대 활성 커넥션 수로 최대 커넥션 수를 조정합니다.
+	 */
+	void resize() {
+		long borrows = borrowsInWindow.getAndSet(0);
+		long waitNanos = waitNanosInWindow.getAndSet(0);
+		int peak = peakActive.getAndSet(pool.getNumActive());
+		long averageWaitNanos = borrows == 0 ? 0 : waitNanos / borrows;
+		long targetWaitNanos = adaptiveSizing.targetWait().toNanos();
+
+		int maxTotal = pool.getMaxTotal();
+		int newMaxTotal = maxTotal;
+		if (averageWaitNanos > targetWaitNanos) {
+			newMaxTotal = Math.min(adaptiveSizing.maxTotal(), maxTotal + Math.max(1, maxTotal / 4));
+		} else if (averageWaitNanos < targetWaitNanos / 4 && peak < maxTotal / 2) {
+			newMaxTotal = Math.max(adaptiveSizing.minTotal(), maxTotal - 1);
+		}
+
+		if (newMaxTotal == maxTotal) {
+			return;
+		}
+
+		pool.setMaxTotal(newMaxTotal);
+		if (pool.getMaxIdle() > newMaxTotal) {
+			pool.setMaxIdle(newMaxTotal);
+		}
+		if (Objects.nonNull(resizeCounter)) {
+			resizeCounter.increment();
+		}
+		log.info("Resized connection pool {} from {} to {} (average wait {} us, peak active {})", name, maxTotal,
+			newMaxTotal, TimeUnit.NANOSECONDS.toMicros(averageWaitNanos), peak);
+	}
+
+	private Connection borrow(String username, String password) throws SQLException {
+		waiters.incrementAndGet();
+		long startTime = System.nanoTime();
+		Connection connection;
+		try {
+			connection = Objects.isNull(username) ? pool.getConnection() : pool.getConnection(username, password);
+		} catch (SQLException | RuntimeException e) {
+			borrowFailures.incrementAndGet();
+			throw e;
+		} finally {
+			waiters.decrementAndGet();
+		}
+
+		long borrowedAt = System.nanoTime();
+		long waitNanos = borrowedAt - startTime;
+		borrowsInWindow.incrementAndGet();
+		waitNanosInWindow.addAndGet(waitNanos);
+		peakActive.accumulateAndGet(pool.getNumActive(), Math::max);
+		if (Objects.nonNull(borrowTimer)) {
+			borrowTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+		}
+
+		return (Connection)Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+			new Class<?>[] {ConnectionProxy.class}, new HoldTimeRecorder(connection, borrowedAt));
+	}
+
+	/**
+	 * 빌린 커넥션을 닫을 때 사용 시간을 기록하는 커넥션 프록시 핸들러입니다.
+	 */
+	private final class HoldTimeRecorder implements InvocationHandler {
+
+		private final Connection target;
+		private final long borrowedAt;
+		private boolean closed;
+
+		private HoldTimeRecorder(Connection target, long borrowedAt) {
+			this.target = target;
+			this.borrowedAt = borrowedAt;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+				case "getTargetConnection":
+					return target;
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "close":
+					if (!closed) {
+						closed = true;
+						if (Objects.nonNull(holdTimer)) {
+							holdTimer.record(System.nanoTime() - borrowedAt, TimeUnit.NANOSECONDS);
+						}
+					}
+					break;
+				default:
+					break;
+			}
+
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+	}
+
+	/**
+	 * 풀 크기 조정 설정입니다.
+	 *
+	 * @param minTotal 최대 커넥션 수의 하한
+	 * @param maxTotal 최대 커넥션 수의 상한
+	 * @param targetWait 목표 평균 대기 시간
+	 * @param interval 조정 주기
+	 */
+	public record AdaptiveSizing(int minTotal, int maxTotal, Duration targetWait, Duration interval) {
+
+		public AdaptiveSizing {
+			if (minTotal <= 0 || maxTotal < minTotal || targetWait.isNegative() || interval.isNegative()
+				|| interval.isZero()) {
+				throw new IllegalArgumentException("잘못된 커넥션 풀 크기 조정 설정입니다.");
+			}
+		}
+	}
+}
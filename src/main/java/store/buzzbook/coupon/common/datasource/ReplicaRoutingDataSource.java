@@ -0,0 +1,261 @@
+package store.buzzbook.coupon.common.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 트랜잭션의 커넥션을 복제본 데이터 소스로 보내는 데이터 소스 클래스입니다.
+ * <p>
+ * {@link LazyConnectionDataSourceProxy} 로 실제 커넥션을 첫 번째 쿼리를 실행할 때 가져오므로,
+ * {@code @Transactional(readOnly = true)} 로 읽기 전용이 설정된 커넥션은 복제본에서, 나머지는 주 데이터 소스에서 가져옵니다.
+ * 복제본은 차례대로 돌아가며 사용하고, 주기적인 상태 확인이나 커넥션 획득에 실패한 복제본은 다시 확인에 성공할 때까지 제외합니다.
+ * 커넥션 풀이 고갈되어 기다리다 실패한 경우는 복제본의 장애가 아니므로, 이번 커넥션만 다른 곳에서 가져오고 복제본은 제외하지 않습니다.
+ * 사용할 수 있는 복제본이 없으면 읽기 전용 커넥션도 주 데이터 소스에서 가져옵니다.
+ * </p>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements MeterBinder, AutoCloseable {
+
+	private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+	private static final String CONNECTION_EXCEPTION_SQL_STATE_CLASS = "08";
+	private static final String VALIDATION_FAILURE_MESSAGE = "Unable to validate object";
+
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final AtomicInteger nextReplica = new AtomicInteger();
+	private final AtomicLong failovers = new AtomicLong();
+	private final ScheduledExecutorService healthChecker;
+
+	/**
+	 * 주 데이터 소스와 복제본 데이터 소스로 라우팅 데이터 소스를 생성하고 복제본 상태 확인을 시작합니다.
+	 *
+	 * @param primary 쓰기와 복제본 장애 시 읽기에 사용할 주 데이터 소스
+	 * @param replicas 읽기 전용 트랜잭션에 사용할 복제본 데이터 소스 리스트
+	 * @param healthCheckInterval 복제본 상태 확인 주기
+	 * @throws IllegalArgumentException 복제본이 없거나 상태 확인 주기가 0 이하인 경우
+	 */
+	public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration healthCheckInterval) {
+		super(primary);
+		if (replicas.isEmpty() || healthCheckInterval.isNegative() || healthCheckInterval.isZero()) {
+			throw new IllegalArgumentException("잘못된 복제본 데이터 소스 설정입니다.");
+		}
+
+		this.primary = primary;
+		this.replicas = replicas.stream().map(Replica::new).toList();
+		setReadOnlyDataSource(new ReadOnlyDataSource());
+
+		this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "replica-health-check");
+			thread.setDaemon(true);
+			return thread;
+		});
+		healthChecker.scheduleWithFixedDelay(this::checkReplicas, healthCheckInterval.toMillis(),
+			healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 복제본별 상태와 읽기 커넥션의 라우팅 결과를 메트릭으로 등록합니다.
+	 * <p>
+	 * 주 데이터 소스와 복제본 데이터 소스가 자체 메트릭을 제공하면 함께 등록합니다.
+	 * </p>
+	 *
+	 * @param registry 메트릭 레지스트리
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (primary instanceof MeterBinder meterBinder) {
+			meterBinder.bindTo(registry);
+		}
+
+		for (int i = 0; i < replicas.size(); i++) {
+			Replica replica = replicas.get(i);
+			String name = String.valueOf(i);
+			if (replica.dataSource instanceof MeterBinder meterBinder) {
+				meterBinder.bindTo(registry);
+			}
+
+			Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+				.tag("replica", name)
+				.description("Whether the replica is currently used for read-only transactions")
+				.register(registry);
+			FunctionCounter.builder("datasource.replica.reads", replica, r -> r.reads.get())
+				.tag("replica", name)
+				.description("Read-only connections served by the replica")
+				.register(registry);
+		}
+
+		FunctionCounter.builder("datasource.replica.failover", failovers, AtomicLong::get)
+			.description("Read-only connections sent to the primary because no replica was available")
+			.register(registry);
+	}
+
+	/**
+	 * 복제본 상태 확인을 멈추고 모든 데이터 소스를 닫습니다.
+	 *
+	 * @throws Exception 데이터 소스를 닫지 못한 경우
+	 */
+	@Override
+	public void close() throws Exception {
+		healthChecker.shutdownNow();
+		for (Replica replica : replicas) {
+			closeQuietly(replica.dataSource);
+		}
+		if (primary instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+
+	/**
+	 * 모든 복제본에서 커넥션을 가져와 유효한지 확인하고 상태를 갱신합니다.
+	 */
+	void checkReplicas() {
+		for (int i = 0; i < replicas.size(); i++) {
+			Replica replica = replicas.get(i);
+			boolean healthy;
+			try (Connection connection = replica.dataSource.getConnection()) {
+				healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+			} catch (SQLException e) {
+				if (!isReplicaFailure(e)) {
+					continue;
+				}
+				healthy = false;
+			}
+
+			if (healthy != replica.healthy) {
+				if (healthy) {
+					log.info("Replica {} is healthy again, routing read-only transactions to it", i);
+				} else {
+					log.warn("Replica {} failed its health check, routing read-only transactions elsewhere", i);
+				}
+				replica.healthy = healthy;
+			}
+		}
+	}
+
+	/**
+	 * 복제본이 읽기 전용 트랜잭션에 사용되고 있는지 확인합니다.
+	 *
+	 * @param index 복제본 순서
+	 * @return 사용되고 있으면 true
+	 */
+	boolean isReplicaHealthy(int index) {
+		return replicas.get(index).healthy;
+	}
+
+	/**
+	 * 커넥션을 가져오지 못한 원인이 복제본에 연결하지 못했거나 커넥션 검증에 실패한 것인지 확인합니다.
+	 * <p>
+	 * SQLState 가 08 로 시작하는 연결 오류와 커넥션 풀이 빌려줄 커넥션의 검증에 실패한 경우만 복제본의 장애로 봅니다.
+	 * 커넥션 풀이 고갈되어 최대 대기 시간을 넘긴 경우처럼 그 밖의 원인은 장애로 보지 않습니다.
+	 * </p>
+	 *
+	 * @param e 커넥션을 가져오다 발생한 예외
+	 * @return 복제본의 장애이면 true
+	 */
+	static boolean isReplicaFailure(SQLException e) {
+		for (Throwable cause = e; Objects.nonNull(cause); cause = cause.getCause()) {
+			if (cause instanceof SQLNonTransientConnectionException
+				|| cause instanceof SQLTransientConnectionException) {
+				return true;
+			}
+			if (cause instanceof SQLException sqlException && Objects.nonNull(sqlException.getSQLState())
+				&& sqlException.getSQLState().startsWith(CONNECTION_EXCEPTION_SQL_STATE_CLASS)) {
+				return true;
+			}
+			if (cause instanceof NoSuchElementException && Objects.nonNull(cause.getMessage())
+				&& cause.getMessage().startsWith(VALIDATION_FAILURE_MESSAGE)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void closeQuietly(DataSource dataSource) {
+		if (!(dataSource instanceof AutoCloseable closeable)) {
+			return;
+		}
+		try {
+			closeable.close();
+		} catch (Exception e) {
+			log.warn("Failed to close replica data source", e);
+		}
+	}
+
+	/**
+	 * 복제본 데이터 소스와 상태입니다.
+	 */
+	private static final class Replica {
+
+		private final DataSource dataSource;
+		private final AtomicLong reads = new AtomicLong();
+		private volatile boolean healthy = true;
+
+		private Replica(DataSource dataSource) {
+			this.dataSource = dataSource;
+		}
+	}
+
+	/**
+	 * 사용할 수 있는 복제본을 차례대로 골라 커넥션을 가져오는 읽기 전용 데이터 소스입니다.
+	 */
+	private final class ReadOnlyDataSource extends AbstractDataSource {
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return getConnection(null, null);
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+			for (int offset = 0; offset < replicas.size(); offset++) {
+				int index = (start + offset) % replicas.size();
+				Replica replica = replicas.get(index);
+				if (!replica.healthy) {
+					continue;
+				}
+
+				try {
+					Connection connection = Objects.isNull(username)
+						? replica.dataSource.getConnection()
+						: replica.dataSource.getConnection(username, password);
+					replica.reads.incrementAndGet();
+					return connection;
+				} catch (SQLException e) {
+					if (!isReplicaFailure(e)) {
+						log.debug("Replica {} has no connection available, trying elsewhere", index, e);
+						continue;
+					}
+					replica.healthy = false;
+					log.warn("Failed to get a connection from replica {}, routing read-only transactions elsewhere",
+						index, e);
+				}
+			}
+
+			failovers.incrementAndGet();
+			return Objects.isNull(username) ? primary.getConnection() : primary.getConnection(username, password);
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package store.buzzbook.coupon.common.discount;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import store.buzzbook.coupon.common.cache.CouponPolicyCatalog;
+import store.buzzbook.coupon.common.constant.CouponScope;
+import store.buzzbook.coupon.common.utils.AssignmentSolver;
+import store.buzzbook.coupon.dto.coupon.OrderCouponResponse;
+import store.buzzbook.coupon.dto.discount.ApplicableCouponResponse;
+import store.buzzbook.coupon.dto.discount.CartDiscountResponse;
+import store.buzzbook.coupon.dto.discount.CartItemRequest;
+import store.buzzbook.coupon.dto.discount.CouponAssignmentResponse;
+import store.buzzbook.coupon.dto.discount.LineDiscountResponse;
+
+/**
+ * 장바구니에 쿠폰을 적용했을 때의 할인 금액과 최적 배정을 계산하는 클래스입니다.
+ * <p>
+ * 쿠폰마다 {@link CouponPolicyCatalog} 에 미리 변환된 {@link DiscountRule} 로 항목별 할인 금액을 계산해 하나의 행렬에 채운 뒤,
+ * {@link AssignmentSolver} 로 총 할인 금액이 최대가 되는 배정을 구합니다.
+ * 책과 카테고리 쿠폰은 항목 하나에, 글로벌 쿠폰은 장바구니 전체에 적용되며, 항목과 장바구니에는 쿠폰을 하나씩만 적용할 수 있습니다.
+ * 글로벌 쿠폰의 할인 금액은 다른 쿠폰을 적용하기 전의 합계 금액으로 계산합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CartDiscountCalculator {
+
+	private final CouponPolicyCatalog couponPolicyCatalog;
+
+	/**
+	 * 장바구니에 적용할 수 있는 쿠폰과 최적 배정을 계산합니다.
+	 * <p>
+	 * 만료되었거나 어떤 항목에도 할인이 발생하지 않는 쿠폰은 적용 가능한 쿠폰에서 제외됩니다.
+	 * </p>
+	 *
+	 * @param items 장바구니 항목 리스트
+	 * @param coupons 회원이 가진 사용 가능한 쿠폰 리스트
+	 * @param today 기준 날짜
+	 * @return 장바구니 쿠폰 할인 계산 응답 객체
+	 */
+	public CartDiscountResponse calculate(List<CartItemRequest> items, List<OrderCouponResponse> coupons,
+		LocalDate today) {
+		int lineCount = items.size();
+		int cartColumn = lineCount;
+		long[] amounts = new long[lineCount];
+		long subtotal = 0;
+		for (int line = 0; line < lineCount; line++) {
+			amounts[line] = items.get(line).amount();
+			subtotal += amounts[line];
+		}
+
+		long[][] discounts = new long[coupons.size()][lineCount + 1];
+		for (int row = 0; row < coupons.size(); row++) {
+			OrderCouponResponse coupon = coupons.get(row);
+			if (coupon.expireDate().isBefore(today)) {
+				continue;
+			}
+
+			DiscountRule discountRule = couponPolicyCatalog.getDiscountRule(coupon.couponPolicyResponse());
+			if (discountRule.couponScope() == CouponScope.GLOBAL) {
+				discounts[row][cartColumn] = discountRule.discount(subtotal);
+			} else if (Objects.nonNull(coupon.targetId())) {
+				int targetId = coupon.targetId();
+				for (int line = 0; line < lineCount; line++) {
+					CartItemRequest item = items.get(line);
+					if (discountRule.appliesTo(targetId, item.bookId(), item.categoryId())) {
+						discounts[row][line] = discountRule.discount(amounts[line]);
+					}
+				}
+			}
+		}
+
+		int[] assignment = AssignmentSolver.maximize(discounts);
+
+		List<ApplicableCouponResponse> applicableCoupons = new ArrayList<>();
+		List<CouponAssignmentResponse> assignments = new ArrayList<>();
+		long totalDiscount = 0;
+		for (int row = 0; row < coupons.size(); row++) {
+			ApplicableCouponResponse applicableCoupon = toApplicableCoupon(coupons.get(row), discounts[row], items);
+			if (Objects.nonNull(applicableCoupon)) {
+				applicableCoupons.add(applicableCoupon);
+			}
+
+			int column = assignment[row];
+			if (column != AssignmentSolver.UNASSIGNED) {
+				long discount = discounts[row][column];
+				assignments.add(new CouponAssignmentResponse(coupons.get(row).code(),
+					column == cartColumn ? null : column, discount));
+				totalDiscount += discount;
+			}
+		}
+
+		return CartDiscountResponse.builder()
+			.subtotal(subtotal)
+			.totalDiscount(totalDiscount)
+			.applicableCoupons(applicableCoupons)
+			.assignments(assignments)
+			.build();
+	}
+
+	/**
+	 * 쿠폰 하나의 할인 금액 행을 적용 가능한 쿠폰 응답으로 변환합니다.
+	 *
+	 * @return 적용 가능한 쿠폰 응답, 할인이 발생하지 않으면 null
+	 */
+	private static ApplicableCouponResponse toApplicableCoupon(OrderCouponResponse coupon, long[] discounts,
+		List<CartItemRequest> items) {
+		int cartColumn = items.size();
+		List<LineDiscountResponse> lineDiscounts = new ArrayList<>();
+		for (int line = 0; line < cartColumn; line++) {
+			if (discounts[line] > 0) {
+				lineDiscounts.add(new LineDiscountResponse(line, items.get(line).bookId(), discounts[line]));
+			}
+		}
+
+		if (lineDiscounts.isEmpty() && discounts[cartColumn] == 0) {
+			return null;
+		}
+
+		return ApplicableCouponResponse.builder()
+			.couponCode(coupon.code())
+			.couponPolicyId(coupon.couponPolicyResponse().id())
+			.couponPolicyName(coupon.couponPolicyResponse().name())
+			.couponScope(coupon.couponPolicyResponse().couponTypeResponse().name())
+			.lineDiscounts(lineDiscounts)
+			.cartDiscount(discounts[cartColumn])
+			.build();
+	}
+}
@@ -0,0 +1,86 @@
+package store.buzzbook.coupon.common.discount;
+
+import store.buzzbook.coupon.common.constant.CouponScope;
+import store.buzzbook.coupon.common.constant.DiscountType;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyResponse;
+
+/**
+ * 쿠폰 정책의 할인 계산 규칙을 미리 변환해 둔 클래스입니다.
+ * <p>
+ * 쿠폰 정책 응답의 문자열 필드를 한 번만 해석해 두므로, 할인 금액 계산 시 객체를 생성하지 않습니다.
+ * 적용 금액이 기준 가격보다 작으면 할인하지 않으며, 최대 할인 금액이 0보다 크면 할인 금액을 제한합니다.
+ * 할인 금액은 적용 금액을 넘지 않습니다.
+ * </p>
+ *
+ * @param couponPolicyId 쿠폰 정책 ID
+ * @param couponScope 쿠폰 범위
+ * @param rate 할인율 방식이면 true, 할인 금액 방식이면 false
+ * @param discountRate 할인율 (0에서 1 사이)
+ * @param discountAmount 할인 금액
+ * @param standardPrice 기준 가격
+ * @param maxDiscountAmount 최대 할인 금액
+ */
+public record DiscountRule(
+	int couponPolicyId,
+	CouponScope couponScope,
+	boolean rate,
+	double discountRate,
+	int discountAmount,
+	int standardPrice,
+	int maxDiscountAmount
+) {
+	/**
+	 * 쿠폰 정책 응답을 할인 규칙으로 변환합니다.
+	 *
+	 * @param policy 변환할 쿠폰 정책 응답
+	 * @return 변환된 할인 규칙
+	 */
+	public static DiscountRule from(CouponPolicyResponse policy) {
+		return new DiscountRule(
+			policy.id(),
+			CouponScope.fromString(policy.couponTypeResponse().name()),
+			DiscountType.fromString(policy.discountType()) == DiscountType.RATE,
+			policy.discountRate(),
+			policy.discountAmount(),
+			policy.standardPrice(),
+			policy.maxDiscountAmount()
+		);
+	}
+
+	/**
+	 * 적용 금액에 대한 할인 금액을 계산합니다.
+	 *
+	 * @param amount 적용 금액
+	 * @return 할인 금액, 할인할 수 없으면 0
+	 */
+	public long discount(long amount) {
+		if (amount <= 0 || amount < standardPrice) {
+			return 0;
+		}
+
+		long discount = rate ? (long)(amount * discountRate) : discountAmount;
+		if (maxDiscountAmount > 0) {
+			discount = Math.min(discount, maxDiscountAmount);
+		}
+		return Math.max(0, Math.min(discount, amount));
+	}
+
+	/**
+	 * 장바구니 항목에 적용할 수 있는지 확인합니다.
+	 * <p>
+	 * 글로벌 범위는 장바구니 전체에 적용되므로 항목에는 적용하지 않습니다.
+	 * </p>
+	 *
+	 * @param targetId 쿠폰의 적용 대상 ID
+	 * @param bookId 장바구니 항목의 책 ID
+	 * @param categoryId 장바구니 항목의 카테고리 ID
+	 * @return 적용할 수 있으면 true
+	 */
+	public boolean appliesTo(int targetId, int bookId, int categoryId) {
+		return switch (couponScope) {
+			case GLOBAL -> false;
+			case BOOK -> targetId == bookId;
+			case CATEGORY -> targetId == categoryId;
+		};
+	}
+}
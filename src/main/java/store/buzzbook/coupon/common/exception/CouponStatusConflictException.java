@@ -0,0 +1,27 @@
+package store.buzzbook.coupon.common.exception;
+
+/**
+ * 쿠폰의 현재 상태가 기대한 상태와 달라 상태를 변경하지 못했을 때 발생하는 예외 클래스입니다.
+ * <p>
+ * 이 예외는 같은 쿠폰을 동시에 사용하려는 요청 중 늦은 요청이 경쟁에서 졌음을 나타내기 위해 사용됩니다.
+ * 기본 메시지와 사용자 정의 메시지를 모두 지원합니다.
+ * </p>
+ */
+public class CouponStatusConflictException extends RuntimeException {
+
+	/**
+	 * 기본 메시지 "쿠폰 상태가 이미 변경되었습니다."를 사용하여 예외를 생성합니다.
+	 */
+	public CouponStatusConflictException() {
+		super("쿠폰 상태가 이미 변경되었습니다.");
+	}
+
+	/**
+	 * 지정된 메시지를 사용하여 예외를 생성합니다.
+	 *
+	 * @param message 예외의 세부 메시지
+	 */
+	public CouponStatusConflictException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,33 @@
+package store.buzzbook.coupon.common.exception;
+
+import store.buzzbook.coupon.dto.coupon.UpdateCouponsResponse;
+
+/**
+ * 여러 쿠폰의 상태를 한 번에 변경하던 중 일부를 변경할 수 없어 전체를 취소할 때 발생하는 예외 클래스입니다.
+ * <p>
+ * 트랜잭션을 롤백시키기 위해 사용되며, 쿠폰별 처리 결과를 함께 전달합니다.
+ * </p>
+ */
+public class CouponTransitionConflictException extends CouponStatusConflictException {
+
+	private final transient UpdateCouponsResponse response;
+
+	/**
+	 * 쿠폰별 처리 결과를 사용하여 예외를 생성합니다.
+	 *
+	 * @param response 쿠폰별 처리 결과
+	 */
+	public CouponTransitionConflictException(UpdateCouponsResponse response) {
+		super("상태를 변경할 수 없는 쿠폰이 있어 모든 변경을 취소했습니다.");
+		this.response = response;
+	}
+
+	/**
+	 * 쿠폰별 처리 결과를 반환합니다.
+	 *
+	 * @return 쿠폰별 처리 결과
+	 */
+	public UpdateCouponsResponse getResponse() {
+		return response;
+	}
+}
@@ -0,0 +1,119 @@
+package store.buzzbook.coupon.common.generator;
+
+import static store.buzzbook.coupon.common.constant.IdGeneratorConstant.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import store.buzzbook.coupon.common.utils.CouponCodeCipher;
+import store.buzzbook.coupon.repository.CouponRepository;
+
+/**
+ * 중복되지 않는 쿠폰 코드를 생성하는 클래스입니다.
+ * <p>
+ * ID 시퀀스 테이블에서 일련번호를 블록 단위로 할당받아 {@link CouponCodeCipher} 로 암호화하므로,
+ * 여러 인스턴스에서 동시에 생성해도 중복 확인 없이 서로 다른 쿠폰 코드가 만들어집니다.
+ * </p>
+ */
+@Component
+public class CouponCodeGenerator {
+
+	private final CouponRepository couponRepository;
+	private final CouponCodeCipher cipher;
+	private final int serialBlockSize;
+	private final boolean validateCheckCharacter;
+	private final ReentrantLock serialLock = new ReentrantLock();
+
+	private long nextSerial;
+	private long serialLimit;
+
+	public CouponCodeGenerator(CouponRepository couponRepository,
+		@Value("${coupon.code.secret}") String secret,
+		@Value("${coupon.code.serial-block-size:1000}") int serialBlockSize,
+		@Value("${coupon.code.validate-check-character:false}") boolean validateCheckCharacter) {
+		this.couponRepository = couponRepository;
+		this.cipher = new CouponCodeCipher(secret);
+		this.serialBlockSize = serialBlockSize;
+		this.validateCheckCharacter = validateCheckCharacter;
+	}
+
+	/**
+	 * 새로운 쿠폰 코드를 생성합니다.
+	 *
+	 * @return 생성된 쿠폰 코드
+	 */
+	public String createCode() {
+		return cipher.encrypt(nextSerial());
+	}
+
+	/**
+	 * 주어진 개수만큼 새로운 쿠폰 코드를 생성합니다.
+	 * <p>
+	 * 필요한 일련번호를 한 번에 할당받습니다.
+	 * </p>
+	 *
+	 * @param count 생성할 쿠폰 코드 개수
+	 * @return 생성된 쿠폰 코드 리스트
+	 */
+	public List<String> createCodes(int count) {
+		long firstSerial = couponRepository.allocateIds(COUPON_CODE_SEQUENCE, count);
+
+		List<String> couponCodes = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			couponCodes.add(cipher.encrypt(firstSerial + i));
+		}
+		return couponCodes;
+	}
+
+	/**
+	 * 쿠폰 코드의 형식이 올바른지 확인합니다.
+	 * <p>
+	 * 길이와 문자는 항상 확인하고, 검사 문자는 설정된 경우에만 확인합니다.
+	 * 검사 문자가 없는 기존 쿠폰 코드가 남아 있는 동안에는 검사 문자 확인을 끄고 사용해야 합니다.
+	 * </p>
+	 *
+	 * @param couponCode 확인할 쿠폰 코드
+	 * @return 형식이 올바르면 true
+	 */
+	public boolean isWellFormed(String couponCode) {
+		return validateCheckCharacter
+			? cipher.isWellFormed(couponCode)
+			: CouponCodeCipher.hasValidCharacters(couponCode);
+	}
+
+	/**
+	 * 일련번호 블록에서 다음 일련번호를 꺼냅니다.
+	 * <p>
+	 * 블록이 비면 락을 놓은 상태에서 새 블록을 할당받으므로, 데이터베이스를 기다리는 동안 다른 스레드가 락을 기다리지 않습니다.
+	 * 여러 스레드가 동시에 새 블록을 할당받으면 먼저 돌아온 블록만 이어서 사용하고, 나머지 블록은 첫 번째 일련번호만 사용합니다.
+	 * 사용하지 않은 일련번호는 다시 사용되지 않습니다.
+	 * </p>
+	 */
+	private long nextSerial() {
+		serialLock.lock();
+		try {
+			if (nextSerial < serialLimit) {
+				return nextSerial++;
+			}
+		} finally {
+			serialLock.unlock();
+		}
+
+		long firstSerial = couponRepository.allocateIds(COUPON_CODE_SEQUENCE, serialBlockSize);
+
+		serialLock.lock();
+		try {
+			if (nextSerial == serialLimit) {
+				nextSerial = firstSerial + 1;
+				serialLimit = firstSerial + serialBlockSize;
+			}
+			return firstSerial;
+		} finally {
+			serialLock.unlock();
+		}
+	}
+}
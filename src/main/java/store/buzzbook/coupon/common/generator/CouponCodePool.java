@@ -0,0 +1,150 @@
+package store.buzzbook.coupon.common.generator;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.coupon.common.utils.BoundedRingBuffer;
+
+/**
+ * 미리 생성한 쿠폰 코드를 보관하는 풀 클래스입니다.
+ * <p>
+ * 쿠폰 코드를 {@link BoundedRingBuffer} 에 보관하고, 남은 개수가 하한 아래로 내려가면
+ * 가상 스레드가 상한에 도달할 때까지 {@link CouponCodeGenerator} 로 일련번호 블록 단위의 쿠폰 코드를 만들어 채웁니다.
+ * 풀이 비어 있으면 요청 스레드에서 직접 생성합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CouponCodePool {
+
+	private final CouponCodeGenerator couponCodeGenerator;
+	private final BoundedRingBuffer<String> buffer;
+	private final int lowWatermark;
+	private final int highWatermark;
+	private final int refillBatchSize;
+	private final int refillThreads;
+	private final AtomicInteger activeRefills = new AtomicInteger();
+	private final Counter refilledCounter;
+	private final Counter fallbackCounter;
+
+	public CouponCodePool(CouponCodeGenerator couponCodeGenerator, MeterRegistry meterRegistry,
+		@Value("${coupon.code-pool.low-watermark:256}") int lowWatermark,
+		@Value("${coupon.code-pool.high-watermark:2048}") int highWatermark,
+		@Value("${coupon.code-pool.refill-batch-size:256}") int refillBatchSize,
+		@Value("${coupon.code-pool.refill-threads:2}") int refillThreads) {
+		if (lowWatermark < 0 || highWatermark <= lowWatermark || refillBatchSize <= 0 || refillThreads <= 0) {
+			throw new IllegalArgumentException("잘못된 쿠폰 코드 풀 설정입니다.");
+		}
+
+		this.couponCodeGenerator = couponCodeGenerator;
+		this.buffer = new BoundedRingBuffer<>(highWatermark);
+		this.lowWatermark = lowWatermark;
+		this.highWatermark = highWatermark;
+		this.refillBatchSize = refillBatchSize;
+		this.refillThreads = refillThreads;
+
+		Gauge.builder("coupon.code.pool.size", buffer, BoundedRingBuffer::size)
+			.description("Pre-generated coupon codes ready to be issued")
+			.register(meterRegistry);
+		this.refilledCounter = Counter.builder("coupon.code.pool.refilled")
+			.description("Coupon codes generated by the background refill")
+			.register(meterRegistry);
+		this.fallbackCounter = Counter.builder("coupon.code.pool.fallback")
+			.description("Coupon codes generated on the request thread because the pool was empty")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 애플리케이션이 시작되면 풀을 채웁니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void prefill() {
+		requestRefill();
+	}
+
+	/**
+	 * 쿠폰 코드를 하나 꺼냅니다.
+	 * <p>
+	 * 풀이 비어 있으면 직접 생성하며, 남은 개수가 하한보다 적으면 채우기를 요청합니다.
+	 * </p>
+	 *
+	 * @return 쿠폰 코드
+	 */
+	public String take() {
+		String couponCode = buffer.poll();
+		if (buffer.size() < lowWatermark) {
+			requestRefill();
+		}
+
+		if (Objects.isNull(couponCode)) {
+			fallbackCounter.increment();
+			return couponCodeGenerator.createCode();
+		}
+		return couponCode;
+	}
+
+	/**
+	 * 풀에 남은 쿠폰 코드의 개수를 반환합니다.
+	 *
+	 * @return 남은 쿠폰 코드의 개수
+	 */
+	public int size() {
+		return buffer.size();
+	}
+
+	/**
+	 * 채우기 중인 가상 스레드가 없으면 새로 시작합니다.
+	 */
+	private void requestRefill() {
+		if (!activeRefills.compareAndSet(0, refillThreads)) {
+			return;
+		}
+
+		for (int i = 0; i < refillThreads; i++) {
+			Thread.ofVirtual().name("coupon-code-refill-" + i).start(this::refill);
+		}
+	}
+
+	/**
+	 * 상한에 도달할 때까지 쿠폰 코드를 만들어 채웁니다.
+	 * <p>
+	 * 버퍼에 넣지 못한 쿠폰 코드는 버려지며, 해당 일련번호는 다시 사용되지 않습니다.
+	 * </p>
+	 */
+	private void refill() {
+		try {
+			int missing;
+			while ((missing = highWatermark - buffer.size()) > 0) {
+				int batchSize = Math.min(refillBatchSize, missing);
+				List<String> couponCodes = couponCodeGenerator.createCodes(batchSize);
+
+				int offered = 0;
+				for (String couponCode : couponCodes) {
+					if (!buffer.offer(couponCode)) {
+						break;
+					}
+					offered++;
+				}
+				refilledCounter.increment(offered);
+
+				if (offered < couponCodes.size()) {
+					break;
+				}
+			}
+		} catch (RuntimeException e) {
+			log.warn("Failed to refill coupon code pool", e);
+		} finally {
+			activeRefills.decrementAndGet();
+		}
+	}
+}
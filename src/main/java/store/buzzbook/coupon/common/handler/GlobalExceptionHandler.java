@@ -18,7 +18,10 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 import store.buzzbook.coupon.common.exception.CouponAlreadyExistsException;
 import store.buzzbook.coupon.common.exception.CouponNotFoundException;
 import store.buzzbook.coupon.common.exception.CouponPolicyNotFoundException;
+import store.buzzbook.coupon.common.exception.CouponStatusConflictException;
+import store.buzzbook.coupon.common.exception.CouponTransitionConflictException;
 import store.buzzbook.coupon.common.exception.CouponTypeNotFoundException;
+import store.buzzbook.coupon.dto.coupon.UpdateCouponsResponse;
 
 /**
  * 전역 예외 처리를 담당하는 클래스입니다.
@@ -69,6 +72,33 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 		return ResponseEntity.status(HttpStatus.CONFLICT).body(exception.getMessage());
 	}
 
+	/**
+	 * CouponStatusConflictException 이 발생했을 때 HTTP 409 상태 코드와 함께 예외 메시지를 반환합니다.
+	 * <p>
+	 * 동시에 같은 쿠폰의 상태를 변경하려다 경쟁에서 진 요청에 대한 응답이므로, 클라이언트는 쿠폰 상태를 다시 조회해야 합니다.
+	 * </p>
+	 *
+	 * @param exception 처리할 예외
+	 * @return HTTP 409 상태 코드와 예외 메시지를 포함한 ResponseEntity
+	 */
+	@ExceptionHandler({CouponStatusConflictException.class})
+	public ResponseEntity<String> handleStatusConflict(Exception exception) {
+		log.debug("handleStatusConflict : {}", exception.getMessage());
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(exception.getMessage());
+	}
+
+	/**
+	 * CouponTransitionConflictException 이 발생했을 때 HTTP 409 상태 코드와 함께 쿠폰별 처리 결과를 반환합니다.
+	 *
+	 * @param exception 처리할 예외
+	 * @return HTTP 409 상태 코드와 쿠폰별 처리 결과를 포함한 ResponseEntity
+	 */
+	@ExceptionHandler({CouponTransitionConflictException.class})
+	public ResponseEntity<UpdateCouponsResponse> handleTransitionConflict(CouponTransitionConflictException exception) {
+		log.debug("handleTransitionConflict : {}", exception.getMessage());
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(exception.getResponse());
+	}
+
 	/**
 	 * 메서드 인자 유효성 검사 실패 시 HTTP 400 상태 코드와 함께 오류 메시지를 반환합니다.
 	 *
@@ -0,0 +1,147 @@
+package store.buzzbook.coupon.common.listener;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션 시작 시 조회 쿼리에 필요한 인덱스가 있는지 확인하는 리스너 클래스입니다.
+ * <p>
+ * 데이터베이스 메타데이터에서 테이블별 인덱스의 컬럼 순서를 읽어, 기대하는 컬럼 목록으로 시작하는 인덱스가 없으면 경고 로그를 남깁니다.
+ * 인덱스 이름은 비교하지 않으므로 이름이 다른 인덱스도 컬럼 순서가 같으면 있는 것으로 봅니다.
+ * 기대하는 인덱스는 db/migration 의 마이그레이션 스크립트와 엔티티의 인덱스 정의에 맞춰 관리합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SchemaIndexVerifier {
+
+	static final List<ExpectedIndex> EXPECTED_INDEXES = List.of(
+		new ExpectedIndex("coupon", List.of("coupon_code", "coupon_policy_id", "status")),
+		new ExpectedIndex("coupon", List.of("status", "expire_date")),
+		new ExpectedIndex("specific_coupon", List.of("book_id", "coupon_policy_id")),
+		new ExpectedIndex("category_coupon", List.of("category_id", "coupon_policy_id")),
+		new ExpectedIndex("coupon_policy", List.of("deleted", "coupon_type_id", "start_date", "end_date"))
+	);
+
+	private final DataSource dataSource;
+	private final boolean enabled;
+
+	public SchemaIndexVerifier(DataSource dataSource,
+		@Value("${coupon.schema.verify-indexes:true}") boolean enabled) {
+		this.dataSource = dataSource;
+		this.enabled = enabled;
+	}
+
+	/**
+	 * 애플리케이션이 시작되면 기대하는 인덱스가 모두 있는지 확인합니다.
+	 * <p>
+	 * 확인에 실패해도 애플리케이션 시작은 막지 않습니다.
+	 * </p>
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void verify() {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			List<ExpectedIndex> missingIndexes = findMissingIndexes(EXPECTED_INDEXES);
+			for (ExpectedIndex missingIndex : missingIndexes) {
+				log.warn("Missing index on {} ({}), queries on these columns will scan the table",
+					missingIndex.tableName(), String.join(", ", missingIndex.columnNames()));
+			}
+			if (missingIndexes.isEmpty()) {
+				log.debug("All {} expected indexes are present", EXPECTED_INDEXES.size());
+			}
+		} catch (SQLException e) {
+			log.warn("Failed to verify schema indexes", e);
+		}
+	}
+
+	/**
+	 * 기대하는 인덱스 중 데이터베이스에 없는 인덱스를 찾습니다.
+	 *
+	 * @param expectedIndexes 기대하는 인덱스 목록
+	 * @return 없는 인덱스 목록
+	 * @throws SQLException 메타데이터를 읽지 못한 경우
+	 */
+	List<ExpectedIndex> findMissingIndexes(List<ExpectedIndex> expectedIndexes) throws SQLException {
+		List<ExpectedIndex> missingIndexes = new ArrayList<>();
+		try (Connection connection = dataSource.getConnection()) {
+			DatabaseMetaData metaData = connection.getMetaData();
+			Map<String, List<List<String>>> indexesByTable = new TreeMap<>();
+
+			for (ExpectedIndex expectedIndex : expectedIndexes) {
+				List<List<String>> indexes = indexesByTable.get(expectedIndex.tableName());
+				if (Objects.isNull(indexes)) {
+					indexes = readIndexes(connection, metaData, expectedIndex.tableName());
+					indexesByTable.put(expectedIndex.tableName(), indexes);
+				}
+
+				if (indexes.stream().noneMatch(columns -> startsWith(columns, expectedIndex.columnNames()))) {
+					missingIndexes.add(expectedIndex);
+				}
+			}
+		}
+		return missingIndexes;
+	}
+
+	/**
+	 * 테이블의 인덱스별 컬럼 목록을 컬럼 순서대로 읽습니다.
+	 */
+	private static List<List<String>> readIndexes(Connection connection, DatabaseMetaData metaData,
+		String tableName) throws SQLException {
+		String storedTableName = metaData.storesUpperCaseIdentifiers()
+			? tableName.toUpperCase(Locale.ROOT)
+			: tableName;
+
+		Map<String, TreeMap<Short, String>> columnsByIndex = new TreeMap<>();
+		try (ResultSet resultSet = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(),
+			storedTableName, false, false)) {
+			while (resultSet.next()) {
+				String indexName = resultSet.getString("INDEX_NAME");
+				String columnName = resultSet.getString("COLUMN_NAME");
+				if (Objects.isNull(indexName) || Objects.isNull(columnName)) {
+					continue;
+				}
+
+				columnsByIndex.computeIfAbsent(indexName, name -> new TreeMap<>())
+					.put(resultSet.getShort("ORDINAL_POSITION"), columnName.toLowerCase(Locale.ROOT));
+			}
+		}
+
+		return columnsByIndex.values().stream()
+			.map(columns -> (List<String>)new ArrayList<>(columns.values()))
+			.toList();
+	}
+
+	private static boolean startsWith(List<String> columns, List<String> prefix) {
+		return columns.size() >= prefix.size() && columns.subList(0, prefix.size()).equals(prefix);
+	}
+
+	/**
+	 * 기대하는 인덱스의 테이블과 컬럼 순서입니다.
+	 *
+	 * @param tableName 테이블 이름
+	 * @param columnNames 인덱스의 앞쪽 컬럼 이름 목록
+	 */
+	record ExpectedIndex(String tableName, List<String> columnNames) {
+	}
+}
@@ -0,0 +1,105 @@
+package store.buzzbook.coupon.common.listener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정된 채로 블로킹된 경우를 감지하는 리스너 클래스입니다.
+ * <p>
+ * 가상 스레드 실행 모드에서만 등록되며, JFR 의 {@code jdk.VirtualThreadPinned} 이벤트를 스트리밍으로 받아
+ * 고정된 횟수와 시간을 메트릭으로 기록하고, 고정을 일으킨 스택의 앞부분을 경고 로그로 남깁니다.
+ * synchronized 블록 안에서 데이터베이스나 HTTP 호출을 기다리는 코드를 찾는 데 사용합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int LOGGED_FRAMES = 8;
+
+	private final Duration threshold;
+	private final Counter pinnedCounter;
+	private final Timer pinnedTimer;
+
+	private RecordingStream recordingStream;
+
+	public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+		@Value("${coupon.virtual-threads.pinned-threshold:PT0.02S}") Duration threshold) {
+		this.threshold = threshold;
+		this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+			.description("Virtual threads that blocked while pinned to their carrier thread")
+			.register(meterRegistry);
+		this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned.duration")
+			.description("Time virtual threads spent blocked while pinned to their carrier thread")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 애플리케이션이 시작되면 고정 이벤트 스트리밍을 시작합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void start() {
+		if (Objects.nonNull(recordingStream)) {
+			return;
+		}
+
+		recordingStream = new RecordingStream();
+		recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		recordingStream.onEvent(PINNED_EVENT, this::record);
+		recordingStream.startAsync();
+		log.info("Monitoring virtual thread pinning longer than {} ms", threshold.toMillis());
+	}
+
+	/**
+	 * 애플리케이션 종료 시 스트리밍을 멈춥니다.
+	 */
+	@PreDestroy
+	public synchronized void stop() {
+		if (Objects.nonNull(recordingStream)) {
+			recordingStream.close();
+			recordingStream = null;
+		}
+	}
+
+	/**
+	 * 고정 이벤트를 메트릭과 로그로 기록합니다.
+	 *
+	 * @param event 고정 이벤트
+	 */
+	void record(RecordedEvent event) {
+		pinnedCounter.increment();
+		pinnedTimer.record(event.getDuration());
+
+		if (Objects.isNull(event.getStackTrace())) {
+			log.warn("Virtual thread pinned for {} ms", event.getDuration().toMillis());
+			return;
+		}
+
+		List<RecordedFrame> frames = event.getStackTrace().getFrames();
+		String stack = frames.stream()
+			.limit(LOGGED_FRAMES)
+			.map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":"
+				+ frame.getLineNumber())
+			.collect(Collectors.joining("\n\tat "));
+		log.warn("Virtual thread pinned for {} ms\n\tat {}", event.getDuration().toMillis(), stack);
+	}
+}
@@ -0,0 +1,168 @@
+package store.buzzbook.coupon.common.scheduler;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.coupon.common.constant.CouponStatus;
+import store.buzzbook.coupon.repository.CouponRepository;
+
+/**
+ * 보관 기간이 지난 사용 완료 또는 만료 상태의 쿠폰을 보관 테이블로 옮기는 스케줄러 클래스입니다.
+ * <p>
+ * 쿠폰 테이블을 사용 가능한 쿠폰 위주로 작게 유지해, 주문 경로의 조회와 인덱스 크기가 누적된 쿠폰 수에 따라 커지지 않게 합니다.
+ * 만료일이 보관 기간보다 오래된 쿠폰만 옮기므로, 주문 취소로 되돌릴 수 있는 최근 사용 쿠폰은 쿠폰 테이블에 남습니다.
+ * 배치마다 별도의 짧은 트랜잭션에서 옮기고, 배치 사이에는 배치 처리 시간에 비례해 쉬어 데이터베이스 부하를 제한합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CouponArchiver {
+
+	private static final List<CouponStatus> TERMINAL_STATUSES = List.of(CouponStatus.USED, CouponStatus.EXPIRED);
+
+	private final CouponRepository couponRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int retentionDays;
+	private final int batchSize;
+	private final double pauseRatio;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final AtomicLong archivedInRun = new AtomicLong();
+	private final Counter archivedCounter;
+	private final Timer batchTimer;
+
+	private volatile boolean stopped;
+
+	public CouponArchiver(CouponRepository couponRepository, PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${coupon.archiver.retention-days:90}") int retentionDays,
+		@Value("${coupon.archiver.batch-size:500}") int batchSize,
+		@Value("${coupon.archiver.pause-ratio:1.0}") double pauseRatio) {
+		if (retentionDays < 0 || batchSize <= 0 || pauseRatio < 0) {
+			throw new IllegalArgumentException("잘못된 쿠폰 보관 스케줄러 설정입니다.");
+		}
+
+		this.couponRepository = couponRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.retentionDays = retentionDays;
+		this.batchSize = batchSize;
+		this.pauseRatio = pauseRatio;
+
+		Gauge.builder("coupon.archiver.progress", archivedInRun, AtomicLong::get)
+			.description("Coupons archived by the current or last run")
+			.register(meterRegistry);
+		this.archivedCounter = Counter.builder("coupon.archiver.archived")
+			.description("Coupons moved to the archive table")
+			.register(meterRegistry);
+		this.batchTimer = Timer.builder("coupon.archiver.batch")
+			.description("Latency of a single archiver batch")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 주기적으로 보관 대상 쿠폰을 보관 테이블로 옮깁니다.
+	 * <p>
+	 * 이전 실행이 끝나지 않았다면 건너뜁니다.
+	 * </p>
+	 */
+	@Scheduled(cron = "${coupon.archiver.cron:0 40 0 * * *}")
+	public void scheduledArchive() {
+		archive(LocalDate.now());
+	}
+
+	/**
+	 * 만료일이 기준 날짜에서 보관 기간을 뺀 날짜보다 이른 사용 완료 또는 만료 상태의 쿠폰을 모두 보관 테이블로 옮깁니다.
+	 *
+	 * @param today 기준 날짜
+	 * @return 보관 테이블로 옮긴 쿠폰의 개수, 이미 실행 중이면 0
+	 */
+	public long archive(LocalDate today) {
+		if (!running.compareAndSet(false, true)) {
+			log.debug("Coupon archive is already running");
+			return 0;
+		}
+
+		long startTime = System.nanoTime();
+		LocalDate expiredBefore = today.minusDays(retentionDays);
+		archivedInRun.set(0);
+		try {
+			for (CouponStatus status : TERMINAL_STATUSES) {
+				archive(status, expiredBefore, today);
+			}
+		} finally {
+			running.set(false);
+		}
+
+		log.info("Archived {} coupons expired before {} in {} ms", archivedInRun.get(), expiredBefore,
+			TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+		return archivedInRun.get();
+	}
+
+	/**
+	 * 애플리케이션 종료 시 진행 중인 실행을 다음 배치 전에 멈춥니다.
+	 */
+	@PreDestroy
+	public void stop() {
+		stopped = true;
+	}
+
+	/**
+	 * 주어진 상태의 보관 대상 쿠폰을 더 이상 없을 때까지 배치 단위로 옮깁니다.
+	 * <p>
+	 * 옮긴 쿠폰은 쿠폰 테이블에서 삭제되므로 다음 배치는 항상 처음부터 다시 조회합니다.
+	 * </p>
+	 */
+	private void archive(CouponStatus status, LocalDate expiredBefore, LocalDate today) {
+		while (!stopped) {
+			long batchStart = System.nanoTime();
+			Integer archived = transactionTemplate.execute(transactionStatus ->
+				couponRepository.archiveCoupons(status, expiredBefore, today, batchSize));
+			long batchNanos = System.nanoTime() - batchStart;
+
+			int count = Objects.isNull(archived) ? 0 : archived;
+			archivedInRun.addAndGet(count);
+			archivedCounter.increment(count);
+			batchTimer.record(batchNanos, TimeUnit.NANOSECONDS);
+
+			if (count < batchSize || !pause(batchNanos)) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * 배치 처리 시간에 비례해 쉽니다.
+	 *
+	 * @return 계속 진행해도 되면 true, 인터럽트되었으면 false
+	 */
+	private boolean pause(long batchNanos) {
+		long pauseNanos = (long)(batchNanos * pauseRatio);
+		if (pauseNanos <= 0) {
+			return true;
+		}
+
+		try {
+			TimeUnit.NANOSECONDS.sleep(pauseNanos);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,202 @@
+package store.buzzbook.coupon.common.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.coupon.common.constant.CouponStatusTransition;
+import store.buzzbook.coupon.dto.coupon.CouponExpiryKey;
+import store.buzzbook.coupon.repository.CouponRepository;
+
+/**
+ * 만료일이 지난 사용 가능한 쿠폰을 만료 상태로 변경하는 스케줄러 클래스입니다.
+ * <p>
+ * 만료 대상 쿠폰을 (만료일, ID) 키셋 페이지네이션으로 배치 단위로 읽고, 배치마다 별도의 짧은 트랜잭션에서
+ * 현재 상태가 사용 가능인 경우에만 만료 상태로 변경하므로 운영 중에 실행해도 사용 요청과 충돌하지 않습니다.
+ * 배치 처리 시간이 목표 시간을 넘으면 배치 크기를 절반으로 줄이고, 목표 시간의 절반보다 짧으면 두 배로 늘립니다.
+ * 배치 사이에는 배치 처리 시간에 비례해 쉬어 데이터베이스 부하를 제한합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CouponExpirySweeper {
+
+	private final CouponRepository couponRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int maxBatchSize;
+	private final int minBatchSize;
+	private final Duration targetBatchLatency;
+	private final double pauseRatio;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final AtomicInteger batchSize;
+	private final AtomicLong sweptInRun = new AtomicLong();
+	private final AtomicLong lastRowsPerSecond = new AtomicLong();
+	private final Counter expiredCounter;
+	private final Timer batchTimer;
+
+	private volatile boolean stopped;
+
+	public CouponExpirySweeper(CouponRepository couponRepository, PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${coupon.expiry-sweeper.batch-size:1000}") int maxBatchSize,
+		@Value("${coupon.expiry-sweeper.min-batch-size:100}") int minBatchSize,
+		@Value("${coupon.expiry-sweeper.target-batch-latency:PT0.2S}") Duration targetBatchLatency,
+		@Value("${coupon.expiry-sweeper.pause-ratio:1.0}") double pauseRatio) {
+		if (minBatchSize <= 0 || maxBatchSize < minBatchSize || targetBatchLatency.isNegative()
+			|| targetBatchLatency.isZero() || pauseRatio < 0) {
+			throw new IllegalArgumentException("잘못된 쿠폰 만료 스케줄러 설정입니다.");
+		}
+
+		this.couponRepository = couponRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.maxBatchSize = maxBatchSize;
+		this.minBatchSize = minBatchSize;
+		this.targetBatchLatency = targetBatchLatency;
+		this.pauseRatio = pauseRatio;
+		this.batchSize = new AtomicInteger(maxBatchSize);
+
+		Gauge.builder("coupon.expiry.sweeper.progress", sweptInRun, AtomicLong::get)
+			.description("Coupons expired by the current or last sweep")
+			.register(meterRegistry);
+		Gauge.builder("coupon.expiry.sweeper.rows.per.second", lastRowsPerSecond, AtomicLong::get)
+			.description("Throughput of the last completed sweep")
+			.register(meterRegistry);
+		Gauge.builder("coupon.expiry.sweeper.batch.size", batchSize, AtomicInteger::get)
+			.description("Current adaptive batch size of the sweeper")
+			.register(meterRegistry);
+		this.expiredCounter = Counter.builder("coupon.expiry.sweeper.expired")
+			.description("Coupons moved to the expired status by the sweeper")
+			.register(meterRegistry);
+		this.batchTimer = Timer.builder("coupon.expiry.sweeper.batch")
+			.description("Latency of a single sweeper batch")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 주기적으로 만료 대상 쿠폰을 만료 상태로 변경합니다.
+	 * <p>
+	 * 이전 실행이 끝나지 않았다면 건너뜁니다.
+	 * </p>
+	 */
+	@Scheduled(cron = "${coupon.expiry-sweeper.cron:0 10 0 * * *}")
+	public void scheduledSweep() {
+		sweep(LocalDate.now());
+	}
+
+	/**
+	 * 기준 날짜보다 만료일이 이른 사용 가능한 쿠폰을 모두 만료 상태로 변경합니다.
+	 *
+	 * @param today 기준 날짜
+	 * @return 만료 상태로 변경한 쿠폰의 개수, 이미 실행 중이면 0
+	 */
+	public long sweep(LocalDate today) {
+		if (!running.compareAndSet(false, true)) {
+			log.debug("Coupon expiry sweep is already running");
+			return 0;
+		}
+
+		long startTime = System.nanoTime();
+		sweptInRun.set(0);
+		try {
+			LocalDate lastExpireDate = LocalDate.EPOCH;
+			long lastId = 0;
+
+			CouponStatusTransition transition = CouponStatusTransition.EXPIRE;
+
+			while (!stopped) {
+				long batchStart = System.nanoTime();
+				int limit = batchSize.get();
+				List<CouponExpiryKey> keys = couponRepository.findExpiryKeysAfter(transition.source(), today,
+					lastExpireDate, lastId, Limit.of(limit));
+				if (keys.isEmpty()) {
+					break;
+				}
+
+				List<Long> ids = keys.stream().map(CouponExpiryKey::id).toList();
+				Integer expired = transactionTemplate.execute(status ->
+					couponRepository.compareAndSetStatusByIdIn(ids, transition.source(), transition.target()));
+				long batchNanos = System.nanoTime() - batchStart;
+
+				CouponExpiryKey last = keys.getLast();
+				lastExpireDate = last.expireDate();
+				lastId = last.id();
+				record(Objects.isNull(expired) ? 0 : expired, batchNanos);
+
+				if (keys.size() < limit || !pause(batchNanos)) {
+					break;
+				}
+			}
+		} finally {
+			long elapsedNanos = Math.max(1, System.nanoTime() - startTime);
+			lastRowsPerSecond.set(sweptInRun.get() * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+			running.set(false);
+		}
+
+		log.info("Expired {} coupons before {} in {} ms ({} rows/s)", sweptInRun.get(), today,
+			TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), lastRowsPerSecond.get());
+		return sweptInRun.get();
+	}
+
+	/**
+	 * 애플리케이션 종료 시 진행 중인 실행을 다음 배치 전에 멈춥니다.
+	 */
+	@PreDestroy
+	public void stop() {
+		stopped = true;
+	}
+
+	/**
+	 * 배치 결과를 기록하고 배치 처리 시간에 따라 다음 배치 크기를 조정합니다.
+	 */
+	private void record(int expired, long batchNanos) {
+		sweptInRun.addAndGet(expired);
+		expiredCounter.increment(expired);
+		batchTimer.record(batchNanos, TimeUnit.NANOSECONDS);
+
+		long targetNanos = targetBatchLatency.toNanos();
+		if (batchNanos > targetNanos) {
+			batchSize.updateAndGet(size -> Math.max(minBatchSize, size / 2));
+		} else if (batchNanos < targetNanos / 2) {
+			batchSize.updateAndGet(size -> Math.min(maxBatchSize, size * 2));
+		}
+	}
+
+	/**
+	 * 배치 처리 시간에 비례해 쉽니다.
+	 *
+	 * @return 계속 진행해도 되면 true, 인터럽트되었으면 false
+	 */
+	private boolean pause(long batchNanos) {
+		long pauseNanos = (long)(batchNanos * pauseRatio);
+		if (pauseNanos <= 0) {
+			return true;
+		}
+
+		try {
+			TimeUnit.NANOSECONDS.sleep(pauseNanos);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package store.buzzbook.coupon.common.utils;
+
+import java.util.Arrays;
+
+/**
+ * 가중치 합이 최대가 되는 일대일 배정을 계산하는 유틸리티 클래스입니다.
+ * <p>
+ * 헝가리안 알고리즘(포텐셜 방식)으로 행 n, 열 m 에 대해 O(min(n, m)² · max(n, m)) 시간에 계산합니다.
+ * 행과 열은 각각 최대 한 번만 배정되며, 가중치가 0 이하인 배정은 배정하지 않은 것으로 봅니다.
+ * </p>
+ */
+public class AssignmentSolver {
+
+	/**
+	 * 배정되지 않은 행을 나타냅니다.
+	 */
+	public static final int UNASSIGNED = -1;
+
+	private static final long INFINITY = Long.MAX_VALUE / 4;
+
+	/**
+	 * 이 클래스는 인스턴스화할 수 없습니다.
+	 */
+	private AssignmentSolver() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * 가중치 합이 최대가 되도록 각 행에 열을 배정합니다.
+	 *
+	 * @param weights 행별 열의 가중치 (모든 행의 길이가 같아야 합니다)
+	 * @return 행별로 배정된 열의 인덱스, 배정되지 않은 행은 {@link #UNASSIGNED}
+	 * @throws IllegalArgumentException 행의 길이가 서로 다른 경우
+	 */
+	public static int[] maximize(long[][] weights) {
+		int rows = weights.length;
+		int[] assignment = new int[rows];
+		Arrays.fill(assignment, UNASSIGNED);
+		if (rows == 0 || weights[0].length == 0) {
+			return assignment;
+		}
+
+		int columns = weights[0].length;
+		for (long[] row : weights) {
+			if (row.length != columns) {
+				throw new IllegalArgumentException("가중치 행렬의 행 길이가 서로 다릅니다.");
+			}
+		}
+
+		boolean transposed = rows > columns;
+		int n = transposed ? columns : rows;
+		int m = transposed ? rows : columns;
+		int[] matched = solve(weights, n, m, transposed);
+
+		for (int j = 1; j <= m; j++) {
+			if (matched[j] == 0) {
+				continue;
+			}
+			int row = transposed ? j - 1 : matched[j] - 1;
+			int column = transposed ? matched[j] - 1 : j - 1;
+			if (weights[row][column] > 0) {
+				assignment[row] = column;
+			}
+		}
+		return assignment;
+	}
+
+	/**
+	 * n ≤ m 인 비용 행렬에서 최소 비용 배정을 계산합니다. 비용은 가중치의 음수입니다.
+	 *
+	 * @return 1부터 시작하는 열별로 배정된 1부터 시작하는 행, 배정되지 않은 열은 0
+	 */
+	private static int[] solve(long[][] weights, int n, int m, boolean transposed) {
+		long[] rowPotential = new long[n + 1];
+		long[] columnPotential = new long[m + 1];
+		int[] matched = new int[m + 1];
+		int[] way = new int[m + 1];
+		long[] minimum = new long[m + 1];
+		boolean[] used = new boolean[m + 1];
+
+		for (int i = 1; i <= n; i++) {
+			matched[0] = i;
+			int column = 0;
+			Arrays.fill(minimum, INFINITY);
+			Arrays.fill(used, false);
+
+			do {
+				used[column] = true;
+				int row = matched[column];
+				long delta = INFINITY;
+				int next = 0;
+
+				for (int j = 1; j <= m; j++) {
+					if (used[j]) {
+						continue;
+					}
+					long weight = transposed ? weights[j - 1][row - 1] : weights[row - 1][j - 1];
+					long reduced = -weight - rowPotential[row] - columnPotential[j];
+					if (reduced < minimum[j]) {
+						minimum[j] = reduced;
+						way[j] = column;
+					}
+					if (minimum[j] < delta) {
+						delta = minimum[j];
+						next = j;
+					}
+				}
+
+				for (int j = 0; j <= m; j++) {
+					if (used[j]) {
+						rowPotential[matched[j]] += delta;
+						columnPotential[j] -= delta;
+					} else {
+						minimum[j] -= delta;
+					}
+				}
+				column = next;
+			} while (matched[column] != 0);
+
+			do {
+				int previous = way[column];
+				matched[column] = matched[previous];
+				column = previous;
+			} while (column != 0);
+		}
+		return matched;
+	}
+}
@@ -0,0 +1,123 @@
+package store.buzzbook.coupon.common.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 락을 사용하지 않는 고정 크기의 링 버퍼 클래스입니다.
+ * <p>
+ * 여러 스레드가 동시에 넣고 꺼낼 수 있으며, 각 칸의 순번으로 칸이 비었는지 채워졌는지를 구분합니다. (Vyukov 방식)
+ * 버퍼가 가득 차면 넣기에 실패하고, 비어 있으면 꺼내기에 실패하며 대기하지 않습니다.
+ * </p>
+ *
+ * @param <E> 원소의 타입
+ */
+public class BoundedRingBuffer<E> {
+
+	private final AtomicReferenceArray<E> elements;
+	private final AtomicLongArray sequences;
+	private final int mask;
+	private final AtomicLong enqueuePosition = new AtomicLong();
+	private final AtomicLong dequeuePosition = new AtomicLong();
+
+	/**
+	 * 주어진 용량 이상인 2의 거듭제곱 크기로 링 버퍼를 생성합니다.
+	 *
+	 * @param capacity 최소 용량
+	 * @throws IllegalArgumentException 용량이 1 미만이거나 너무 큰 경우
+	 */
+	public BoundedRingBuffer(int capacity) {
+		if (capacity <= 0 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("링 버퍼의 용량이 올바르지 않습니다.");
+		}
+
+		int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		this.elements = new AtomicReferenceArray<>(size);
+		this.sequences = new AtomicLongArray(size);
+		this.mask = size - 1;
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * 원소를 넣습니다.
+	 *
+	 * @param element 넣을 원소
+	 * @return 넣었으면 true, 버퍼가 가득 차 있으면 false
+	 */
+	public boolean offer(E element) {
+		long position = enqueuePosition.get();
+		int index;
+		while (true) {
+			index = (int)(position & mask);
+			long difference = sequences.get(index) - position;
+			if (difference == 0) {
+				if (enqueuePosition.compareAndSet(position, position + 1)) {
+					break;
+				}
+				position = enqueuePosition.get();
+			} else if (difference < 0) {
+				return false;
+			} else {
+				position = enqueuePosition.get();
+			}
+		}
+
+		elements.set(index, element);
+		sequences.set(index, position + 1);
+		return true;
+	}
+
+	/**
+	 * 원소를 꺼냅니다.
+	 *
+	 * @return 꺼낸 원소, 버퍼가 비어 있으면 null
+	 */
+	public E poll() {
+		long position = dequeuePosition.get();
+		int index;
+		while (true) {
+			index = (int)(position & mask);
+			long difference = sequences.get(index) - (position + 1);
+			if (difference == 0) {
+				if (dequeuePosition.compareAndSet(position, position + 1)) {
+					break;
+				}
+				position = dequeuePosition.get();
+			} else if (difference < 0) {
+				return null;
+			} else {
+				position = dequeuePosition.get();
+			}
+		}
+
+		E element = elements.get(index);
+		elements.set(index, null);
+		sequences.set(index, position + mask + 1);
+		return element;
+	}
+
+	/**
+	 * 현재 들어 있는 원소의 개수를 반환합니다.
+	 * <p>
+	 * 동시에 넣고 꺼내는 중에는 근삿값입니다.
+	 * </p>
+	 *
+	 * @return 원소의 개수
+	 */
+	public int size() {
+		long size = enqueuePosition.get() - dequeuePosition.get();
+		return (int)Math.max(0, Math.min(size, capacity()));
+	}
+
+	/**
+	 * 링 버퍼의 용량을 반환합니다.
+	 *
+	 * @return 용량
+	 */
+	public int capacity() {
+		return mask + 1;
+	}
+}
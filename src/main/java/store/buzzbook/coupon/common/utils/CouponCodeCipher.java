@@ -0,0 +1,212 @@
+package store.buzzbook.coupon.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Objects;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 일련번호를 쿠폰 코드로 암호화하는 클래스입니다.
+ * <p>
+ * 일련번호를 36진수 19자리 공간에서 키가 있는 Feistel 네트워크로 치환하므로, 서로 다른 일련번호는 항상 서로 다른 코드가 됩니다.
+ * 19자리를 앞 9자리와 뒤 10자리로 나누어 라운드마다 번갈아 모듈러 덧셈을 적용하며, 라운드 함수는 HMAC-SHA256 을 사용합니다.
+ * 마지막 20번째 문자는 Luhn mod 36 검사 문자이므로, 한 문자가 바뀌거나 인접한 두 문자가 뒤바뀐 코드는 조회 없이 걸러낼 수 있습니다.
+ * </p>
+ */
+public class CouponCodeCipher {
+
+	/**
+	 * 쿠폰 코드의 전체 길이입니다. (검사 문자 포함)
+	 */
+	public static final int CODE_LENGTH = 20;
+
+	private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+	private static final int RADIX = CHARACTERS.length();
+	private static final int LEFT_LENGTH = 9;
+	private static final int RIGHT_LENGTH = 10;
+	private static final int ROUNDS = 10;
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final long[] POWERS = new long[RIGHT_LENGTH + 1];
+
+	static {
+		POWERS[0] = 1;
+		for (int i = 1; i < POWERS.length; i++) {
+			POWERS[i] = POWERS[i - 1] * RADIX;
+		}
+	}
+
+	private final Mac prototype;
+
+	/**
+	 * 비밀 키로 쿠폰 코드 암호기를 생성합니다.
+	 *
+	 * @param secret 비밀 키
+	 * @throws IllegalArgumentException 비밀 키가 비어 있는 경우
+	 */
+	public CouponCodeCipher(String secret) {
+		if (Objects.isNull(secret) || secret.isBlank()) {
+			throw new IllegalArgumentException("쿠폰 코드 비밀 키가 비어 있습니다.");
+		}
+
+		try {
+			this.prototype = Mac.getInstance(ALGORITHM);
+			this.prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 일련번호를 쿠폰 코드로 암호화합니다.
+	 *
+	 * @param serial 0 이상의 일련번호
+	 * @return 검사 문자를 포함한 20자리 쿠폰 코드
+	 * @throws IllegalArgumentException 일련번호가 음수인 경우
+	 */
+	public String encrypt(long serial) {
+		if (serial < 0) {
+			throw new IllegalArgumentException("일련번호는 0 이상이어야 합니다.");
+		}
+
+		Mac mac = newMac();
+		long left = serial / POWERS[RIGHT_LENGTH];
+		long right = serial % POWERS[RIGHT_LENGTH];
+
+		for (int round = 0; round < ROUNDS; round++) {
+			long modulus = POWERS[roundLength(round)];
+			long mixed = Math.floorMod(left + roundFunction(mac, round, right, modulus), modulus);
+			left = right;
+			right = mixed;
+		}
+
+		char[] code = new char[CODE_LENGTH];
+		writeDigits(code, 0, LEFT_LENGTH, left);
+		writeDigits(code, LEFT_LENGTH, RIGHT_LENGTH, right);
+		code[CODE_LENGTH - 1] = CHARACTERS.charAt(checkDigit(code, CODE_LENGTH - 1));
+		return new String(code);
+	}
+
+	/**
+	 * 쿠폰 코드를 일련번호로 복호화합니다.
+	 *
+	 * @param couponCode 쿠폰 코드
+	 * @return 일련번호
+	 * @throws IllegalArgumentException 쿠폰 코드의 형식이나 검사 문자가 올바르지 않거나, 일련번호 범위를 벗어나는 경우
+	 */
+	public long decrypt(String couponCode) {
+		if (!isWellFormed(couponCode)) {
+			throw new IllegalArgumentException("잘못된 쿠폰 코드입니다.");
+		}
+
+		Mac mac = newMac();
+		long left = readDigits(couponCode, 0, LEFT_LENGTH);
+		long right = readDigits(couponCode, LEFT_LENGTH, RIGHT_LENGTH);
+
+		for (int round = ROUNDS - 1; round >= 0; round--) {
+			long modulus = POWERS[roundLength(round)];
+			long previousRight = left;
+			left = Math.floorMod(right - roundFunction(mac, round, previousRight, modulus), modulus);
+			right = previousRight;
+		}
+
+		if (left > (Long.MAX_VALUE - right) / POWERS[RIGHT_LENGTH]) {
+			throw new IllegalArgumentException("잘못된 쿠폰 코드입니다.");
+		}
+		return left * POWERS[RIGHT_LENGTH] + right;
+	}
+
+	/**
+	 * 쿠폰 코드의 길이, 문자, 검사 문자가 올바른지 확인합니다.
+	 *
+	 * @param couponCode 확인할 쿠폰 코드
+	 * @return 올바른 형식이면 true
+	 */
+	public boolean isWellFormed(String couponCode) {
+		if (!hasValidCharacters(couponCode)) {
+			return false;
+		}
+		return CHARACTERS.indexOf(couponCode.charAt(CODE_LENGTH - 1)) == checkDigit(couponCode.toCharArray(),
+			CODE_LENGTH - 1);
+	}
+
+	/**
+	 * 쿠폰 코드의 길이와 문자만 올바른지 확인합니다.
+	 * <p>
+	 * 검사 문자가 없는 기존 쿠폰 코드도 통과합니다.
+	 * </p>
+	 *
+	 * @param couponCode 확인할 쿠폰 코드
+	 * @return 길이와 문자가 올바르면 true
+	 */
+	public static boolean hasValidCharacters(String couponCode) {
+		if (Objects.isNull(couponCode) || couponCode.length() != CODE_LENGTH) {
+			return false;
+		}
+		for (int i = 0; i < CODE_LENGTH; i++) {
+			if (CHARACTERS.indexOf(couponCode.charAt(i)) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int roundLength(int round) {
+		return round % 2 == 0 ? LEFT_LENGTH : RIGHT_LENGTH;
+	}
+
+	/**
+	 * Mac 은 스레드 안전하지 않으므로 호출마다 초기화된 원본을 복제해 사용합니다.
+	 */
+	private Mac newMac() {
+		try {
+			return (Mac)prototype.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static long roundFunction(Mac mac, int round, long value, long modulus) {
+		mac.update((byte)round);
+		for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+			mac.update((byte)(value >>> shift));
+		}
+		byte[] digest = mac.doFinal();
+
+		long hash = 0;
+		for (int i = 0; i < Long.BYTES; i++) {
+			hash = (hash << Byte.SIZE) | (digest[i] & 0xFF);
+		}
+		return (hash & Long.MAX_VALUE) % modulus;
+	}
+
+	/**
+	 * Luhn mod 36 알고리즘으로 검사 문자의 값을 계산합니다.
+	 */
+	private static int checkDigit(char[] code, int length) {
+		int factor = 2;
+		int sum = 0;
+		for (int i = length - 1; i >= 0; i--) {
+			int addend = factor * CHARACTERS.indexOf(code[i]);
+			sum += addend / RADIX + addend % RADIX;
+			factor = factor == 2 ? 1 : 2;
+		}
+		return (RADIX - sum % RADIX) % RADIX;
+	}
+
+	private static void writeDigits(char[] code, int offset, int length, long value) {
+		for (int i = offset + length - 1; i >= offset; i--) {
+			code[i] = CHARACTERS.charAt((int)(value % RADIX));
+			value /= RADIX;
+		}
+	}
+
+	private static long readDigits(String code, int offset, int length) {
+		long value = 0;
+		for (int i = offset; i < offset + length; i++) {
+			value = value * RADIX + CHARACTERS.indexOf(code.charAt(i));
+		}
+		return value;
+	}
+}
@@ -0,0 +1,121 @@
+package store.buzzbook.coupon.common.utils;
+
+/**
+ * int 키를 박싱 없이 저장하는 오픈 어드레싱 해시 맵 클래스입니다.
+ * <p>
+ * 선형 탐사 방식을 사용하며, 키는 1 이상의 값만 허용합니다. (0은 빈 슬롯을 나타냅니다.)
+ * 삭제를 지원하지 않으며 스레드 안전하지 않으므로, 한 번 구성한 뒤 volatile 필드 등으로 공개해 읽기 전용으로 사용해야 합니다.
+ * </p>
+ *
+ * @param <V> 값의 타입
+ */
+public class IntObjectMap<V> {
+
+	private static final int EMPTY = 0;
+	private static final int MIN_CAPACITY = 8;
+
+	private int[] keys;
+	private Object[] values;
+	private int size;
+	private int mask;
+
+	/**
+	 * 예상 크기에 맞는 용량으로 맵을 생성합니다.
+	 *
+	 * @param expectedSize 예상되는 키의 개수
+	 */
+	public IntObjectMap(int expectedSize) {
+		int capacity = tableSizeFor(Math.max(MIN_CAPACITY, expectedSize * 2));
+		this.keys = new int[capacity];
+		this.values = new Object[capacity];
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * 키에 해당하는 값을 저장합니다.
+	 *
+	 * @param key 1 이상의 키
+	 * @param value 저장할 값
+	 * @return 이전에 저장된 값, 없으면 null
+	 * @throws IllegalArgumentException 키가 1 미만인 경우
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(int key, V value) {
+		if (key <= EMPTY) {
+			throw new IllegalArgumentException("키는 1 이상이어야 합니다.");
+		}
+
+		int index = indexOf(key);
+		if (keys[index] == key) {
+			V previous = (V)values[index];
+			values[index] = value;
+			return previous;
+		}
+
+		keys[index] = key;
+		values[index] = value;
+		if (++size * 2 > keys.length) {
+			resize();
+		}
+		return null;
+	}
+
+	/**
+	 * 키에 해당하는 값을 조회합니다.
+	 *
+	 * @param key 조회할 키
+	 * @return 키에 해당하는 값, 없으면 null
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(int key) {
+		if (key <= EMPTY) {
+			return null;
+		}
+
+		int index = indexOf(key);
+		return keys[index] == key ? (V)values[index] : null;
+	}
+
+	/**
+	 * 저장된 키의 개수를 반환합니다.
+	 *
+	 * @return 키의 개수
+	 */
+	public int size() {
+		return size;
+	}
+
+	private int indexOf(int key) {
+		int index = mix(key) & mask;
+		while (keys[index] != EMPTY && keys[index] != key) {
+			index = (index + 1) & mask;
+		}
+		return index;
+	}
+
+	private void resize() {
+		int[] oldKeys = keys;
+		Object[] oldValues = values;
+
+		keys = new int[oldKeys.length * 2];
+		values = new Object[oldKeys.length * 2];
+		mask = keys.length - 1;
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != EMPTY) {
+				int index = indexOf(oldKeys[i]);
+				keys[index] = oldKeys[i];
+				values[index] = oldValues[i];
+			}
+		}
+	}
+
+	private static int mix(int key) {
+		int hash = key * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+	private static int tableSizeFor(int capacity) {
+		return Integer.highestOneBit(capacity - 1) << 1;
+	}
+}
@@ -20,10 +20,16 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import store.buzzbook.coupon.dto.coupon.CouponLogRequest;
 import store.buzzbook.coupon.dto.coupon.CouponResponse;
+import store.buzzbook.coupon.dto.coupon.CreateBulkCouponRequest;
+import store.buzzbook.coupon.dto.coupon.CreateBulkCouponResponse;
 import store.buzzbook.coupon.dto.coupon.CreateCouponRequest;
 import store.buzzbook.coupon.dto.coupon.CreateCouponResponse;
 import store.buzzbook.coupon.dto.coupon.OrderCouponResponse;
 import store.buzzbook.coupon.dto.coupon.UpdateCouponRequest;
+import store.buzzbook.coupon.dto.coupon.UpdateCouponsRequest;
+import store.buzzbook.coupon.dto.coupon.UpdateCouponsResponse;
+import store.buzzbook.coupon.dto.discount.CartDiscountRequest;
+import store.buzzbook.coupon.dto.discount.CartDiscountResponse;
 import store.buzzbook.coupon.service.CouponService;
 
 /**
@@ -66,6 +72,19 @@ public class CouponController {
 		return ResponseEntity.ok(couponService.getAvailableCoupons(request));
 	}
 
+	/**
+	 * 장바구니에 회원의 쿠폰을 적용했을 때의 할인 금액과 최적 배정을 계산합니다.
+	 *
+	 * @param request 장바구니 항목과 쿠폰 코드를 담은 요청 객체
+	 * @return 적용 가능한 쿠폰, 항목별 할인 금액, 최적 배정을 담은 ResponseEntity 객체
+	 */
+	@PostMapping("/discount")
+	@Transactional(readOnly = true)
+	@Operation(summary = "장바구니 쿠폰 할인 계산", description = "장바구니에 적용 가능한 쿠폰과 할인 금액이 최대가 되는 쿠폰 배정을 계산합니다.")
+	public ResponseEntity<CartDiscountResponse> calculateCartDiscount(@Valid @RequestBody CartDiscountRequest request) {
+		return ResponseEntity.ok(couponService.calculateCartDiscount(request));
+	}
+
 	/**
 	 * 회원이 가진 쿠폰 정보를 조회합니다.
 	 *
@@ -93,6 +112,20 @@ public class CouponController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(couponService.createCoupon(request));
 	}
 
+	/**
+	 * 하나의 쿠폰 정책으로 여러 개의 쿠폰을 한 번에 발급합니다.
+	 *
+	 * @param request 쿠폰 대량 발급 요청 정보를 담은 객체
+	 * @return 발급된 쿠폰 코드와 저장 처리량을 담은 ResponseEntity 객체
+	 */
+	@PostMapping("/bulk")
+	@Transactional
+	@Operation(summary = "쿠폰 대량 발급", description = "하나의 쿠폰 정책으로 여러 개의 쿠폰을 한 번에 발급합니다.")
+	public ResponseEntity<CreateBulkCouponResponse> createBulkCoupons(
+		@Valid @RequestBody CreateBulkCouponRequest request) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(couponService.createBulkCoupons(request));
+	}
+
 	/**
 	 * 쿠폰 상태를 수정합니다.
 	 *
@@ -104,4 +137,19 @@ public class CouponController {
 	public ResponseEntity<CouponResponse> updateCoupon(@RequestBody UpdateCouponRequest request) {
 		return ResponseEntity.ok(couponService.updateCoupon(request));
 	}
+
+	/**
+	 * 주문에 사용하거나 주문 취소로 되돌릴 여러 쿠폰의 상태를 한 번에 변경합니다.
+	 * <p>
+	 * 모든 쿠폰의 상태가 변경되거나 하나도 변경되지 않으며, 변경할 수 없는 쿠폰이 있으면 HTTP 409 와 함께 쿠폰별 처리 결과를 반환합니다.
+	 * </p>
+	 *
+	 * @param request 여러 쿠폰의 상태 업데이트 요청 객체
+	 * @return 쿠폰별 처리 결과를 담은 ResponseEntity 객체
+	 */
+	@PutMapping("/bulk")
+	@Operation(summary = "쿠폰 일괄 수정", description = "여러 쿠폰의 상태를 한 번에 변경합니다.")
+	public ResponseEntity<UpdateCouponsResponse> updateCoupons(@Valid @RequestBody UpdateCouponsRequest request) {
+		return ResponseEntity.ok(couponService.updateCoupons(request));
+	}
 }
@@ -23,7 +23,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import store.buzzbook.coupon.dto.coupon.CouponPoliciesResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyConditionRequest;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyCursorResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyResponse;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTargetRequest;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTargetResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CreateCouponPolicyRequest;
 import store.buzzbook.coupon.dto.couponpolicy.CreateCouponPolicyResponse;
 import store.buzzbook.coupon.dto.couponpolicy.UpdateCouponPolicyRequest;
@@ -60,6 +63,27 @@ public class CouponPolicyController {
 		return ResponseEntity.ok(couponPolicyService.getCouponPoliciesByPaging(pageable, condition));
 	}
 
+	/**
+	 * 조건에 따라 커서 다음의 쿠폰 정책 리스트를 조회합니다.
+	 * <p>
+	 * cursor 파라미터가 있으면 오프셋 페이징 대신 이 메서드가 처리합니다.
+	 * </p>
+	 *
+	 * @param condition 쿠폰 정책 조회 조건
+	 * @param cursor 이전 페이지의 마지막 쿠폰 정책 ID, 첫 페이지는 0
+	 * @param size 조회할 쿠폰 정책 개수
+	 * @return 조회된 쿠폰 정책 리스트와 다음 커서를 담은 응답 객체
+	 */
+	@PostMapping(value = "/condition", params = "cursor")
+	@Transactional(readOnly = true)
+	@Operation(summary = "쿠폰 정책 리스트 커서 조회", description = "조건에 따라 커서 다음의 쿠폰 정책 리스트를 조회합니다.")
+	public ResponseEntity<CouponPolicyCursorResponse> getCouponPoliciesByCursor(
+		@Valid @RequestBody CouponPolicyConditionRequest condition,
+		@RequestParam(defaultValue = "0") int cursor,
+		@RequestParam(defaultValue = "20") int size) {
+		return ResponseEntity.ok(couponPolicyService.getCouponPoliciesByCursor(cursor, size, condition));
+	}
+
 	/**
 	 * 특정 범위의 다운로드 가능한 쿠폰 정책 리스트를 조회합니다.
 	 *
@@ -140,4 +164,18 @@ public class CouponPolicyController {
 	public ResponseEntity<List<CouponPolicyResponse>> getSpecificCouponPolicies(@PathVariable int bookId) {
 		return ResponseEntity.ok(couponPolicyService.getSpecificCoupons(bookId));
 	}
+
+	/**
+	 * 여러 도서와 카테고리에 적용되는 쿠폰 정책 리스트를 한 번에 조회합니다.
+	 *
+	 * @param request 조회할 도서 ID 목록과 카테고리 ID 목록을 담은 요청 객체
+	 * @return 도서 ID별, 카테고리 ID별 쿠폰 정책 리스트를 담은 응답 객체
+	 */
+	@PostMapping("/targets")
+	@Transactional(readOnly = true)
+	@Operation(summary = "도서, 카테고리 쿠폰 리스트 일괄 조회", description = "여러 도서와 카테고리에 적용되는 쿠폰 정책 리스트를 한 번에 조회 합니다.")
+	public ResponseEntity<CouponPolicyTargetResponse> getCouponPoliciesByTargets(
+		@Valid @RequestBody CouponPolicyTargetRequest request) {
+		return ResponseEntity.ok(couponPolicyService.getCouponPoliciesByTargets(request));
+	}
 }
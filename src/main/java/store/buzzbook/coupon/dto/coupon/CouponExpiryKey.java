@@ -0,0 +1,15 @@
+package store.buzzbook.coupon.dto.coupon;
+
+import java.time.LocalDate;
+
+/**
+ * 만료 대상 쿠폰을 (만료일, ID) 순서로 탐색하기 위한 키 데이터를 담는 클래스입니다.
+ *
+ * @param id 쿠폰 ID
+ * @param expireDate 쿠폰 만료일
+ */
+public record CouponExpiryKey(
+	long id,
+	LocalDate expireDate
+) {
+}
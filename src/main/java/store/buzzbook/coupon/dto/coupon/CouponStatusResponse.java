@@ -0,0 +1,15 @@
+package store.buzzbook.coupon.dto.coupon;
+
+import store.buzzbook.coupon.common.constant.CouponStatus;
+
+/**
+ * 쿠폰 코드와 상태 데이터를 담는 클래스입니다.
+ *
+ * @param couponCode 쿠폰 코드
+ * @param status 쿠폰 상태
+ */
+public record CouponStatusResponse(
+	String couponCode,
+	CouponStatus status
+) {
+}
@@ -0,0 +1,44 @@
+package store.buzzbook.coupon.dto.coupon;
+
+import store.buzzbook.coupon.common.constant.CouponStatus;
+
+/**
+ * 쿠폰 하나의 상태 변경 결과 데이터를 담는 클래스입니다.
+ *
+ * @param couponCode 쿠폰 코드
+ * @param previousStatus 변경 전 쿠폰 상태, 쿠폰을 찾을 수 없는 경우 null
+ * @param status 처리 후 쿠폰 상태, 쿠폰을 찾을 수 없는 경우 null
+ * @param outcome 처리 결과
+ */
+public record CouponTransitionResult(
+	String couponCode,
+	CouponStatus previousStatus,
+	CouponStatus status,
+	Outcome outcome
+) {
+	/**
+	 * 쿠폰 상태 변경의 처리 결과입니다.
+	 */
+	public enum Outcome {
+
+		/**
+		 * 상태가 변경되었습니다.
+		 */
+		UPDATED,
+
+		/**
+		 * 쿠폰을 찾을 수 없습니다.
+		 */
+		NOT_FOUND,
+
+		/**
+		 * 쿠폰의 현재 상태가 전이 전 상태가 아니거나, 다른 요청이 먼저 변경했습니다.
+		 */
+		CONFLICT,
+
+		/**
+		 * 변경할 수 있었지만 다른 쿠폰의 실패로 함께 취소되었습니다.
+		 */
+		ROLLED_BACK
+	}
+}
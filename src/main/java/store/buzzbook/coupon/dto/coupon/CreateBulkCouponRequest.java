@@ -0,0 +1,26 @@
+package store.buzzbook.coupon.dto.coupon;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Builder;
+
+/**
+ * 쿠폰 대량 발급 요청 데이터를 담는 클래스입니다.
+ * <p>
+ * 이 클래스는 쿠폰 정책 ID와 발급할 쿠폰 개수를 포함합니다.
+ * </p>
+ *
+ * @param couponPolicyId 쿠폰 정책 ID
+ * @param count 발급할 쿠폰 개수
+ */
+@Builder
+public record CreateBulkCouponRequest(
+
+	@Min(value = 1, message = "쿠폰 정책 ID는 1 이상이어야 합니다.")
+	int couponPolicyId,
+
+	@Min(value = 1, message = "발급할 쿠폰 개수는 1 이상이어야 합니다.")
+	@Max(value = 100_000, message = "한 번에 발급할 수 있는 쿠폰 개수는 100,000 개 이하입니다.")
+	int count
+) {
+}
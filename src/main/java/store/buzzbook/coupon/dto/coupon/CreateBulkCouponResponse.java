@@ -0,0 +1,31 @@
+package store.buzzbook.coupon.dto.coupon;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * 쿠폰 대량 발급 응답 데이터를 담는 클래스입니다.
+ * <p>
+ * 이 클래스는 발급된 쿠폰 코드 목록, 생성일, 만료일과 저장 처리량을 포함합니다.
+ * </p>
+ *
+ * @param couponPolicyId 쿠폰 정책 ID
+ * @param count 발급된 쿠폰 개수
+ * @param createDate 쿠폰 생성일
+ * @param expireDate 쿠폰 만료일
+ * @param couponCodes 발급된 쿠폰 코드 리스트
+ * @param elapsedMillis 저장에 걸린 시간 (밀리초)
+ * @param rowsPerSecond 초당 저장한 쿠폰 개수
+ */
+@Builder
+public record CreateBulkCouponResponse(
+	int couponPolicyId,
+	int count,
+	String createDate,
+	String expireDate,
+	List<String> couponCodes,
+	long elapsedMillis,
+	double rowsPerSecond
+) {
+}
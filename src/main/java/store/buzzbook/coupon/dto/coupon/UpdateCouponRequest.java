@@ -1,6 +1,7 @@
 package store.buzzbook.coupon.dto.coupon;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import store.buzzbook.coupon.common.constant.CouponStatus;
 
 /**
@@ -16,7 +17,7 @@ public record UpdateCouponRequest(
 	@NotBlank(message = "쿠폰 코드는 null 일 수 없습니다.")
 	String couponCode,
 
-	@NotBlank(message = "status 는 null 일 수 없습니다.")
+	@NotNull(message = "status 는 null 일 수 없습니다.")
 	CouponStatus status
 ) {
 }
@@ -0,0 +1,25 @@
+package store.buzzbook.coupon.dto.coupon;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+/**
+ * 여러 쿠폰의 상태를 한 번에 변경하는 요청 데이터를 담는 클래스입니다.
+ * <p>
+ * 이 클래스는 주문 하나에 사용하거나 되돌릴 쿠폰의 상태 업데이트 요청 리스트를 포함합니다.
+ * </p>
+ *
+ * @param coupons 쿠폰 상태 업데이트 요청 리스트
+ */
+@Builder
+public record UpdateCouponsRequest(
+
+	@NotEmpty(message = "쿠폰 상태 업데이트 요청은 비어 있을 수 없습니다.")
+	@Size(max = 100, message = "한 번에 변경할 수 있는 쿠폰은 100 개 이하입니다.")
+	List<@Valid UpdateCouponRequest> coupons
+) {
+}
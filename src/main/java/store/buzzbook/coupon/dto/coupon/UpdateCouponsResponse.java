@@ -0,0 +1,18 @@
+package store.buzzbook.coupon.dto.coupon;
+
+import java.util.List;
+
+/**
+ * 여러 쿠폰의 상태를 한 번에 변경한 결과 데이터를 담는 클래스입니다.
+ * <p>
+ * 모든 쿠폰의 상태가 변경되었거나 하나도 변경되지 않았으며, 요청 순서대로 쿠폰별 처리 결과를 포함합니다.
+ * </p>
+ *
+ * @param applied 모든 쿠폰의 상태가 변경되었으면 true
+ * @param results 쿠폰별 처리 결과 리스트
+ */
+public record UpdateCouponsResponse(
+	boolean applied,
+	List<CouponTransitionResult> results
+) {
+}
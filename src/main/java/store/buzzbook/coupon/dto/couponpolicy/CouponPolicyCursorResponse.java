@@ -0,0 +1,23 @@
+package store.buzzbook.coupon.dto.couponpolicy;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * 커서 기반으로 조회한 쿠폰 정책 응답 데이터를 담는 클래스입니다.
+ * <p>
+ * 이 클래스는 쿠폰 정책 리스트와 다음 페이지를 조회할 때 사용할 커서를 포함합니다.
+ * </p>
+ *
+ * @param content 쿠폰 정책 리스트
+ * @param nextCursor 다음 페이지 커서, 다음 페이지가 없으면 null
+ * @param hasNext 다음 페이지 존재 여부
+ */
+@Builder
+public record CouponPolicyCursorResponse(
+	List<CouponPolicyResponse> content,
+	Integer nextCursor,
+	boolean hasNext
+) {
+}
@@ -2,6 +2,8 @@ package store.buzzbook.coupon.dto.couponpolicy;
 
 import java.time.LocalDate;
 
+import store.buzzbook.coupon.common.constant.CouponScope;
+import store.buzzbook.coupon.common.constant.DiscountType;
 import store.buzzbook.coupon.dto.coupontype.CouponTypeResponse;
 import store.buzzbook.coupon.entity.CouponPolicy;
 
@@ -38,6 +40,22 @@ public record CouponPolicyResponse(
 	boolean isDeleted,
 	CouponTypeResponse couponTypeResponse
 ) {
+	/**
+	 * 쿠폰 정책과 쿠폰 타입의 컬럼 값으로 CouponPolicyResponse 객체를 생성합니다.
+	 * <p>
+	 * 엔티티를 조회하지 않고 응답 객체로 바로 조회하는 프로젝션 쿼리에서 사용합니다.
+	 * </p>
+	 *
+	 * @param couponTypeId 쿠폰 타입의 ID
+	 * @param couponScope 쿠폰 타입의 범위
+	 */
+	public CouponPolicyResponse(int id, String name, DiscountType discountType, double discountRate,
+		int discountAmount, int standardPrice, int maxDiscountAmount, int period, LocalDate startDate,
+		LocalDate endDate, boolean isDeleted, int couponTypeId, CouponScope couponScope) {
+		this(id, name, discountType.toString(), discountRate, discountAmount, standardPrice, maxDiscountAmount,
+			period, startDate, endDate, isDeleted, new CouponTypeResponse(couponTypeId, couponScope.toString()));
+	}
+
 	/**
 	 * CouponPolicy 엔티티를 CouponPolicyResponse 객체로 변환합니다.
 	 *
@@ -0,0 +1,16 @@
+package store.buzzbook.coupon.dto.couponpolicy;
+
+/**
+ * 쿠폰 정책과 적용 대상의 연결 정보를 담는 클래스입니다.
+ * <p>
+ * 이 클래스는 책 ID 또는 카테고리 ID와 쿠폰 정책 ID를 포함합니다.
+ * </p>
+ *
+ * @param targetId 적용 대상 ID (책 ID 또는 카테고리 ID)
+ * @param couponPolicyId 쿠폰 정책 ID
+ */
+public record CouponPolicyTarget(
+	int targetId,
+	int couponPolicyId
+) {
+}
@@ -0,0 +1,25 @@
+package store.buzzbook.coupon.dto.couponpolicy;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 책과 카테고리에 적용되는 쿠폰 정책 일괄 조회 요청 데이터를 담는 클래스입니다.
+ * <p>
+ * 이 클래스는 조회할 책 ID 목록과 카테고리 ID 목록을 포함합니다.
+ * </p>
+ *
+ * @param bookIds 조회할 책 ID 목록
+ * @param categoryIds 조회할 카테고리 ID 목록
+ */
+public record CouponPolicyTargetRequest(
+
+	@NotNull(message = "책 ID 목록은 null 일 수 없습니다.")
+	@Size(max = 200, message = "책 ID 는 한 번에 200개까지 조회할 수 있습니다.")
+	int[] bookIds,
+
+	@NotNull(message = "카테고리 ID 목록은 null 일 수 없습니다.")
+	@Size(max = 200, message = "카테고리 ID 는 한 번에 200개까지 조회할 수 있습니다.")
+	int[] categoryIds
+) {
+}
@@ -0,0 +1,22 @@
+package store.buzzbook.coupon.dto.couponpolicy;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Builder;
+
+/**
+ * 책과 카테고리에 적용되는 쿠폰 정책 일괄 조회 응답 데이터를 담는 클래스입니다.
+ * <p>
+ * 이 클래스는 책 ID별, 카테고리 ID별 다운로드 가능한 쿠폰 정책 리스트를 포함합니다.
+ * </p>
+ *
+ * @param bookCouponPolicies 책 ID별 쿠폰 정책 리스트
+ * @param categoryCouponPolicies 카테고리 ID별 쿠폰 정책 리스트
+ */
+@Builder
+public record CouponPolicyTargetResponse(
+	Map<Integer, List<CouponPolicyResponse>> bookCouponPolicies,
+	Map<Integer, List<CouponPolicyResponse>> categoryCouponPolicies
+) {
+}
@@ -0,0 +1,29 @@
+package store.buzzbook.coupon.dto.discount;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * 장바구니에 적용할 수 있는 쿠폰 데이터를 담는 클래스입니다.
+ * <p>
+ * 책과 카테고리 쿠폰은 적용할 수 있는 항목별 할인 금액을, 글로벌 쿠폰은 장바구니 전체에 대한 할인 금액을 포함합니다.
+ * </p>
+ *
+ * @param couponCode 쿠폰 코드
+ * @param couponPolicyId 쿠폰 정책 ID
+ * @param couponPolicyName 쿠폰 정책 이름
+ * @param couponScope 쿠폰 범위
+ * @param lineDiscounts 항목별 할인 금액 리스트
+ * @param cartDiscount 장바구니 전체에 대한 할인 금액 (글로벌 쿠폰)
+ */
+@Builder
+public record ApplicableCouponResponse(
+	String couponCode,
+	int couponPolicyId,
+	String couponPolicyName,
+	String couponScope,
+	List<LineDiscountResponse> lineDiscounts,
+	long cartDiscount
+) {
+}
@@ -0,0 +1,31 @@
+package store.buzzbook.coupon.dto.discount;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+/**
+ * 장바구니 쿠폰 할인 계산 요청 데이터를 담는 클래스입니다.
+ * <p>
+ * 이 클래스는 장바구니 항목 리스트와 회원이 가진 쿠폰 코드 리스트를 포함합니다.
+ * </p>
+ *
+ * @param items 장바구니 항목 리스트
+ * @param couponCodes 회원이 가진 쿠폰 코드 리스트
+ */
+@Builder
+public record CartDiscountRequest(
+
+	@NotEmpty(message = "장바구니 항목은 비어 있을 수 없습니다.")
+	@Size(max = 100, message = "장바구니 항목은 100 개 이하입니다.")
+	List<@Valid CartItemRequest> items,
+
+	@NotEmpty(message = "쿠폰 코드는 비어 있을 수 없습니다.")
+	@Size(max = 100, message = "쿠폰 코드는 100 개 이하입니다.")
+	List<@NotBlank String> couponCodes
+) {
+}
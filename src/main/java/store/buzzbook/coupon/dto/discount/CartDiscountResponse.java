@@ -0,0 +1,25 @@
+package store.buzzbook.coupon.dto.discount;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * 장바구니 쿠폰 할인 계산 응답 데이터를 담는 클래스입니다.
+ * <p>
+ * 이 클래스는 장바구니 합계 금액, 최적 배정의 총 할인 금액, 적용 가능한 쿠폰 리스트, 최적 배정 리스트를 포함합니다.
+ * </p>
+ *
+ * @param subtotal 장바구니 합계 금액
+ * @param totalDiscount 최적 배정의 총 할인 금액
+ * @param applicableCoupons 적용 가능한 쿠폰 리스트
+ * @param assignments 최적 배정 리스트
+ */
+@Builder
+public record CartDiscountResponse(
+	long subtotal,
+	long totalDiscount,
+	List<ApplicableCouponResponse> applicableCoupons,
+	List<CouponAssignmentResponse> assignments
+) {
+}
@@ -0,0 +1,40 @@
+package store.buzzbook.coupon.dto.discount;
+
+import jakarta.validation.constraints.Min;
+import lombok.Builder;
+
+/**
+ * 장바구니 항목 데이터를 담는 클래스입니다.
+ * <p>
+ * 이 클래스는 책 ID, 카테고리 ID, 단가, 수량을 포함합니다.
+ * </p>
+ *
+ * @param bookId 책 ID
+ * @param categoryId 카테고리 ID
+ * @param price 단가
+ * @param quantity 수량
+ */
+@Builder
+public record CartItemRequest(
+
+	@Min(value = 1, message = "책 ID는 1 이상이어야 합니다.")
+	int bookId,
+
+	@Min(value = 0, message = "카테고리 ID는 0 이상이어야 합니다.")
+	int categoryId,
+
+	@Min(value = 0, message = "가격은 0 이상이어야 합니다.")
+	int price,
+
+	@Min(value = 1, message = "수량은 1 이상이어야 합니다.")
+	int quantity
+) {
+	/**
+	 * 항목의 합계 금액을 반환합니다.
+	 *
+	 * @return 단가와 수량을 곱한 금액
+	 */
+	public long amount() {
+		return (long)price * quantity;
+	}
+}
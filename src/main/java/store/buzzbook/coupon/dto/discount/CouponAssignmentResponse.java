@@ -0,0 +1,15 @@
+package store.buzzbook.coupon.dto.discount;
+
+/**
+ * 최적 배정 결과에서 쿠폰 하나의 배정 데이터를 담는 클래스입니다.
+ *
+ * @param couponCode 쿠폰 코드
+ * @param lineIndex 배정된 장바구니 항목의 인덱스, 장바구니 전체에 배정된 경우 null
+ * @param discount 할인 금액
+ */
+public record CouponAssignmentResponse(
+	String couponCode,
+	Integer lineIndex,
+	long discount
+) {
+}
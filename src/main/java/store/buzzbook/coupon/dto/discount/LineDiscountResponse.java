@@ -0,0 +1,15 @@
+package store.buzzbook.coupon.dto.discount;
+
+/**
+ * 장바구니 항목별 할인 금액 데이터를 담는 클래스입니다.
+ *
+ * @param lineIndex 요청한 장바구니 항목의 인덱스
+ * @param bookId 책 ID
+ * @param discount 할인 금액
+ */
+public record LineDiscountResponse(
+	int lineIndex,
+	int bookId,
+	long discount
+) {
+}
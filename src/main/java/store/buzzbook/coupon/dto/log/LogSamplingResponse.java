@@ -0,0 +1,10 @@
+package store.buzzbook.coupon.dto.log;
+
+import lombok.Builder;
+
+@Builder
+public record LogSamplingResponse(
+	int debugPerSecond,
+	long droppedEvents
+) {
+}
@@ -1,5 +1,7 @@
 package store.buzzbook.coupon.entity;
 
+import static store.buzzbook.coupon.common.constant.IdGeneratorConstant.*;
+
 import java.time.LocalDate;
 
 import jakarta.persistence.Column;
@@ -10,8 +12,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -19,6 +24,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import store.buzzbook.coupon.common.constant.CouponStatus;
+import store.buzzbook.coupon.common.constant.CouponStatusTransition;
 
 /**
  * 쿠폰 엔티티 클래스입니다.
@@ -31,13 +37,20 @@ import store.buzzbook.coupon.common.constant.CouponStatus;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @Entity
+@Table(indexes = {
+	@Index(name = "idx_coupon_code_policy_status", columnList = "coupon_code, coupon_policy_id, status"),
+	@Index(name = "idx_coupon_status_expire_date", columnList = "status, expire_date")
+})
 public class Coupon {
 
 	/**
 	 * 쿠폰의 ID입니다.
 	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "coupon_id_generator")
+	@TableGenerator(name = "coupon_id_generator", table = ID_SEQUENCE_TABLE,
+		pkColumnName = SEQUENCE_NAME_COLUMN, valueColumnName = NEXT_VALUE_COLUMN,
+		pkColumnValue = COUPON_SEQUENCE, allocationSize = COUPON_ALLOCATION_SIZE)
 	private long id;
 
 	/**
@@ -79,10 +92,17 @@ public class Coupon {
 
 	/**
 	 * 쿠폰의 상태를 변경합니다.
+	 * <p>
+	 * {@link CouponStatusTransition} 에 정의된 전이만 허용합니다.
+	 * </p>
 	 *
 	 * @param newStatus 새로운 쿠폰 상태
+	 * @throws IllegalArgumentException 현재 상태에서 새로운 상태로 전이할 수 없는 경우
 	 */
 	public void changeStatus(CouponStatus newStatus) {
+		if (CouponStatusTransition.to(newStatus).source() != this.status) {
+			throw new IllegalArgumentException("허용되지 않은 쿠폰 상태 변경입니다.");
+		}
 		this.status = newStatus;
 	}
 }
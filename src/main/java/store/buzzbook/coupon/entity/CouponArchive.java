@@ -0,0 +1,80 @@
+package store.buzzbook.coupon.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import store.buzzbook.coupon.common.constant.CouponStatus;
+
+/**
+ * 보관된 쿠폰 엔티티 클래스입니다.
+ * <p>
+ * 이 클래스는 쿠폰 테이블에서 옮겨진 사용 완료 또는 만료 상태 쿠폰의 ID, 쿠폰 정책, 쿠폰 코드, 생성일, 만료일, 상태, 보관일을 포함합니다.
+ * 쿠폰의 ID를 그대로 사용하며, 보관된 쿠폰은 상태가 변경되지 않습니다.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Entity
+public class CouponArchive {
+
+	/**
+	 * 보관 전 쿠폰의 ID입니다.
+	 */
+	@Id
+	private long id;
+
+	/**
+	 * 쿠폰 정책을 나타내는 CouponPolicy 객체입니다.
+	 */
+	@NotNull
+	@ManyToOne(optional = false, fetch = FetchType.LAZY)
+	@JoinColumn(name = "coupon_policy_id")
+	private CouponPolicy couponPolicy;
+
+	/**
+	 * 쿠폰 코드입니다.
+	 */
+	@NotNull
+	@Column(unique = true, length = 20)
+	private String couponCode;
+
+	/**
+	 * 쿠폰 생성일입니다.
+	 */
+	@NotNull
+	private LocalDate createDate;
+
+	/**
+	 * 쿠폰 만료일입니다.
+	 */
+	@NotNull
+	private LocalDate expireDate;
+
+	/**
+	 * 보관 시점의 쿠폰 상태입니다.
+	 */
+	@NotNull
+	@Enumerated(value = EnumType.STRING)
+	private CouponStatus status;
+
+	/**
+	 * 쿠폰을 보관한 날짜입니다.
+	 */
+	@NotNull
+	private LocalDate archivedDate;
+}
@@ -1,5 +1,7 @@
 package store.buzzbook.coupon.entity;
 
+import static store.buzzbook.coupon.common.constant.IdGeneratorConstant.*;
+
 import java.time.LocalDate;
 
 import org.hibernate.annotations.ColumnDefault;
@@ -12,7 +14,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -32,13 +37,19 @@ import store.buzzbook.coupon.common.constant.DiscountType;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @Entity
+@Table(indexes = {
+	@Index(name = "idx_coupon_policy_active", columnList = "deleted, coupon_type_id, start_date, end_date")
+})
 public class CouponPolicy {
 
 	/**
 	 * 쿠폰 정책의 ID 입니다.
 	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "coupon_policy_id_generator")
+	@TableGenerator(name = "coupon_policy_id_generator", table = ID_SEQUENCE_TABLE,
+		pkColumnName = SEQUENCE_NAME_COLUMN, valueColumnName = NEXT_VALUE_COLUMN,
+		pkColumnValue = COUPON_POLICY_SEQUENCE, allocationSize = COUPON_POLICY_ALLOCATION_SIZE)
 	private int id;
 
 	/**
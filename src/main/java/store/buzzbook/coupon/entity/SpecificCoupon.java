@@ -1,12 +1,17 @@
 package store.buzzbook.coupon.entity;
 
+import static store.buzzbook.coupon.common.constant.IdGeneratorConstant.*;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.Min;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -25,13 +30,19 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @Entity
+@Table(indexes = {
+	@Index(name = "idx_specific_coupon_book", columnList = "book_id, coupon_policy_id")
+})
 public class SpecificCoupon {
 
 	/**
 	 * 특정 쿠폰의 ID 입니다.
 	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "specific_coupon_id_generator")
+	@TableGenerator(name = "specific_coupon_id_generator", table = ID_SEQUENCE_TABLE,
+		pkColumnName = SEQUENCE_NAME_COLUMN, valueColumnName = NEXT_VALUE_COLUMN,
+		pkColumnValue = SPECIFIC_COUPON_SEQUENCE, allocationSize = COUPON_POLICY_ALLOCATION_SIZE)
 	private int id;
 
 	/**
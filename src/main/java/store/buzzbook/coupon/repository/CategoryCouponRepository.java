@@ -1,14 +1,27 @@
 package store.buzzbook.coupon.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTarget;
 import store.buzzbook.coupon.entity.CategoryCoupon;
 
 /**
  * 카테고리 쿠폰에 대한 JPA 레포지토리 인터페이스입니다.
  * <p>
- * 이 인터페이스는 기본적인 CRUD 메서드를 제공합니다.
+ * 이 인터페이스는 기본적인 CRUD 메서드와 추가적인 커스텀 메서드를 제공합니다.
  * </p>
  */
 public interface CategoryCouponRepository extends JpaRepository<CategoryCoupon, Integer> {
+
+	/**
+	 * 삭제되지 않은 쿠폰 정책에 연결된 모든 카테고리 ID와 쿠폰 정책 ID를 조회합니다.
+	 *
+	 * @return 카테고리 ID와 쿠폰 정책 ID 리스트
+	 */
+	@Query("select new store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTarget(c.categoryId, c.couponPolicy.id) "
+		+ "from CategoryCoupon c where c.couponPolicy.deleted = false")
+	List<CouponPolicyTarget> findAllTargets();
 }
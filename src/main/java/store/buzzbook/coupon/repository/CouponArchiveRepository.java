@@ -0,0 +1,11 @@
+package store.buzzbook.coupon.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import store.buzzbook.coupon.entity.CouponArchive;
+
+/**
+ * 보관된 쿠폰에 대한 JPA 레포지토리 인터페이스입니다.
+ */
+public interface CouponArchiveRepository extends JpaRepository<CouponArchive, Long> {
+}
@@ -0,0 +1,54 @@
+package store.buzzbook.coupon.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import store.buzzbook.coupon.common.constant.CouponStatus;
+
+/**
+ * 쿠폰에 대한 JDBC 기반의 커스텀 레포지토리 인터페이스입니다.
+ * <p>
+ * 이 인터페이스는 영속성 컨텍스트를 거치지 않는 대량 쿠폰 저장 메서드, 쿠폰 보관 메서드와 ID 시퀀스 할당 메서드를 정의합니다.
+ * </p>
+ */
+public interface CouponJdbcRepository {
+
+	/**
+	 * 쿠폰 코드 목록으로 사용 가능한 상태의 쿠폰을 배치 INSERT 문으로 저장합니다.
+	 *
+	 * @param couponPolicyId 쿠폰 정책 ID
+	 * @param couponCodes 저장할 쿠폰 코드 리스트
+	 * @param createDate 쿠폰 생성일
+	 * @param expireDate 쿠폰 만료일
+	 * @param batchSize 한 번에 전송할 INSERT 문의 개수
+	 * @return 저장된 쿠폰의 개수
+	 */
+	int batchInsertCoupons(int couponPolicyId, List<String> couponCodes, LocalDate createDate, LocalDate expireDate,
+		int batchSize);
+
+	/**
+	 * ID 시퀀스 테이블에서 연속된 값의 블록을 할당받습니다.
+	 * <p>
+	 * 호출한 트랜잭션과 분리된 트랜잭션에서 할당하므로, 호출한 트랜잭션이 롤백되어도 할당받은 값은 다시 사용되지 않습니다.
+	 * </p>
+	 *
+	 * @param sequenceName 시퀀스 이름
+	 * @param count 할당받을 값의 개수
+	 * @return 할당받은 블록의 첫 번째 값
+	 */
+	long allocateIds(String sequenceName, int count);
+
+	/**
+	 * 기준 날짜보다 만료일이 이른 주어진 상태의 쿠폰을 만료일 순서대로 최대 개수만큼 보관 테이블로 옮깁니다.
+	 * <p>
+	 * 옮길 쿠폰의 행을 잠근 뒤 보관 테이블에 복사하고 쿠폰 테이블에서 삭제하므로, 호출한 트랜잭션 안에서 실행해야 합니다.
+	 * </p>
+	 *
+	 * @param status 옮길 쿠폰 상태
+	 * @param expiredBefore 기준 날짜 (이 날짜보다 만료일이 이른 쿠폰만 옮김)
+	 * @param archivedDate 보관일
+	 * @param limit 최대 개수
+	 * @return 옮긴 쿠폰의 개수
+	 */
+	int archiveCoupons(CouponStatus status, LocalDate expiredBefore, LocalDate archivedDate, int limit);
+}
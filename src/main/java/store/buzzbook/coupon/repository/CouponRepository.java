@@ -1,26 +1,106 @@
 package store.buzzbook.coupon.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import store.buzzbook.coupon.common.constant.CouponStatus;
+import store.buzzbook.coupon.dto.coupon.CouponExpiryKey;
+import store.buzzbook.coupon.dto.coupon.CouponStatusResponse;
 import store.buzzbook.coupon.entity.Coupon;
 
 /**
  * 쿠폰에 대한 JPA 레포지토리 인터페이스입니다.
  * <p>
- * 이 인터페이스는 기본적인 CRUD 메서드를 제공합니다.
+ * 이 인터페이스는 기본적인 CRUD 메서드와 JDBC 기반의 대량 저장 메서드를 제공합니다.
  * </p>
  */
-public interface CouponRepository extends JpaRepository<Coupon, Long> {
+public interface CouponRepository extends JpaRepository<Coupon, Long>, CouponJdbcRepository {
 
 	Boolean existsByCouponCode(String couponCode);
 
 	Optional<Coupon> findByCouponCode(String couponCode);
 
+	/**
+	 * 쿠폰의 현재 상태가 기대한 상태인 경우에만 상태를 변경합니다.
+	 * <p>
+	 * 하나의 조건부 UPDATE 문으로 확인과 변경을 함께 수행하므로, 같은 쿠폰에 대한 동시 요청 중 하나만 성공합니다.
+	 * </p>
+	 *
+	 * @param couponCode 변경할 쿠폰 코드
+	 * @param expectedStatus 기대하는 현재 상태
+	 * @param newStatus 변경할 상태
+	 * @return 변경된 행의 수 (성공하면 1, 쿠폰이 없거나 상태가 다르면 0)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Coupon c set c.status = :newStatus "
+		+ "where c.couponCode = :couponCode and c.status = :expectedStatus")
+	int compareAndSetStatus(@Param("couponCode") String couponCode,
+		@Param("expectedStatus") CouponStatus expectedStatus, @Param("newStatus") CouponStatus newStatus);
+
+	/**
+	 * 주어진 쿠폰 코드 중 현재 상태가 기대한 상태인 쿠폰의 상태를 한 번에 변경합니다.
+	 *
+	 * @param couponCodes 변경할 쿠폰 코드 목록
+	 * @param expectedStatus 기대하는 현재 상태
+	 * @param newStatus 변경할 상태
+	 * @return 변경된 행의 수
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Coupon c set c.status = :newStatus "
+		+ "where c.couponCode in :couponCodes and c.status = :expectedStatus")
+	int compareAndSetStatusIn(@Param("couponCodes") Collection<String> couponCodes,
+		@Param("expectedStatus") CouponStatus expectedStatus, @Param("newStatus") CouponStatus newStatus);
+
+	/**
+	 * 주어진 쿠폰 코드에 해당하는 쿠폰의 코드와 상태만 조회합니다.
+	 *
+	 * @param couponCodes 조회할 쿠폰 코드 목록
+	 * @return 쿠폰 코드와 상태 리스트
+	 */
+	@Query("select new store.buzzbook.coupon.dto.coupon.CouponStatusResponse(c.couponCode, c.status) "
+		+ "from Coupon c where c.couponCode in :couponCodes")
+	List<CouponStatusResponse> findStatusesByCouponCodeIn(@Param("couponCodes") Collection<String> couponCodes);
+
 	Optional<Coupon> findByCouponCodeAndCouponPolicyId(String couponCode, int couponPolicyId);
 
 	Optional<Coupon> findByCouponCodeAndCouponPolicyIdAndStatus(String couponCode, int couponPolicyId,
 		CouponStatus couponStatus);
+
+	/**
+	 * 기준 날짜 이전에 만료된 상태의 쿠폰을 주어진 (만료일, ID) 이후부터 순서대로 조회합니다.
+	 *
+	 * @param status 조회할 쿠폰 상태
+	 * @param today 기준 날짜 (이 날짜보다 만료일이 이른 쿠폰만 조회)
+	 * @param lastExpireDate 마지막으로 조회한 쿠폰의 만료일
+	 * @param lastId 마지막으로 조회한 쿠폰의 ID
+	 * @param limit 최대 조회 개수
+	 * @return 쿠폰 ID와 만료일 리스트
+	 */
+	@Query("select new store.buzzbook.coupon.dto.coupon.CouponExpiryKey(c.id, c.expireDate) from Coupon c "
+		+ "where c.status = :status and c.expireDate < :today "
+		+ "and (c.expireDate > :lastExpireDate or (c.expireDate = :lastExpireDate and c.id > :lastId)) "
+		+ "order by c.expireDate, c.id")
+	List<CouponExpiryKey> findExpiryKeysAfter(@Param("status") CouponStatus status, @Param("today") LocalDate today,
+		@Param("lastExpireDate") LocalDate lastExpireDate, @Param("lastId") long lastId, Limit limit);
+
+	/**
+	 * 주어진 ID의 쿠폰 중 현재 상태가 기대한 상태인 쿠폰의 상태를 한 번에 변경합니다.
+	 *
+	 * @param ids 변경할 쿠폰 ID 목록
+	 * @param expectedStatus 기대하는 현재 상태
+	 * @param newStatus 변경할 상태
+	 * @return 변경된 행의 수
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Coupon c set c.status = :newStatus where c.id in :ids and c.status = :expectedStatus")
+	int compareAndSetStatusByIdIn(@Param("ids") Collection<Long> ids,
+		@Param("expectedStatus") CouponStatus expectedStatus, @Param("newStatus") CouponStatus newStatus);
 }
@@ -1,14 +1,17 @@
 package store.buzzbook.coupon.repository.couponpolicy;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import store.buzzbook.coupon.common.constant.CouponScope;
+import store.buzzbook.coupon.common.constant.CouponStatus;
+import store.buzzbook.coupon.dto.coupon.CouponResponse;
 import store.buzzbook.coupon.dto.coupon.OrderCouponResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyConditionRequest;
-import store.buzzbook.coupon.entity.CouponPolicy;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyResponse;
 
 /**
  * 쿠폰 정책에 대한 QueryDSL 기반의 커스텀 레포지토리 인터페이스입니다.
@@ -19,28 +22,66 @@ import store.buzzbook.coupon.entity.CouponPolicy;
 public interface CouponPolicyQuerydslRepository {
 
 	/**
-	 * 책 ID에 따라 모든 쿠폰 정책을 조회합니다.
+	 * 조건에 따라 모든 쿠폰 정책을 페이징 처리하여 조회합니다.
 	 *
-	 * @param bookId 책 ID
-	 * @return 책 ID에 해당하는 쿠폰 정책 리스트
+	 * @param condition 쿠폰 정책 조회 조건
+	 * @return 페이징 처리된 쿠폰 정책 응답 리스트
 	 */
-	List<CouponPolicy> findAllByBookId(int bookId);
+	Page<CouponPolicyResponse> findAllByCondition(Pageable pageable, CouponPolicyConditionRequest condition);
 
 	/**
-	 * 쿠폰 범위에 따라 모든 쿠폰 정책을 조회합니다.
+	 * 조건에 따라 주어진 ID 다음의 쿠폰 정책을 ID 순서로 조회합니다.
 	 *
-	 * @param couponScope 쿠폰 범위
-	 * @return 쿠폰 범위에 해당하는 쿠폰 정책 리스트
+	 * @param lastId 이전 페이지의 마지막 쿠폰 정책 ID, 첫 페이지는 0
+	 * @param limit 최대 조회 개수
+	 * @param condition 쿠폰 정책 조회 조건
+	 * @return 쿠폰 정책 응답 리스트
 	 */
-	List<CouponPolicy> findAllByCouponScope(CouponScope couponScope);
+	List<CouponPolicyResponse> findAllByConditionAfter(int lastId, int limit, CouponPolicyConditionRequest condition);
 
 	/**
-	 * 조건에 따라 모든 쿠폰 정책을 페이징 처리하여 조회합니다.
+	 * 쿠폰 ID로 쿠폰 정책을 포함한 쿠폰 정보를 조회합니다.
 	 *
-	 * @param condition 쿠폰 정책 조회 조건
-	 * @return 페이징 처리된 쿠폰 정책 리스트
+	 * @param id 조회할 쿠폰 ID
+	 * @return 조회된 쿠폰 응답 객체, 쿠폰이 없는 경우 null 반환
+	 */
+	CouponResponse findCouponResponseById(long id);
+
+	/**
+	 * 쿠폰 코드로 쿠폰 정책을 포함한 쿠폰 정보를 조회합니다.
+	 *
+	 * @param couponCode 조회할 쿠폰 코드
+	 * @return 조회된 쿠폰 응답 객체, 쿠폰이 없는 경우 null 반환
+	 */
+	CouponResponse findCouponResponseByCouponCode(String couponCode);
+
+	/**
+	 * 여러 쿠폰 코드에 대해 쿠폰 정책을 포함한 쿠폰 정보를 한 번의 쿼리로 조회합니다.
+	 *
+	 * @param couponCodes 조회할 쿠폰 코드 목록
+	 * @param couponStatus 조회할 쿠폰 상태, null 이면 모든 상태
+	 * @return 쿠폰 코드별 쿠폰 응답 객체, 조건에 맞는 쿠폰이 없는 코드는 결과에서 제외
+	 */
+	Map<String, CouponResponse> findCouponResponsesByCouponCodeIn(Collection<String> couponCodes,
+		CouponStatus couponStatus);
+
+	/**
+	 * 쿠폰 ID로 보관된 쿠폰의 쿠폰 정책을 포함한 쿠폰 정보를 조회합니다.
+	 *
+	 * @param id 조회할 쿠폰 ID
+	 * @return 조회된 쿠폰 응답 객체, 보관된 쿠폰이 없는 경우 null 반환
+	 */
+	CouponResponse findArchivedCouponResponseById(long id);
+
+	/**
+	 * 여러 쿠폰 코드에 대해 보관된 쿠폰의 쿠폰 정책을 포함한 쿠폰 정보를 한 번의 쿼리로 조회합니다.
+	 *
+	 * @param couponCodes 조회할 쿠폰 코드 목록
+	 * @param couponStatus 조회할 쿠폰 상태, null 이면 모든 상태
+	 * @return 쿠폰 코드별 쿠폰 응답 객체, 조건에 맞는 보관된 쿠폰이 없는 코드는 결과에서 제외
 	 */
-	Page<CouponPolicy> findAllByCondition(Pageable pageable, CouponPolicyConditionRequest condition);
+	Map<String, CouponResponse> findArchivedCouponResponsesByCouponCodeIn(Collection<String> couponCodes,
+		CouponStatus couponStatus);
 
 	/**
 	 * 쿠폰 코드를 통해 타겟 ID를 포함한 쿠폰 정보를 조회합니다.
@@ -50,4 +91,12 @@ public interface CouponPolicyQuerydslRepository {
 	 */
 	OrderCouponResponse findCouponsWithTargetId(String couponCode);
 
+	/**
+	 * 여러 쿠폰 코드에 대해 타겟 ID를 포함한 사용 가능한 쿠폰 정보를 한 번의 쿼리로 조회합니다.
+	 *
+	 * @param couponCodes 조회할 쿠폰 코드 목록
+	 * @return 요청한 순서대로 조회된 쿠폰 응답 객체 리스트, 사용 가능한 쿠폰이 없는 코드와 중복된 코드는 결과에서 제외
+	 */
+	List<OrderCouponResponse> findCouponsWithTargetIds(Collection<String> couponCodes);
+
 }
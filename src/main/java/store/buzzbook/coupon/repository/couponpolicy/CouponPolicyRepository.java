@@ -1,9 +1,11 @@
 package store.buzzbook.coupon.repository.couponpolicy;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import store.buzzbook.coupon.entity.CouponPolicy;
@@ -39,4 +41,13 @@ public interface CouponPolicyRepository extends JpaRepository<CouponPolicy, Inte
 	 * @return 주어진 이름에 해당하는 쿠폰 정책의 Optional 객체
 	 */
 	Optional<CouponPolicy> findByName(String name);
+
+	/**
+	 * 삭제 여부에 따라 모든 쿠폰 정책을 쿠폰 타입과 함께 조회합니다.
+	 *
+	 * @param deleted 쿠폰 정책의 삭제 여부
+	 * @return 삭제 여부에 해당하는 쿠폰 정책 리스트
+	 */
+	@EntityGraph(attributePaths = "couponType")
+	List<CouponPolicy> findAllByDeleted(boolean deleted);
 }
@@ -2,30 +2,41 @@ package store.buzzbook.coupon.repository.couponpolicy.impl;
 
 import static store.buzzbook.coupon.entity.QCouponPolicy.*;
 
-import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPQLQuery;
 
 import lombok.extern.slf4j.Slf4j;
 import store.buzzbook.coupon.common.constant.CouponScope;
 import store.buzzbook.coupon.common.constant.CouponStatus;
 import store.buzzbook.coupon.common.constant.DiscountType;
+import store.buzzbook.coupon.dto.coupon.CouponResponse;
 import store.buzzbook.coupon.dto.coupon.OrderCouponResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyConditionRequest;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyResponse;
-import store.buzzbook.coupon.entity.Coupon;
 import store.buzzbook.coupon.entity.CouponPolicy;
 import store.buzzbook.coupon.entity.QCategoryCoupon;
 import store.buzzbook.coupon.entity.QCoupon;
+import store.buzzbook.coupon.entity.QCouponArchive;
 import store.buzzbook.coupon.entity.QCouponPolicy;
+import store.buzzbook.coupon.entity.QCouponType;
 import store.buzzbook.coupon.entity.QSpecificCoupon;
 import store.buzzbook.coupon.repository.couponpolicy.CouponPolicyQuerydslRepository;
 
@@ -33,6 +44,9 @@ import store.buzzbook.coupon.repository.couponpolicy.CouponPolicyQuerydslReposit
  * 쿠폰 정책에 대한 QueryDSL 기반의 커스텀 레포지토리 구현 클래스입니다.
  * <p>
  * 이 클래스는 쿠폰 정책의 조회 조건을 처리하고, 다양한 조건에 따라 쿠폰 정책을 검색합니다.
+ * 조회 메서드는 쿠폰 타입을 조인해 필요한 컬럼만 응답 객체의 생성자로 바로 조회하므로,
+ * 엔티티와 프록시가 영속성 컨텍스트에 올라가지 않고 쿠폰 타입을 조회하는 추가 쿼리도 발생하지 않습니다.
+ * 보관된 쿠폰은 쿠폰과 같은 응답 객체로 조회합니다.
  * </p>
  */
 @Slf4j
@@ -48,74 +62,172 @@ public class CouponPolicyQuerydslRepositoryImpl extends QuerydslRepositorySuppor
 	}
 
 	/**
-	 * 책 ID에 따라 모든 쿠폰 정책을 조회합니다.
+	 * 조건에 따라 모든 쿠폰 정책을 페이징 처리하여 조회합니다.
+	 * <p>
+	 * 전체 개수는 COUNT 쿼리로 구하며, 조회한 페이지만으로 전체 개수를 알 수 있는 경우에는 실행하지 않습니다.
+	 * </p>
 	 *
-	 * @param bookId 책 ID
-	 * @return 책 ID에 해당하는 쿠폰 정책 리스트
+	 * @param condition 쿠폰 정책 조회 조건
+	 * @return 페이징 처리된 쿠폰 정책 응답 리스트
 	 */
 	@Override
-	public List<CouponPolicy> findAllByBookId(int bookId) {
+	public Page<CouponPolicyResponse> findAllByCondition(Pageable pageable, CouponPolicyConditionRequest condition) {
 		QCouponPolicy couponPolicy = QCouponPolicy.couponPolicy;
-		QSpecificCoupon specificCoupon = QSpecificCoupon.specificCoupon;
+		QCouponType couponType = QCouponType.couponType;
 
-		return from(specificCoupon)
-			.join(specificCoupon.couponPolicy, couponPolicy)
-			.where(specificCoupon.bookId.eq(bookId),
-				couponPolicy.deleted.eq(false),
-				couponPolicy.startDate.before(LocalDate.now()),
-				couponPolicy.endDate.after(LocalDate.now()))
-			.select(couponPolicy)
+		List<CouponPolicyResponse> couponPolicies = from(couponPolicy)
+			.join(couponPolicy.couponType, couponType)
+			.where(
+				discountTypeEq(condition.discountTypeName()),
+				isDeletedEq(condition.isDeleted()),
+				couponTypeEq(condition.couponTypeName()))
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.select(couponPolicyResponse())
 			.fetch();
+
+		JPQLQuery<Long> countQuery = from(couponPolicy)
+			.join(couponPolicy.couponType, couponType)
+			.where(
+				discountTypeEq(condition.discountTypeName()),
+				isDeletedEq(condition.isDeleted()),
+				couponTypeEq(condition.couponTypeName()))
+			.select(couponPolicy.count());
+
+		return PageableExecutionUtils.getPage(couponPolicies, pageable, countQuery::fetchOne);
 	}
 
 	/**
-	 * 쿠폰 범위에 따라 모든 쿠폰 정책을 조회합니다.
+	 * 조건에 따라 주어진 ID 다음의 쿠폰 정책을 ID 순서로 조회합니다.
+	 * <p>
+	 * 오프셋 대신 ID 조건으로 시작 위치를 찾으므로 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+	 * </p>
 	 *
-	 * @param couponScope 쿠폰 범위
-	 * @return 쿠폰 범위에 해당하는 쿠폰 정책 리스트
+	 * @param lastId 이전 페이지의 마지막 쿠폰 정책 ID, 첫 페이지는 0
+	 * @param limit 최대 조회 개수
+	 * @param condition 쿠폰 정책 조회 조건
+	 * @return 쿠폰 정책 응답 리스트
 	 */
 	@Override
-	public List<CouponPolicy> findAllByCouponScope(CouponScope couponScope) {
+	public List<CouponPolicyResponse> findAllByConditionAfter(int lastId, int limit,
+		CouponPolicyConditionRequest condition) {
 		QCouponPolicy couponPolicy = QCouponPolicy.couponPolicy;
+		QCouponType couponType = QCouponType.couponType;
 
 		return from(couponPolicy)
+			.join(couponPolicy.couponType, couponType)
 			.where(
-				couponPolicy.couponType.name.eq(couponScope),
-				couponPolicy.deleted.eq(false),
-				couponPolicy.startDate.before(LocalDate.now()),
-				couponPolicy.endDate.after(LocalDate.now()))
-			.select(couponPolicy)
+				couponPolicy.id.gt(lastId),
+				discountTypeEq(condition.discountTypeName()),
+				isDeletedEq(condition.isDeleted()),
+				couponTypeEq(condition.couponTypeName()))
+			.orderBy(couponPolicy.id.asc())
+			.limit(limit)
+			.select(couponPolicyResponse())
 			.fetch();
 	}
 
 	/**
-	 * 조건에 따라 모든 쿠폰 정책을 페이징 처리하여 조회합니다.
+	 * 쿠폰 ID로 쿠폰 정책을 포함한 쿠폰 정보를 조회합니다.
 	 *
-	 * @param condition 쿠폰 정책 조회 조건
-	 * @return 페이징 처리된 쿠폰 정책 리스트
+	 * @param id 조회할 쿠폰 ID
+	 * @return 조회된 쿠폰 응답 객체, 쿠폰이 없는 경우 null 반환
 	 */
 	@Override
-	public Page<CouponPolicy> findAllByCondition(Pageable pageable, CouponPolicyConditionRequest condition) {
-		QCouponPolicy couponPolicy = QCouponPolicy.couponPolicy;
+	public CouponResponse findCouponResponseById(long id) {
+		return findCouponResponse(QCoupon.coupon.id.eq(id));
+	}
 
-		List<CouponPolicy> couponPolicies = from(couponPolicy)
-			.where(
-				discountTypeEq(condition.discountTypeName()),
-				isDeletedEq(condition.isDeleted()),
-				couponTypeEq(condition.couponTypeName()))
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
-			.select(couponPolicy)
+	/**
+	 * 쿠폰 코드로 쿠폰 정책을 포함한 쿠폰 정보를 조회합니다.
+	 *
+	 * @param couponCode 조회할 쿠폰 코드
+	 * @return 조회된 쿠폰 응답 객체, 쿠폰이 없는 경우 null 반환
+	 */
+	@Override
+	public CouponResponse findCouponResponseByCouponCode(String couponCode) {
+		return findCouponResponse(QCoupon.coupon.couponCode.eq(couponCode));
+	}
+
+	/**
+	 * 여러 쿠폰 코드에 대해 쿠폰 정책을 포함한 쿠폰 정보를 한 번의 쿼리로 조회합니다.
+	 *
+	 * @param couponCodes 조회할 쿠폰 코드 목록
+	 * @param couponStatus 조회할 쿠폰 상태, null 이면 모든 상태
+	 * @return 쿠폰 코드별 쿠폰 응답 객체, 조건에 맞는 쿠폰이 없는 코드는 결과에서 제외
+	 */
+	@Override
+	public Map<String, CouponResponse> findCouponResponsesByCouponCodeIn(Collection<String> couponCodes,
+		CouponStatus couponStatus) {
+		if (couponCodes.isEmpty()) {
+			return Map.of();
+		}
+
+		QCoupon coupon = QCoupon.coupon;
+		ConstructorExpression<CouponResponse> couponResponse = couponResponse();
+
+		List<Tuple> tuples = from(coupon)
+			.join(coupon.couponPolicy, QCouponPolicy.couponPolicy)
+			.join(QCouponPolicy.couponPolicy.couponType, QCouponType.couponType)
+			.where(coupon.couponCode.in(couponCodes), couponStatusEq(couponStatus))
+			.select(coupon.couponCode, couponResponse)
 			.fetch();
 
-		long total = from(couponPolicy)
-			.where(
-				discountTypeEq(condition.discountTypeName()),
-				isDeletedEq(condition.isDeleted()),
-				couponTypeEq(condition.couponTypeName()))
-			.fetch().size();
+		Map<String, CouponResponse> responses = new LinkedHashMap<>();
+		for (Tuple tuple : tuples) {
+			responses.put(tuple.get(coupon.couponCode), tuple.get(couponResponse));
+		}
+		return responses;
+	}
 
-		return new PageImpl<>(couponPolicies, pageable, total);
+	/**
+	 * 쿠폰 ID로 보관된 쿠폰의 쿠폰 정책을 포함한 쿠폰 정보를 조회합니다.
+	 *
+	 * @param id 조회할 쿠폰 ID
+	 * @return 조회된 쿠폰 응답 객체, 보관된 쿠폰이 없는 경우 null 반환
+	 */
+	@Override
+	public CouponResponse findArchivedCouponResponseById(long id) {
+		QCouponArchive couponArchive = QCouponArchive.couponArchive;
+
+		return from(couponArchive)
+			.join(couponArchive.couponPolicy, QCouponPolicy.couponPolicy)
+			.join(QCouponPolicy.couponPolicy.couponType, QCouponType.couponType)
+			.where(couponArchive.id.eq(id))
+			.select(archivedCouponResponse())
+			.fetchOne();
+	}
+
+	/**
+	 * 여러 쿠폰 코드에 대해 보관된 쿠폰의 쿠폰 정책을 포함한 쿠폰 정보를 한 번의 쿼리로 조회합니다.
+	 *
+	 * @param couponCodes 조회할 쿠폰 코드 목록
+	 * @param couponStatus 조회할 쿠폰 상태, null 이면 모든 상태
+	 * @return 쿠폰 코드별 쿠폰 응답 객체, 조건에 맞는 보관된 쿠폰이 없는 코드는 결과에서 제외
+	 */
+	@Override
+	public Map<String, CouponResponse> findArchivedCouponResponsesByCouponCodeIn(Collection<String> couponCodes,
+		CouponStatus couponStatus) {
+		if (couponCodes.isEmpty()) {
+			return Map.of();
+		}
+
+		QCouponArchive couponArchive = QCouponArchive.couponArchive;
+		ConstructorExpression<CouponResponse> couponResponse = archivedCouponResponse();
+
+		List<Tuple> tuples = from(couponArchive)
+			.join(couponArchive.couponPolicy, QCouponPolicy.couponPolicy)
+			.join(QCouponPolicy.couponPolicy.couponType, QCouponType.couponType)
+			.where(couponArchive.couponCode.in(couponCodes),
+				Objects.nonNull(couponStatus) ? couponArchive.status.eq(couponStatus) : null)
+			.select(couponArchive.couponCode, couponResponse)
+			.fetch();
+
+		Map<String, CouponResponse> responses = new LinkedHashMap<>();
+		for (Tuple tuple : tuples) {
+			responses.put(tuple.get(couponArchive.couponCode), tuple.get(couponResponse));
+		}
+		return responses;
 	}
 
 	/**
@@ -126,56 +238,158 @@ public class CouponPolicyQuerydslRepositoryImpl extends QuerydslRepositorySuppor
 	 */
 	@Override
 	public OrderCouponResponse findCouponsWithTargetId(String couponCode) {
+		List<OrderCouponResponse> responses = findCouponsWithTargetIds(List.of(couponCode));
+
+		return responses.isEmpty() ? null : responses.getFirst();
+	}
+
+	/**
+	 * 여러 쿠폰 코드에 대해 타겟 ID를 포함한 사용 가능한 쿠폰 정보를 한 번의 쿼리로 조회합니다.
+	 * <p>
+	 * 쿠폰 정책과 쿠폰 타입은 inner join 으로, 책과 카테고리 타겟 ID는 left join 으로 함께 조회합니다.
+	 * 결과는 데이터베이스가 반환한 행 순서가 아니라 요청한 쿠폰 코드 순서를 따릅니다.
+	 * </p>
+	 *
+	 * @param couponCodes 조회할 쿠폰 코드 목록
+	 * @return 요청한 순서대로 조회된 쿠폰 응답 객체 리스트, 사용 가능한 쿠폰이 없는 코드와 중복된 코드는 결과에서 제외
+	 */
+	@Override
+	public List<OrderCouponResponse> findCouponsWithTargetIds(Collection<String> couponCodes) {
+		if (couponCodes.isEmpty()) {
+			return List.of();
+		}
+
 		QCouponPolicy couponPolicy = QCouponPolicy.couponPolicy;
+		QCouponType couponType = QCouponType.couponType;
 		QCoupon coupon = QCoupon.coupon;
 		QSpecificCoupon specificCoupon = QSpecificCoupon.specificCoupon;
 		QCategoryCoupon categoryCoupon = QCategoryCoupon.categoryCoupon;
+		ConstructorExpression<CouponPolicyResponse> couponPolicyResponse = couponPolicyResponse();
 
-		Coupon fetchedCoupon = from(coupon)
-			.leftJoin(coupon.couponPolicy, couponPolicy)
+		List<Tuple> tuples = from(coupon)
+			.join(coupon.couponPolicy, couponPolicy)
+			.join(couponPolicy.couponType, couponType)
 			.leftJoin(specificCoupon).on(couponPolicy.id.eq(specificCoupon.couponPolicy.id))
 			.leftJoin(categoryCoupon).on(couponPolicy.id.eq(categoryCoupon.couponPolicy.id))
-			.where(coupon.couponCode.eq(couponCode), coupon.status.eq(CouponStatus.AVAILABLE))
-			.fetchOne();
+			.where(coupon.couponCode.in(couponCodes), coupon.status.eq(CouponStatus.AVAILABLE))
+			.select(coupon.couponCode, coupon.createDate, coupon.expireDate, coupon.status, couponType.name,
+				couponPolicyResponse, specificCoupon.bookId, categoryCoupon.categoryId)
+			.fetch();
+
+		Map<String, OrderCouponResponse> responses = new HashMap<>();
+		for (Tuple tuple : tuples) {
+			String code = tuple.get(coupon.couponCode);
+			if (Objects.isNull(code) || responses.containsKey(code)) {
+				continue;
+			}
 
-		if (Objects.isNull(fetchedCoupon)) {
-			return null;
+			responses.put(code, OrderCouponResponse.builder()
+				.code(code)
+				.createDate(tuple.get(coupon.createDate))
+				.expireDate(tuple.get(coupon.expireDate))
+				.status(tuple.get(coupon.status))
+				.couponPolicyResponse(tuple.get(couponPolicyResponse))
+				.targetId(getTargetId(tuple.get(couponType.name), tuple.get(specificCoupon.bookId),
+					tuple.get(categoryCoupon.categoryId)))
+				.build());
 		}
 
-		return OrderCouponResponse.builder()
-			.code(fetchedCoupon.getCouponCode())
-			.createDate(fetchedCoupon.getCreateDate())
-			.expireDate(fetchedCoupon.getExpireDate())
-			.status(fetchedCoupon.getStatus())
-			.couponPolicyResponse(CouponPolicyResponse.from(fetchedCoupon.getCouponPolicy()))
-			.targetId(getTargetId(fetchedCoupon.getCouponPolicy()))
-			.build();
+		List<OrderCouponResponse> ordered = new ArrayList<>(responses.size());
+		for (String couponCode : couponCodes) {
+			OrderCouponResponse response = responses.remove(couponCode);
+			if (Objects.nonNull(response)) {
+				ordered.add(response);
+			}
+		}
+
+		return ordered;
 	}
 
 	/**
-	 * 쿠폰 정책에 따라 타겟 ID를 조회합니다.
+	 * 조건에 맞는 쿠폰 하나를 쿠폰 정책을 포함한 응답 객체로 조회합니다.
+	 *
+	 * @param predicate 쿠폰 조회 조건
+	 * @return 조회된 쿠폰 응답 객체, 쿠폰이 없는 경우 null 반환
+	 */
+	private CouponResponse findCouponResponse(Predicate predicate) {
+		QCoupon coupon = QCoupon.coupon;
+
+		return from(coupon)
+			.join(coupon.couponPolicy, QCouponPolicy.couponPolicy)
+			.join(QCouponPolicy.couponPolicy.couponType, QCouponType.couponType)
+			.where(predicate)
+			.select(couponResponse())
+			.fetchOne();
+	}
+
+	/**
+	 * 쿠폰 범위에 따라 타겟 ID를 결정합니다.
 	 * <p>
-	 * 쿠폰 정책의 타입에 따라 글로벌, 책, 카테고리의 타겟 ID를 반환합니다.
+	 * 쿠폰 범위에 따라 글로벌, 책, 카테고리의 타겟 ID를 반환합니다.
 	 * </p>
 	 *
-	 * @param policy 타겟 ID를 조회할 쿠폰 정책
+	 * @param couponScope 타겟 ID를 결정할 쿠폰 범위
+	 * @param bookId 함께 조회된 책 ID
+	 * @param categoryId 함께 조회된 카테고리 ID
 	 * @return 타겟 ID, 글로벌 타입의 경우 0, 책이나 카테고리 타입의 경우 해당 ID를 반환, 그 외의 경우 null 반환
 	 */
-	private Integer getTargetId(CouponPolicy policy) {
-		if (policy.getCouponType().getName() == CouponScope.GLOBAL) {
-			return 0;
-		} else if (policy.getCouponType().getName() == CouponScope.BOOK) {
-			return from(QSpecificCoupon.specificCoupon)
-				.where(QSpecificCoupon.specificCoupon.couponPolicy.id.eq(policy.getId()))
-				.select(QSpecificCoupon.specificCoupon.bookId)
-				.fetchOne();
-		} else if (policy.getCouponType().getName() == CouponScope.CATEGORY) {
-			return from(QCategoryCoupon.categoryCoupon)
-				.where(QCategoryCoupon.categoryCoupon.couponPolicy.id.eq(policy.getId()))
-				.select(QCategoryCoupon.categoryCoupon.categoryId)
-				.fetchOne();
-		}
-		return null;
+	private Integer getTargetId(CouponScope couponScope, Integer bookId, Integer categoryId) {
+		return switch (couponScope) {
+			case GLOBAL -> 0;
+			case BOOK -> bookId;
+			case CATEGORY -> categoryId;
+		};
+	}
+
+	/**
+	 * 쿠폰과 조인된 쿠폰 정책, 쿠폰 타입의 컬럼으로 쿠폰 응답 객체를 만드는 프로젝션을 생성합니다.
+	 *
+	 * @return 쿠폰 응답 객체 프로젝션
+	 */
+	private static ConstructorExpression<CouponResponse> couponResponse() {
+		QCoupon coupon = QCoupon.coupon;
+
+		return Projections.constructor(CouponResponse.class,
+			coupon.id, coupon.createDate, coupon.expireDate, coupon.status, couponPolicyResponse());
+	}
+
+	/**
+	 * 보관된 쿠폰과 조인된 쿠폰 정책, 쿠폰 타입의 컬럼으로 쿠폰 응답 객체를 만드는 프로젝션을 생성합니다.
+	 *
+	 * @return 쿠폰 응답 객체 프로젝션
+	 */
+	private static ConstructorExpression<CouponResponse> archivedCouponResponse() {
+		QCouponArchive couponArchive = QCouponArchive.couponArchive;
+
+		return Projections.constructor(CouponResponse.class,
+			couponArchive.id, couponArchive.createDate, couponArchive.expireDate, couponArchive.status,
+			couponPolicyResponse());
+	}
+
+	/**
+	 * 쿠폰 정책과 조인된 쿠폰 타입의 컬럼으로 쿠폰 정책 응답 객체를 만드는 프로젝션을 생성합니다.
+	 *
+	 * @return 쿠폰 정책 응답 객체 프로젝션
+	 */
+	private static ConstructorExpression<CouponPolicyResponse> couponPolicyResponse() {
+		QCouponPolicy couponPolicy = QCouponPolicy.couponPolicy;
+		QCouponType couponType = QCouponType.couponType;
+
+		return Projections.constructor(CouponPolicyResponse.class,
+			couponPolicy.id, couponPolicy.name, couponPolicy.discountType, couponPolicy.discountRate,
+			couponPolicy.discountAmount, couponPolicy.standardPrice, couponPolicy.maxDiscountAmount,
+			couponPolicy.period, couponPolicy.startDate, couponPolicy.endDate, couponPolicy.deleted,
+			couponType.id, couponType.name);
+	}
+
+	/**
+	 * 쿠폰 상태에 따른 조건을 생성합니다.
+	 *
+	 * @param couponStatus 쿠폰 상태
+	 * @return 쿠폰 상태에 따른 조건
+	 */
+	private BooleanExpression couponStatusEq(CouponStatus couponStatus) {
+		return Objects.nonNull(couponStatus) ? QCoupon.coupon.status.eq(couponStatus) : null;
 	}
 
 	/**
@@ -202,12 +416,15 @@ public class CouponPolicyQuerydslRepositoryImpl extends QuerydslRepositorySuppor
 
 	/**
 	 * 쿠폰 타입에 따른 조건을 생성합니다.
+	 * <p>
+	 * 쿠폰 타입이 조인된 쿼리에서 사용합니다.
+	 * </p>
 	 *
 	 * @param couponType 쿠폰 타입
 	 * @return 쿠폰 타입에 따른 조건
 	 */
 	private BooleanExpression couponTypeEq(String couponType) {
 		return !Objects.equals(couponType, "ALL")
-			? couponPolicy.couponType.name.eq(CouponScope.fromString(couponType)) : null;
+			? QCouponType.couponType.name.eq(CouponScope.fromString(couponType)) : null;
 	}
 }
@@ -0,0 +1,203 @@
+package store.buzzbook.coupon.repository.impl;
+
+import static store.buzzbook.coupon.common.constant.IdGeneratorConstant.*;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import store.buzzbook.coupon.common.config.DataSourceConfig;
+import store.buzzbook.coupon.common.constant.CouponStatus;
+import store.buzzbook.coupon.repository.CouponJdbcRepository;
+
+/**
+ * 쿠폰에 대한 JDBC 기반의 커스텀 레포지토리 구현 클래스입니다.
+ * <p>
+ * 이 클래스는 {@link JdbcTemplate} 의 배치 업데이트로 쿠폰을 대량 저장합니다.
+ * 쿠폰 ID는 JPA 와 같은 ID 시퀀스 테이블의 행에서 저장할 개수만큼 한 번에 할당받습니다.
+ * 시퀀스 테이블에는 마지막으로 할당한 ID가 저장되며, 이는 Hibernate 의 pooled-lo 최적화 방식과 같은 규칙입니다.
+ * ID 할당은 주 데이터 소스의 풀을 고갈시키지 않도록 ID 시퀀스 전용 데이터 소스의 트랜잭션에서 수행합니다.
+ * 보관할 쿠폰은 행을 잠그고 ID 목록으로 복사한 뒤 삭제하므로, 복사와 삭제 사이에 상태가 바뀌지 않습니다.
+ * </p>
+ */
+@Repository
+public class CouponJdbcRepositoryImpl implements CouponJdbcRepository {
+
+	private static final String INSERT_COUPON_SQL = "insert into coupon "
+		+ "(id, coupon_policy_id, coupon_code, create_date, expire_date, status) values (?, ?, ?, ?, ?, ?)";
+	private static final String SELECT_ARCHIVE_IDS_SQL = "select id from coupon "
+		+ "where status = ? and expire_date < ? order by expire_date, id limit ? for update";
+	private static final String INSERT_ARCHIVE_SQL = "insert into coupon_archive "
+		+ "(id, coupon_policy_id, coupon_code, create_date, expire_date, status, archived_date) "
+		+ "select id, coupon_policy_id, coupon_code, create_date, expire_date, status, ? from coupon where id in (%s)";
+	private static final String DELETE_ARCHIVED_SQL = "delete from coupon where id in (%s)";
+	private static final String SELECT_SEQUENCE_SQL = "select " + NEXT_VALUE_COLUMN + " from " + ID_SEQUENCE_TABLE
+		+ " where " + SEQUENCE_NAME_COLUMN + " = ? for update";
+	private static final String INSERT_SEQUENCE_SQL = "insert into " + ID_SEQUENCE_TABLE
+		+ " (" + SEQUENCE_NAME_COLUMN + ", " + NEXT_VALUE_COLUMN + ") values (?, 0)";
+	private static final String UPDATE_SEQUENCE_SQL = "update " + ID_SEQUENCE_TABLE + " set " + NEXT_VALUE_COLUMN
+		+ " = ? where " + SEQUENCE_NAME_COLUMN + " = ? and " + NEXT_VALUE_COLUMN + " = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final JdbcTemplate sequenceJdbcTemplate;
+	private final TransactionTemplate sequenceTransactionTemplate;
+
+	/**
+	 * ID 할당을 호출한 트랜잭션과 분리된 트랜잭션에서 수행하도록 설정합니다.
+	 * <p>
+	 * ID 시퀀스 전용 데이터 소스가 없으면 주 데이터 소스의 커넥션을 새로 빌려 사용합니다.
+	 * 이때 호출한 트랜잭션에 묶인 커넥션과 구분되도록 주 데이터 소스를 감싸서 사용합니다.
+	 * </p>
+	 *
+	 * @param jdbcTemplate JDBC 템플릿
+	 * @param idSequenceDataSource ID 시퀀스 전용 데이터 소스
+	 */
+	public CouponJdbcRepositoryImpl(JdbcTemplate jdbcTemplate,
+		@Qualifier(DataSourceConfig.ID_SEQUENCE_DATA_SOURCE) ObjectProvider<DataSource> idSequenceDataSource) {
+		DataSource sequenceDataSource = idSequenceDataSource.getIfAvailable(
+			() -> new DelegatingDataSource(jdbcTemplate.getDataSource()));
+
+		this.jdbcTemplate = jdbcTemplate;
+		this.sequenceJdbcTemplate = new JdbcTemplate(sequenceDataSource);
+		this.sequenceTransactionTemplate = new TransactionTemplate(
+			new DataSourceTransactionManager(sequenceDataSource));
+	}
+
+	/**
+	 * 쿠폰 코드 목록으로 사용 가능한 상태의 쿠폰을 배치 INSERT 문으로 저장합니다.
+	 *
+	 * @param couponPolicyId 쿠폰 정책 ID
+	 * @param couponCodes 저장할 쿠폰 코드 리스트
+	 * @param createDate 쿠폰 생성일
+	 * @param expireDate 쿠폰 만료일
+	 * @param batchSize 한 번에 전송할 INSERT 문의 개수
+	 * @return 저장된 쿠폰의 개수
+	 */
+	@Override
+	public int batchInsertCoupons(int couponPolicyId, List<String> couponCodes, LocalDate createDate,
+		LocalDate expireDate, int batchSize) {
+		if (couponCodes.isEmpty()) {
+			return 0;
+		}
+
+		long firstId = allocateIds(COUPON_SEQUENCE, couponCodes.size());
+		Date sqlCreateDate = Date.valueOf(createDate);
+		Date sqlExpireDate = Date.valueOf(expireDate);
+
+		int inserted = 0;
+		for (int from = 0; from < couponCodes.size(); from += batchSize) {
+			List<String> batch = couponCodes.subList(from, Math.min(from + batchSize, couponCodes.size()));
+			long batchFirstId = firstId + from;
+
+			int[] results = jdbcTemplate.batchUpdate(INSERT_COUPON_SQL, new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					ps.setLong(1, batchFirstId + i);
+					ps.setInt(2, couponPolicyId);
+					ps.setString(3, batch.get(i));
+					ps.setDate(4, sqlCreateDate);
+					ps.setDate(5, sqlExpireDate);
+					ps.setString(6, CouponStatus.AVAILABLE.name());
+				}
+
+				@Override
+				public int getBatchSize() {
+					return batch.size();
+				}
+			});
+
+			for (int count : results) {
+				inserted += count < 0 ? 1 : count;
+			}
+		}
+		return inserted;
+	}
+
+	/**
+	 * 기준 날짜보다 만료일이 이른 주어진 상태의 쿠폰을 만료일 순서대로 최대 개수만큼 보관 테이블로 옮깁니다.
+	 *
+	 * @param status 옮길 쿠폰 상태
+	 * @param expiredBefore 기준 날짜 (이 날짜보다 만료일이 이른 쿠폰만 옮김)
+	 * @param archivedDate 보관일
+	 * @param limit 최대 개수
+	 * @return 옮긴 쿠폰의 개수
+	 * @throws IllegalArgumentException 최대 개수가 1 미만인 경우
+	 */
+	@Override
+	public int archiveCoupons(CouponStatus status, LocalDate expiredBefore, LocalDate archivedDate, int limit) {
+		if (limit <= 0) {
+			throw new IllegalArgumentException("보관할 쿠폰 개수는 1 이상이어야 합니다.");
+		}
+
+		List<Long> ids = jdbcTemplate.queryForList(SELECT_ARCHIVE_IDS_SQL, Long.class, status.name(),
+			Date.valueOf(expiredBefore), limit);
+		if (ids.isEmpty()) {
+			return 0;
+		}
+
+		String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+		Object[] insertArgs = new Object[ids.size() + 1];
+		insertArgs[0] = Date.valueOf(archivedDate);
+		for (int i = 0; i < ids.size(); i++) {
+			insertArgs[i + 1] = ids.get(i);
+		}
+
+		jdbcTemplate.update(INSERT_ARCHIVE_SQL.formatted(placeholders), insertArgs);
+		return jdbcTemplate.update(DELETE_ARCHIVED_SQL.formatted(placeholders), ids.toArray());
+	}
+
+	/**
+	 * ID 시퀀스 테이블에서 연속된 값의 블록을 할당받습니다.
+	 * <p>
+	 * 시퀀스 행이 없으면 새로 만들고, 다른 인스턴스와 동시에 갱신해 실패하면 다시 시도합니다.
+	 * </p>
+	 *
+	 * @param sequenceName 시퀀스 이름
+	 * @param count 할당받을 값의 개수
+	 * @return 할당받은 블록의 첫 번째 값
+	 * @throws IllegalArgumentException 할당받을 값의 개수가 1 미만인 경우
+	 */
+	@Override
+	public long allocateIds(String sequenceName, int count) {
+		if (count <= 0) {
+			throw new IllegalArgumentException("할당받을 ID 개수는 1 이상이어야 합니다.");
+		}
+
+		Long firstId;
+		do {
+			firstId = sequenceTransactionTemplate.execute(status -> {
+				List<Long> values = sequenceJdbcTemplate.queryForList(SELECT_SEQUENCE_SQL, Long.class, sequenceName);
+				if (values.isEmpty()) {
+					try {
+						sequenceJdbcTemplate.update(INSERT_SEQUENCE_SQL, sequenceName);
+					} catch (DuplicateKeyException e) {
+						status.setRollbackOnly();
+					}
+					return null;
+				}
+
+				long lastUsed = values.getFirst();
+				int updated = sequenceJdbcTemplate.update(UPDATE_SEQUENCE_SQL, lastUsed + count, sequenceName, lastUsed);
+				return updated == 1 ? lastUsed + 1 : null;
+			});
+		} while (Objects.isNull(firstId));
+
+		return firstId;
+	}
+}
@@ -7,7 +7,10 @@ import org.springframework.data.domain.Pageable;
 
 import store.buzzbook.coupon.dto.coupon.CouponPoliciesResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyConditionRequest;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyCursorResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyResponse;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTargetRequest;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTargetResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CreateCouponPolicyRequest;
 import store.buzzbook.coupon.dto.couponpolicy.CreateCouponPolicyResponse;
 import store.buzzbook.coupon.dto.couponpolicy.UpdateCouponPolicyRequest;
@@ -29,6 +32,16 @@ public interface CouponPolicyService {
 	 */
 	Page<CouponPolicyResponse> getCouponPoliciesByPaging(Pageable pageable, CouponPolicyConditionRequest condition);
 
+	/**
+	 * 조건에 따라 커서 다음의 쿠폰 정책 리스트를 조회합니다.
+	 *
+	 * @param cursor 이전 페이지의 마지막 쿠폰 정책 ID, 첫 페이지는 0
+	 * @param size 조회할 쿠폰 정책 개수
+	 * @param condition 쿠폰 정책 조회 조건
+	 * @return 쿠폰 정책 응답 리스트와 다음 커서를 담은 응답 객체
+	 */
+	CouponPolicyCursorResponse getCouponPoliciesByCursor(int cursor, int size, CouponPolicyConditionRequest condition);
+
 	/**
 	 * 쿠폰 범위에 따라 모든 쿠폰 정책을 조회합니다.
 	 *
@@ -45,6 +58,14 @@ public interface CouponPolicyService {
 	 */
 	List<CouponPolicyResponse> getSpecificCoupons(int bookId);
 
+	/**
+	 * 여러 책과 카테고리에 적용되는 쿠폰 정책을 한 번에 조회합니다.
+	 *
+	 * @param request 책 ID 목록과 카테고리 ID 목록을 담은 요청 객체
+	 * @return 책 ID별, 카테고리 ID별 쿠폰 정책 응답 객체
+	 */
+	CouponPolicyTargetResponse getCouponPoliciesByTargets(CouponPolicyTargetRequest request);
+
 	/**
 	 * 쿠폰 정책 ID로 쿠폰 정책을 조회합니다.
 	 *
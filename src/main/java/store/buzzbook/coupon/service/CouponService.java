@@ -4,10 +4,16 @@ import java.util.List;
 
 import store.buzzbook.coupon.dto.coupon.CouponLogRequest;
 import store.buzzbook.coupon.dto.coupon.CouponResponse;
+import store.buzzbook.coupon.dto.coupon.CreateBulkCouponRequest;
+import store.buzzbook.coupon.dto.coupon.CreateBulkCouponResponse;
 import store.buzzbook.coupon.dto.coupon.CreateCouponRequest;
 import store.buzzbook.coupon.dto.coupon.CreateCouponResponse;
 import store.buzzbook.coupon.dto.coupon.OrderCouponResponse;
 import store.buzzbook.coupon.dto.coupon.UpdateCouponRequest;
+import store.buzzbook.coupon.dto.coupon.UpdateCouponsRequest;
+import store.buzzbook.coupon.dto.coupon.UpdateCouponsResponse;
+import store.buzzbook.coupon.dto.discount.CartDiscountRequest;
+import store.buzzbook.coupon.dto.discount.CartDiscountResponse;
 
 /**
  * 쿠폰 서비스 인터페이스입니다.
@@ -41,6 +47,14 @@ public interface CouponService {
 	 */
 	List<OrderCouponResponse> getAvailableCoupons(List<CouponLogRequest> request);
 
+	/**
+	 * 장바구니에 회원의 쿠폰을 적용했을 때의 할인 금액과 최적 배정을 계산합니다.
+	 *
+	 * @param request 장바구니 쿠폰 할인 계산 요청 객체
+	 * @return 적용 가능한 쿠폰과 최적 배정을 담은 응답 객체
+	 */
+	CartDiscountResponse calculateCartDiscount(CartDiscountRequest request);
+
 	/**
 	 * 새로운 쿠폰을 생성합니다.
 	 *
@@ -49,6 +63,14 @@ public interface CouponService {
 	 */
 	CreateCouponResponse createCoupon(CreateCouponRequest request);
 
+	/**
+	 * 하나의 쿠폰 정책으로 여러 개의 쿠폰을 발급합니다.
+	 *
+	 * @param request 쿠폰 대량 발급 요청 객체
+	 * @return 발급된 쿠폰 코드와 저장 처리량을 담은 응답 객체
+	 */
+	CreateBulkCouponResponse createBulkCoupons(CreateBulkCouponRequest request);
+
 	/**
 	 * 쿠폰을 업데이트합니다.
 	 *
@@ -56,4 +78,12 @@ public interface CouponService {
 	 * @return 업데이트된 쿠폰 응답 객체
 	 */
 	CouponResponse updateCoupon(UpdateCouponRequest request);
+
+	/**
+	 * 여러 쿠폰의 상태를 한 번에 변경합니다.
+	 *
+	 * @param request 여러 쿠폰의 상태 업데이트 요청 객체
+	 * @return 쿠폰별 처리 결과를 담은 응답 객체
+	 */
+	UpdateCouponsResponse updateCoupons(UpdateCouponsRequest request);
 }
@@ -2,6 +2,7 @@ package store.buzzbook.coupon.service.impl;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -12,13 +13,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import store.buzzbook.coupon.common.cache.CouponPolicyCatalog;
 import store.buzzbook.coupon.common.constant.CouponScope;
 import store.buzzbook.coupon.common.constant.DiscountType;
 import store.buzzbook.coupon.common.exception.CouponPolicyNotFoundException;
 import store.buzzbook.coupon.common.utils.DateFormatter;
 import store.buzzbook.coupon.dto.coupon.CouponPoliciesResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyConditionRequest;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyCursorResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyResponse;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTargetRequest;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTargetResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CreateCouponPolicyRequest;
 import store.buzzbook.coupon.dto.couponpolicy.CreateCouponPolicyResponse;
 import store.buzzbook.coupon.dto.couponpolicy.UpdateCouponPolicyRequest;
@@ -42,10 +47,13 @@ import store.buzzbook.coupon.service.CouponTypeService;
 @RequiredArgsConstructor
 public class CouponPolicyServiceImpl implements CouponPolicyService {
 
+	private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
 	private final CouponPolicyRepository couponPolicyRepository;
 	private final CategoryCouponRepository categoryCouponRepository;
 	private final SpecificCouponRepository specificCouponRepository;
 	private final CouponTypeService couponTypeService;
+	private final CouponPolicyCatalog couponPolicyCatalog;
 
 	/**
 	 * 조건에 따라 페이징 처리된 쿠폰 정책 리스트를 조회합니다.
@@ -58,12 +66,46 @@ public class CouponPolicyServiceImpl implements CouponPolicyService {
 		CouponPolicyConditionRequest condition) {
 		validateRequest(condition);
 
-		Page<CouponPolicy> couponPolicies = couponPolicyRepository.findAllByCondition(pageable, condition);
-		return couponPolicies.map(CouponPolicyResponse::from);
+		return couponPolicyRepository.findAllByCondition(pageable, condition);
+	}
+
+	/**
+	 * 조건에 따라 커서 다음의 쿠폰 정책 리스트를 조회합니다.
+	 * <p>
+	 * 다음 페이지가 있는지 확인하기 위해 요청한 개수보다 하나 더 조회합니다.
+	 * </p>
+	 *
+	 * @param cursor 이전 페이지의 마지막 쿠폰 정책 ID, 첫 페이지는 0
+	 * @param size 조회할 쿠폰 정책 개수
+	 * @param condition 쿠폰 정책 조회 조건
+	 * @return 쿠폰 정책 응답 리스트와 다음 커서를 담은 응답 객체
+	 * @throws IllegalArgumentException 커서나 조회 개수가 올바르지 않은 경우
+	 */
+	@Override
+	public CouponPolicyCursorResponse getCouponPoliciesByCursor(int cursor, int size,
+		CouponPolicyConditionRequest condition) {
+		validateRequest(condition);
+		if (cursor < 0 || size <= 0 || size > MAX_CURSOR_PAGE_SIZE) {
+			throw new IllegalArgumentException("잘못된 커서 조회 요청입니다.");
+		}
+
+		List<CouponPolicyResponse> couponPolicies = couponPolicyRepository.findAllByConditionAfter(cursor, size + 1,
+			condition);
+		boolean hasNext = couponPolicies.size() > size;
+		List<CouponPolicyResponse> content = hasNext ? couponPolicies.subList(0, size) : couponPolicies;
+
+		return CouponPolicyCursorResponse.builder()
+			.content(content)
+			.nextCursor(hasNext ? content.getLast().id() : null)
+			.hasNext(hasNext)
+			.build();
 	}
 
 	/**
 	 * 쿠폰 범위에 따라 모든 쿠폰 정책을 조회합니다.
+	 * <p>
+	 * 쿠폰 정책은 데이터베이스 대신 {@link CouponPolicyCatalog} 에서 조회합니다.
+	 * </p>
 	 *
 	 * @param scope 쿠폰 범위 리스트
 	 * @return 쿠폰 범위에 따른 쿠폰 정책 응답 리스트
@@ -81,21 +123,7 @@ public class CouponPolicyServiceImpl implements CouponPolicyService {
 
 		for (String scopeName : scope) {
 			CouponScope couponScope = CouponScope.fromString(scopeName);
-			if (couponScope != null) {
-				List<CouponPolicyResponse> filteredPolicies = couponPolicyRepository
-					.findAllByCouponScope(couponScope)
-					.stream()
-					.map(CouponPolicyResponse::from)
-					.toList();
-
-				if (couponScope == CouponScope.GLOBAL) {
-					filteredPolicies = filteredPolicies.stream()
-						.filter(policy -> !policy.name().contains("생일"))
-						.toList();
-				}
-
-				policiesMap.put(couponScope, filteredPolicies);
-			}
+			policiesMap.put(couponScope, couponPolicyCatalog.getActivePolicies(couponScope));
 		}
 
 		return CouponPoliciesResponse.builder()
@@ -107,6 +135,9 @@ public class CouponPolicyServiceImpl implements CouponPolicyService {
 
 	/**
 	 * 특정 책에 대한 모든 쿠폰 정책을 조회합니다.
+	 * <p>
+	 * 쿠폰 정책은 데이터베이스 대신 {@link CouponPolicyCatalog} 의 역색인에서 조회합니다.
+	 * </p>
 	 *
 	 * @param bookId 책 ID
 	 * @return 특정 책에 대한 쿠폰 정책 응답 리스트
@@ -115,9 +146,38 @@ public class CouponPolicyServiceImpl implements CouponPolicyService {
 	public List<CouponPolicyResponse> getSpecificCoupons(int bookId) {
 		validateId(bookId);
 
-		return couponPolicyRepository.findAllByBookId(bookId).stream()
-			.map(CouponPolicyResponse::from)
-			.toList();
+		return couponPolicyCatalog.getBookPolicies(bookId);
+	}
+
+	/**
+	 * 여러 책과 카테고리에 적용되는 쿠폰 정책을 한 번에 조회합니다.
+	 * <p>
+	 * 쿠폰 정책은 데이터베이스 대신 {@link CouponPolicyCatalog} 의 역색인에서 조회합니다.
+	 * </p>
+	 *
+	 * @param request 책 ID 목록과 카테고리 ID 목록을 담은 요청 객체
+	 * @return 책 ID별, 카테고리 ID별 쿠폰 정책 응답 객체
+	 */
+	@Override
+	public CouponPolicyTargetResponse getCouponPoliciesByTargets(CouponPolicyTargetRequest request) {
+		validateRequest(request);
+
+		Map<Integer, List<CouponPolicyResponse>> bookCouponPolicies = new LinkedHashMap<>();
+		for (int bookId : request.bookIds()) {
+			validateId(bookId);
+			bookCouponPolicies.put(bookId, couponPolicyCatalog.getBookPolicies(bookId));
+		}
+
+		Map<Integer, List<CouponPolicyResponse>> categoryCouponPolicies = new LinkedHashMap<>();
+		for (int categoryId : request.categoryIds()) {
+			validateId(categoryId);
+			categoryCouponPolicies.put(categoryId, couponPolicyCatalog.getCategoryPolicies(categoryId));
+		}
+
+		return CouponPolicyTargetResponse.builder()
+			.bookCouponPolicies(bookCouponPolicies)
+			.categoryCouponPolicies(categoryCouponPolicies)
+			.build();
 	}
 
 	/**
@@ -179,6 +239,8 @@ public class CouponPolicyServiceImpl implements CouponPolicyService {
 			categoryCouponRepository.save(categoryCoupon);
 		}
 
+		couponPolicyCatalog.invalidate();
+
 		return CreateCouponPolicyResponse.from(savedPolicy);
 	}
 
@@ -196,6 +258,7 @@ public class CouponPolicyServiceImpl implements CouponPolicyService {
 
 		CouponPolicy couponPolicy = getCouponPolicyById(id);
 		couponPolicy.changeEndDate(request.endDate());
+		couponPolicyCatalog.invalidate();
 
 		return CouponPolicyResponse.from(couponPolicy);
 	}
@@ -215,6 +278,7 @@ public class CouponPolicyServiceImpl implements CouponPolicyService {
 
 		CouponPolicy couponPolicy = getCouponPolicyById(id);
 		couponPolicy.delete();
+		couponPolicyCatalog.invalidate();
 	}
 
 	/**
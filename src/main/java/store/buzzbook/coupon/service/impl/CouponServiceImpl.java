@@ -2,22 +2,42 @@ package store.buzzbook.coupon.service.impl;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import store.buzzbook.coupon.common.constant.CouponStatus;
+import store.buzzbook.coupon.common.constant.CouponStatusTransition;
+import store.buzzbook.coupon.common.discount.CartDiscountCalculator;
 import store.buzzbook.coupon.common.exception.CouponNotFoundException;
-import store.buzzbook.coupon.common.utils.CodeCreator;
+import store.buzzbook.coupon.common.exception.CouponStatusConflictException;
+import store.buzzbook.coupon.common.exception.CouponTransitionConflictException;
+import store.buzzbook.coupon.common.generator.CouponCodeGenerator;
+import store.buzzbook.coupon.common.generator.CouponCodePool;
 import store.buzzbook.coupon.dto.coupon.CouponLogRequest;
 import store.buzzbook.coupon.dto.coupon.CouponResponse;
+import store.buzzbook.coupon.dto.coupon.CouponTransitionResult;
+import store.buzzbook.coupon.dto.coupon.CreateBulkCouponRequest;
+import store.buzzbook.coupon.dto.coupon.CreateBulkCouponResponse;
 import store.buzzbook.coupon.dto.coupon.CreateCouponRequest;
 import store.buzzbook.coupon.dto.coupon.CreateCouponResponse;
 import store.buzzbook.coupon.dto.coupon.OrderCouponResponse;
 import store.buzzbook.coupon.dto.coupon.UpdateCouponRequest;
+import store.buzzbook.coupon.dto.coupon.UpdateCouponsRequest;
+import store.buzzbook.coupon.dto.coupon.UpdateCouponsResponse;
+import store.buzzbook.coupon.dto.discount.CartDiscountRequest;
+import store.buzzbook.coupon.dto.discount.CartDiscountResponse;
 import store.buzzbook.coupon.entity.Coupon;
 import store.buzzbook.coupon.entity.CouponPolicy;
 import store.buzzbook.coupon.repository.CouponRepository;
@@ -31,16 +51,26 @@ import store.buzzbook.coupon.service.CouponService;
  * 쿠폰의 생성, 조회, 수정과 관련된 비즈니스 로직을 처리합니다.
  * </p>
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CouponServiceImpl implements CouponService {
 
+	private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+	private static final int BULK_INSERT_CHUNK_SIZE = 1_000;
+
 	private final CouponRepository couponRepository;
 	private final CouponPolicyService couponPolicyService;
 	private final CouponPolicyRepository couponPolicyRepository;
+	private final CouponCodeGenerator couponCodeGenerator;
+	private final CouponCodePool couponCodePool;
+	private final CartDiscountCalculator cartDiscountCalculator;
 
 	/**
 	 * 쿠폰 ID로 쿠폰을 조회합니다.
+	 * <p>
+	 * 쿠폰 테이블에 없으면 보관된 쿠폰에서 조회합니다.
+	 * </p>
 	 *
 	 * @param id 쿠폰 ID
 	 * @return 조회된 쿠폰 응답 객체
@@ -50,13 +80,24 @@ public class CouponServiceImpl implements CouponService {
 	public CouponResponse getCoupon(long id) {
 		validateId(id);
 
-		Coupon coupon = couponRepository.findById(id).orElseThrow(CouponNotFoundException::new);
+		CouponResponse response = couponPolicyRepository.findCouponResponseById(id);
+		if (Objects.isNull(response)) {
+			response = couponPolicyRepository.findArchivedCouponResponseById(id);
+		}
+		if (Objects.isNull(response)) {
+			throw new CouponNotFoundException();
+		}
 
-		return CouponResponse.from(coupon);
+		return response;
 	}
 
 	/**
 	 * 주어진 요청 목록에 따라 쿠폰 상태를 기준으로 모든 쿠폰을 조회합니다.
+	 * <p>
+	 * 중복된 쿠폰 코드는 제외하고, 요청 순서를 유지한 채 IN 절 쿼리로 한 번에 조회합니다.
+	 * 형식이 잘못된 쿠폰 코드가 있으면 조회하지 않고 예외를 발생시킵니다.
+	 * 쿠폰 테이블에 없는 쿠폰 코드는 보관된 쿠폰에서 조회하며, 보관된 쿠폰은 사용 가능한 상태가 아니므로 사용 가능한 쿠폰을 조회할 때는 건너뜁니다.
+	 * </p>
 	 *
 	 * @param request 쿠폰 상태 조회 요청 객체 리스트
 	 * @return 조회된 쿠폰 응답 객체 리스트
@@ -72,25 +113,40 @@ public class CouponServiceImpl implements CouponService {
 			throw new IllegalArgumentException("couponStatusName 이 null 입니다.");
 		}
 
-		List<CouponResponse> responses = new ArrayList<>();
+		CouponStatus couponStatus = couponStatusName.equals("all") ? null : CouponStatus.fromString(couponStatusName);
 
-		if (couponStatusName.equals("all")) {
-			for (CouponLogRequest couponLogRequest : request) {
-				Coupon coupon = couponRepository.findByCouponCodeAndCouponPolicyId(
-						couponLogRequest.couponCode(),
-						couponLogRequest.couponPolicyId())
-					.orElseThrow(CouponNotFoundException::new);
-				responses.add(CouponResponse.from(coupon));
+		Map<String, CouponLogRequest> distinctRequests = new LinkedHashMap<>();
+		for (CouponLogRequest couponLogRequest : request) {
+			if (!mightExist(couponLogRequest.couponCode())) {
+				throw new CouponNotFoundException();
 			}
-		} else {
-			for (CouponLogRequest couponLogRequest : request) {
-				Coupon coupon = couponRepository.findByCouponCodeAndCouponPolicyIdAndStatus(
-						couponLogRequest.couponCode(),
-						couponLogRequest.couponPolicyId(),
-						CouponStatus.fromString(couponStatusName))
-					.orElseThrow(CouponNotFoundException::new);
-				responses.add(CouponResponse.from(coupon));
+			distinctRequests.putIfAbsent(couponLogRequest.couponCode(), couponLogRequest);
+		}
+
+		Map<String, CouponResponse> fetchedCoupons = new HashMap<>();
+		List<String> couponCodes = new ArrayList<>(distinctRequests.keySet());
+		for (int from = 0; from < couponCodes.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+			List<String> chunk = couponCodes.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, couponCodes.size()));
+			fetchedCoupons.putAll(couponPolicyRepository.findCouponResponsesByCouponCodeIn(chunk, couponStatus));
+		}
+
+		if (couponStatus != CouponStatus.AVAILABLE) {
+			List<String> archivedCodes = couponCodes.stream().filter(code -> !fetchedCoupons.containsKey(code)).toList();
+			for (int from = 0; from < archivedCodes.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+				List<String> chunk = archivedCodes.subList(from,
+					Math.min(from + IN_CLAUSE_CHUNK_SIZE, archivedCodes.size()));
+				fetchedCoupons.putAll(couponPolicyRepository.findArchivedCouponResponsesByCouponCodeIn(chunk,
+					couponStatus));
+			}
+		}
+
+		List<CouponResponse> responses = new ArrayList<>(distinctRequests.size());
+		for (CouponLogRequest couponLogRequest : distinctRequests.values()) {
+			CouponResponse coupon = fetchedCoupons.get(couponLogRequest.couponCode());
+			if (Objects.isNull(coupon) || coupon.couponPolicyResponse().id() != couponLogRequest.couponPolicyId()) {
+				throw new CouponNotFoundException();
 			}
+			responses.add(coupon);
 		}
 
 		return responses;
@@ -98,6 +154,9 @@ public class CouponServiceImpl implements CouponService {
 
 	/**
 	 * 주어진 요청 목록에 따라 사용 가능한 쿠폰 정보를 조회합니다.
+	 * <p>
+	 * 중복된 쿠폰 코드와 형식이 잘못된 쿠폰 코드는 제외하고, 쿠폰 정책과 타겟 ID를 IN 절 쿼리로 한 번에 조회합니다.
+	 * </p>
 	 *
 	 * @param request 쿠폰 상태 조회 요청 객체 리스트
 	 * @return 조회된 사용 가능한 쿠폰 응답 객체 리스트
@@ -108,16 +167,28 @@ public class CouponServiceImpl implements CouponService {
 			return new ArrayList<>();
 		}
 
-		List<OrderCouponResponse> responses = new ArrayList<>();
+		return findAvailableCoupons(request.stream().map(CouponLogRequest::couponCode).toList());
+	}
 
-		for (CouponLogRequest couponLogRequest : request) {
-			OrderCouponResponse coupon = couponPolicyRepository.findCouponsWithTargetId(couponLogRequest.couponCode());
-			if (Objects.nonNull(coupon)) {
-				responses.add(coupon);
-			}
+	/**
+	 * 장바구니에 회원의 쿠폰을 적용했을 때의 할인 금액과 최적 배정을 계산합니다.
+	 * <p>
+	 * 사용 가능한 쿠폰은 {@link #getAvailableCoupons(List)} 와 같은 방식으로 한 번에 조회합니다.
+	 * </p>
+	 *
+	 * @param request 장바구니 쿠폰 할인 계산 요청 객체
+	 * @return 적용 가능한 쿠폰과 최적 배정을 담은 응답 객체
+	 * @throws IllegalArgumentException 요청 객체가 null 인 경우
+	 */
+	@Override
+	public CartDiscountResponse calculateCartDiscount(CartDiscountRequest request) {
+		if (Objects.isNull(request) || Objects.isNull(request.items()) || Objects.isNull(request.couponCodes())) {
+			throw new IllegalArgumentException("장바구니 쿠폰 할인 계산 요청을 찾을 수 없습니다.");
 		}
 
-		return responses;
+		List<OrderCouponResponse> coupons = findAvailableCoupons(request.couponCodes());
+
+		return cartDiscountCalculator.calculate(request.items(), coupons, LocalDate.now());
 	}
 
 	/**
@@ -134,7 +205,7 @@ public class CouponServiceImpl implements CouponService {
 		}
 
 		CouponPolicy couponPolicy = couponPolicyService.getCouponPolicyById(request.couponPolicyId());
-		String couponCode = CodeCreator.createCode();
+		String couponCode = couponCodePool.take();
 		LocalDate now = LocalDate.now();
 
 		Coupon coupon = Coupon.builder()
@@ -148,13 +219,65 @@ public class CouponServiceImpl implements CouponService {
 		return CreateCouponResponse.from(couponRepository.save(coupon));
 	}
 
+	/**
+	 * 하나의 쿠폰 정책으로 여러 개의 쿠폰을 발급합니다.
+	 * <p>
+	 * 쿠폰 정책은 한 번만 조회하고, 쿠폰 코드를 청크 단위로 생성해 배치 INSERT 문으로 저장합니다.
+	 * </p>
+	 *
+	 * @param request 쿠폰 대량 발급 요청 객체
+	 * @return 발급된 쿠폰 코드와 저장 처리량을 담은 응답 객체
+	 * @throws IllegalArgumentException 요청 객체가 null 이거나 발급 개수가 1 미만인 경우
+	 */
+	@Override
+	public CreateBulkCouponResponse createBulkCoupons(CreateBulkCouponRequest request) {
+		if (Objects.isNull(request) || request.count() <= 0) {
+			throw new IllegalArgumentException("쿠폰 대량 발급 요청을 찾을 수 없습니다.");
+		}
+
+		CouponPolicy couponPolicy = couponPolicyService.getCouponPolicyById(request.couponPolicyId());
+		LocalDate now = LocalDate.now();
+		LocalDate expireDate = now.plusDays(couponPolicy.getPeriod());
+
+		long startTime = System.nanoTime();
+		List<String> couponCodes = new ArrayList<>(request.count());
+
+		while (couponCodes.size() < request.count()) {
+			int chunkSize = Math.min(BULK_INSERT_CHUNK_SIZE, request.count() - couponCodes.size());
+			List<String> chunk = couponCodeGenerator.createCodes(chunkSize);
+
+			couponRepository.batchInsertCoupons(couponPolicy.getId(), chunk, now, expireDate, BULK_INSERT_CHUNK_SIZE);
+			couponCodes.addAll(chunk);
+		}
+
+		long elapsedNanos = Math.max(1, System.nanoTime() - startTime);
+		double rowsPerSecond = couponCodes.size() * (double)TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+		log.info("Issued {} coupons for policy {} in {} ms ({} rows/s)", couponCodes.size(), couponPolicy.getId(),
+			TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Math.round(rowsPerSecond));
+
+		return CreateBulkCouponResponse.builder()
+			.couponPolicyId(couponPolicy.getId())
+			.count(couponCodes.size())
+			.createDate(now.toString())
+			.expireDate(expireDate.toString())
+			.couponCodes(couponCodes)
+			.elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+			.rowsPerSecond(rowsPerSecond)
+			.build();
+	}
+
 	/**
 	 * 쿠폰을 업데이트합니다.
+	 * <p>
+	 * 변경할 상태로 {@link CouponStatusTransition} 을 찾아, 현재 상태가 전이 전 상태인 경우에만 조건부 UPDATE 문으로 변경합니다.
+	 * 변경된 행이 없으면 쿠폰의 존재 여부를 확인해 찾을 수 없는 경우와 다른 요청이 먼저 변경한 경우를 구분합니다.
+	 * </p>
 	 *
 	 * @param request 쿠폰 업데이트 요청 객체
 	 * @return 업데이트된 쿠폰 응답 객체
 	 * @throws CouponNotFoundException 쿠폰을 찾을 수 없는 경우
-	 * @throws IllegalArgumentException 요청 객체가 null 인 경우
+	 * @throws CouponStatusConflictException 쿠폰의 현재 상태가 전이 전 상태가 아닌 경우
+	 * @throws IllegalArgumentException 요청 객체가 null 이거나 허용되지 않은 상태로 변경하려는 경우
 	 */
 	@Transactional
 	@Override
@@ -163,16 +286,162 @@ public class CouponServiceImpl implements CouponService {
 			throw new IllegalArgumentException("쿠폰 로그 수정 요청을 찾을 수 없습니다.");
 		}
 
-		if (Boolean.FALSE.equals(couponRepository.existsByCouponCode(request.couponCode()))) {
+		CouponStatusTransition transition = CouponStatusTransition.to(request.status());
+
+		if (!mightExist(request.couponCode())) {
+			throw new CouponNotFoundException();
+		}
+
+		int updated = couponRepository.compareAndSetStatus(request.couponCode(), transition.source(),
+			transition.target());
+		if (updated == 0) {
+			if (Boolean.FALSE.equals(couponRepository.existsByCouponCode(request.couponCode()))) {
+				throw new CouponNotFoundException();
+			}
+			throw new CouponStatusConflictException();
+		}
+
+		CouponResponse response = couponPolicyRepository.findCouponResponseByCouponCode(request.couponCode());
+		if (Objects.isNull(response)) {
 			throw new CouponNotFoundException();
 		}
 
-		Coupon coupon = couponRepository.findByCouponCode(request.couponCode())
-			.orElseThrow(CouponNotFoundException::new);
+		return response;
+	}
+
+	/**
+	 * 여러 쿠폰의 상태를 한 번에 변경합니다.
+	 * <p>
+	 * 쿠폰 코드와 상태를 한 번에 조회해 모든 쿠폰이 전이 전 상태인지 먼저 확인하고,
+	 * 변경할 상태마다 하나의 조건부 UPDATE 문으로 변경합니다.
+	 * 변경할 수 없는 쿠폰이 있거나 조회 이후 다른 요청이 먼저 변경해 변경된 행의 수가 맞지 않으면,
+	 * 쿠폰별 처리 결과를 담은 예외를 발생시켜 모든 변경을 롤백합니다.
+	 * </p>
+	 *
+	 * @param request 여러 쿠폰의 상태 업데이트 요청 객체
+	 * @return 쿠폰별 처리 결과를 담은 응답 객체
+	 * @throws CouponTransitionConflictException 상태를 변경할 수 없는 쿠폰이 있는 경우
+	 * @throws IllegalArgumentException 요청이 비어 있거나, 중복된 쿠폰 코드 또는 허용되지 않은 상태가 있는 경우
+	 */
+	@Transactional
+	@Override
+	public UpdateCouponsResponse updateCoupons(UpdateCouponsRequest request) {
+		if (Objects.isNull(request) || Objects.isNull(request.coupons()) || request.coupons().isEmpty()) {
+			throw new IllegalArgumentException("쿠폰 일괄 수정 요청을 찾을 수 없습니다.");
+		}
+
+		Map<String, CouponStatusTransition> transitions = new LinkedHashMap<>();
+		for (UpdateCouponRequest couponRequest : request.coupons()) {
+			if (Objects.isNull(couponRequest) || Objects.isNull(couponRequest.couponCode())) {
+				throw new IllegalArgumentException("쿠폰 로그 수정 요청을 찾을 수 없습니다.");
+			}
+			CouponStatusTransition transition = CouponStatusTransition.to(couponRequest.status());
+			if (Objects.nonNull(transitions.putIfAbsent(couponRequest.couponCode(), transition))) {
+				throw new IllegalArgumentException("중복된 쿠폰 코드가 있습니다.");
+			}
+		}
+
+		List<String> candidates = transitions.keySet().stream().filter(this::mightExist).toList();
+		Map<String, CouponStatus> previousStatuses = new HashMap<>();
+		if (!candidates.isEmpty()) {
+			couponRepository.findStatusesByCouponCodeIn(candidates)
+				.forEach(couponStatus -> previousStatuses.put(couponStatus.couponCode(), couponStatus.status()));
+		}
+
+		Set<CouponStatusTransition> lostTransitions = EnumSet.noneOf(CouponStatusTransition.class);
+		boolean ready = transitions.entrySet().stream()
+			.allMatch(entry -> previousStatuses.get(entry.getKey()) == entry.getValue().source());
+		if (!ready) {
+			throw new CouponTransitionConflictException(
+				toUpdateCouponsResponse(false, transitions, previousStatuses, lostTransitions));
+		}
+
+		Map<CouponStatusTransition, List<String>> groups = new EnumMap<>(CouponStatusTransition.class);
+		transitions.forEach((couponCode, transition) ->
+			groups.computeIfAbsent(transition, key -> new ArrayList<>()).add(couponCode));
+
+		groups.forEach((transition, couponCodes) -> {
+			int updated = couponRepository.compareAndSetStatusIn(couponCodes, transition.source(), transition.target());
+			if (updated != couponCodes.size()) {
+				lostTransitions.add(transition);
+			}
+		});
+
+		if (!lostTransitions.isEmpty()) {
+			throw new CouponTransitionConflictException(
+				toUpdateCouponsResponse(false, transitions, previousStatuses, lostTransitions));
+		}
+		return toUpdateCouponsResponse(true, transitions, previousStatuses, lostTransitions);
+	}
+
+	/**
+	 * 쿠폰별 처리 결과를 요청 순서대로 생성합니다.
+	 * <p>
+	 * 경쟁에서 진 쿠폰이 포함된 상태 전이는 어떤 쿠폰이 졌는지 알 수 없으므로, 해당 전이의 모든 쿠폰을 충돌로 표시합니다.
+	 * </p>
+	 *
+	 * @param applied 모든 쿠폰의 상태가 변경되었는지 여부
+	 * @param transitions 쿠폰 코드별 상태 전이
+	 * @param previousStatuses 쿠폰 코드별 변경 전 상태
+	 * @param lostTransitions 변경된 행의 수가 맞지 않은 상태 전이
+	 * @return 쿠폰별 처리 결과를 담은 응답 객체
+	 */
+	private static UpdateCouponsResponse toUpdateCouponsResponse(boolean applied,
+		Map<String, CouponStatusTransition> transitions, Map<String, CouponStatus> previousStatuses,
+		Set<CouponStatusTransition> lostTransitions) {
+		List<CouponTransitionResult> results = new ArrayList<>(transitions.size());
+
+		transitions.forEach((couponCode, transition) -> {
+			CouponStatus previousStatus = previousStatuses.get(couponCode);
+			CouponTransitionResult.Outcome outcome;
+			if (applied) {
+				outcome = CouponTransitionResult.Outcome.UPDATED;
+			} else if (Objects.isNull(previousStatus)) {
+				outcome = CouponTransitionResult.Outcome.NOT_FOUND;
+			} else if (previousStatus != transition.source() || lostTransitions.contains(transition)) {
+				outcome = CouponTransitionResult.Outcome.CONFLICT;
+			} else {
+				outcome = CouponTransitionResult.Outcome.ROLLED_BACK;
+			}
+			results.add(new CouponTransitionResult(couponCode, previousStatus,
+				applied ? transition.target() : previousStatus, outcome));
+		});
+
+		return new UpdateCouponsResponse(applied, results);
+	}
+
+	/**
+	 * 쿠폰 코드 목록 중 사용 가능한 쿠폰을 타겟 ID와 함께 조회합니다.
+	 * <p>
+	 * 중복된 쿠폰 코드와 형식이 잘못된 쿠폰 코드는 제외하고, 청크 단위의 IN 절 쿼리로 조회합니다.
+	 * </p>
+	 *
+	 * @param couponCodes 조회할 쿠폰 코드 목록
+	 * @return 사용 가능한 쿠폰 응답 객체 리스트
+	 */
+	private List<OrderCouponResponse> findAvailableCoupons(List<String> couponCodes) {
+		List<String> candidates = couponCodes.stream()
+			.filter(this::mightExist)
+			.distinct()
+			.toList();
 
-		coupon.changeStatus(request.status());
+		List<OrderCouponResponse> responses = new ArrayList<>(candidates.size());
+		for (int from = 0; from < candidates.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+			List<String> chunk = candidates.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, candidates.size()));
+			responses.addAll(couponPolicyRepository.findCouponsWithTargetIds(chunk));
+		}
 
-		return CouponResponse.from(coupon);
+		return responses;
+	}
+
+	/**
+	 * 쿠폰 코드가 존재할 가능성이 있는지 데이터베이스 조회 없이 확인합니다.
+	 *
+	 * @param couponCode 확인할 쿠폰 코드
+	 * @return 형식이 올바르면 true
+	 */
+	private boolean mightExist(String couponCode) {
+		return couponCodeGenerator.isWellFormed(couponCode);
 	}
 
 	/**
@@ -0,0 +1,53 @@
+-- 쿠폰 서비스의 초기 스키마입니다.
+-- 이미 테이블이 있는 데이터베이스는 이 버전을 기준선으로 등록하고 다음 버전부터 적용합니다.
+
+create table if not exists coupon_type
+(
+    id   int auto_increment primary key,
+    name enum ('GLOBAL', 'BOOK', 'CATEGORY') not null
+);
+
+create table if not exists coupon_policy
+(
+    id                  int                      not null primary key,
+    coupon_type_id      int                      not null,
+    name                varchar(30)              not null,
+    discount_type       enum ('RATE', 'AMOUNT')  not null,
+    discount_rate       float(53) default 0      not null,
+    discount_amount     int       default 0      not null,
+    period              int                      not null,
+    standard_price      int                      not null,
+    max_discount_amount int                      not null,
+    start_date          date                     not null,
+    end_date            date                     not null,
+    deleted             bit                      not null,
+    constraint fk_coupon_policy_coupon_type foreign key (coupon_type_id) references coupon_type (id)
+);
+
+create table if not exists coupon
+(
+    id               bigint                                  not null primary key,
+    coupon_policy_id int                                     not null,
+    coupon_code      varchar(20)                             not null,
+    create_date      date                                    not null,
+    expire_date      date                                    not null,
+    status           enum ('USED', 'AVAILABLE', 'EXPIRED')   not null,
+    constraint uk_coupon_coupon_code unique (coupon_code),
+    constraint fk_coupon_coupon_policy foreign key (coupon_policy_id) references coupon_policy (id)
+);
+
+create table if not exists specific_coupon
+(
+    id               int not null primary key,
+    coupon_policy_id int not null,
+    book_id          int not null,
+    constraint fk_specific_coupon_coupon_policy foreign key (coupon_policy_id) references coupon_policy (id)
+);
+
+create table if not exists category_coupon
+(
+    id               int not null primary key,
+    coupon_policy_id int not null,
+    category_id      int not null,
+    constraint fk_category_coupon_coupon_policy foreign key (coupon_policy_id) references coupon_policy (id)
+);
@@ -0,0 +1,25 @@
+-- IDENTITY 전략에서 ID 시퀀스 테이블 전략으로 전환하기 위한 스크립트입니다.
+-- 시퀀스 테이블에는 마지막으로 할당한 ID가 저장되므로, 기존 테이블의 최대 ID로 시작합니다.
+-- 여러 번 실행해도 이미 할당된 값보다 작아지지 않습니다.
+
+create table if not exists id_sequence
+(
+    sequence_name varchar(255) not null primary key,
+    next_val      bigint
+);
+
+insert into id_sequence (sequence_name, next_val)
+select 'coupon', coalesce(max(id), 0) from coupon
+on duplicate key update next_val = greatest(coalesce(next_val, 0), values(next_val));
+
+insert into id_sequence (sequence_name, next_val)
+select 'coupon_policy', coalesce(max(id), 0) from coupon_policy
+on duplicate key update next_val = greatest(coalesce(next_val, 0), values(next_val));
+
+insert into id_sequence (sequence_name, next_val)
+select 'specific_coupon', coalesce(max(id), 0) from specific_coupon
+on duplicate key update next_val = greatest(coalesce(next_val, 0), values(next_val));
+
+insert into id_sequence (sequence_name, next_val)
+select 'category_coupon', coalesce(max(id), 0) from category_coupon
+on duplicate key update next_val = greatest(coalesce(next_val, 0), values(next_val));
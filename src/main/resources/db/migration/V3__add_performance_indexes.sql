@@ -0,0 +1,18 @@
+-- 조회 쿼리의 조건에 맞춘 복합 인덱스입니다.
+-- InnoDB 보조 인덱스에는 기본 키가 함께 저장되므로 ID를 반환하는 조회는 테이블을 읽지 않고 인덱스만으로 처리됩니다.
+
+-- 쿠폰 코드, 쿠폰 정책, 상태로 쿠폰을 찾는 조회와 조건부 상태 변경
+create index idx_coupon_code_policy_status on coupon (coupon_code, coupon_policy_id, status);
+
+-- 만료 대상 쿠폰을 (만료일, ID) 순서로 읽는 만료 스케줄러
+-- 등호 조건인 상태를 앞에 두어야 만료일 범위 조건과 정렬에 인덱스를 사용할 수 있습니다.
+create index idx_coupon_status_expire_date on coupon (status, expire_date);
+
+-- 책 ID로 쿠폰 정책을 찾는 조회
+create index idx_specific_coupon_book on specific_coupon (book_id, coupon_policy_id);
+
+-- 카테고리 ID로 쿠폰 정책을 찾는 조회
+create index idx_category_coupon_category on category_coupon (category_id, coupon_policy_id);
+
+-- 삭제되지 않은 기간 내 쿠폰 정책을 쿠폰 타입별로 찾는 조회
+create index idx_coupon_policy_active on coupon_policy (deleted, coupon_type_id, start_date, end_date);
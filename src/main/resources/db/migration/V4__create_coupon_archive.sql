@@ -0,0 +1,15 @@
+-- 사용 완료 또는 만료 상태로 보관 기간이 지난 쿠폰을 옮겨 두는 보관 테이블입니다.
+-- 쿠폰 테이블을 사용 가능한 쿠폰 위주로 작게 유지해 주문 경로의 조회와 인덱스 크기를 줄입니다.
+
+create table if not exists coupon_archive
+(
+    id               bigint                                  not null primary key,
+    coupon_policy_id int                                     not null,
+    coupon_code      varchar(20)                             not null,
+    create_date      date                                    not null,
+    expire_date      date                                    not null,
+    status           enum ('USED', 'AVAILABLE', 'EXPIRED')   not null,
+    archived_date    date                                    not null,
+    constraint uk_coupon_archive_coupon_code unique (coupon_code),
+    constraint fk_coupon_archive_coupon_policy foreign key (coupon_policy_id) references coupon_policy (id)
+);
@@ -0,0 +1,97 @@
+package store.buzzbook.coupon.common.appender;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DebugSamplingFilterTest {
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private Logger logger;
+	private Logger otherLogger;
+	private DebugSamplingFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		LoggerContext loggerContext = new LoggerContext();
+		logger = loggerContext.getLogger("store.buzzbook.coupon.common.service.impl.ConsumerServiceImpl");
+		logger.setLevel(Level.DEBUG);
+		otherLogger = loggerContext.getLogger("store.buzzbook.coupon.common.generator.CouponCodePool");
+		otherLogger.setLevel(Level.DEBUG);
+		filter = new DebugSamplingFilter(2, clock::get);
+	}
+
+	@Test
+	@DisplayName("allow the configured number of DEBUG events per logger per second")
+	void limitPerSecond() {
+		// given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		filter.bindTo(meterRegistry);
+
+		// when
+		FilterReply first = debug(logger);
+		FilterReply second = debug(logger);
+		FilterReply third = debug(logger);
+		FilterReply otherLoggerFirst = debug(otherLogger);
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		FilterReply nextSecond = debug(logger);
+
+		// then
+		assertEquals(FilterReply.NEUTRAL, first);
+		assertEquals(FilterReply.NEUTRAL, second);
+		assertEquals(FilterReply.DENY, third);
+		assertEquals(FilterReply.NEUTRAL, otherLoggerFirst);
+		assertEquals(FilterReply.NEUTRAL, nextSecond);
+		assertEquals(1.0, meterRegistry.get("logging.debug.sampled.dropped").functionCounter().count());
+	}
+
+	@Test
+	@DisplayName("do not count INFO events, level checks or events disabled by the logger level")
+	void ignoreOtherEvents() {
+		// given
+		Logger infoLogger = logger.getLoggerContext().getLogger("store.buzzbook.coupon.service");
+		infoLogger.setLevel(Level.INFO);
+
+		// when
+		for (int i = 0; i < 5; i++) {
+			assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.INFO, "issued", null, null));
+			assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.DEBUG, null, null, null));
+			assertEquals(FilterReply.NEUTRAL, debug(infoLogger));
+		}
+
+		// then
+		assertEquals(FilterReply.NEUTRAL, debug(logger));
+		assertEquals(0, filter.getDroppedEvents());
+	}
+
+	@Test
+	@DisplayName("change the limit at runtime")
+	void changeLimit() {
+		// given
+		debug(logger);
+		debug(logger);
+
+		// when
+		filter.setEventsPerSecond(0);
+
+		// then
+		assertEquals(FilterReply.NEUTRAL, debug(logger));
+		assertThrows(IllegalArgumentException.class, () -> filter.setEventsPerSecond(-1));
+	}
+
+	private FilterReply debug(Logger target) {
+		return filter.decide(null, target, Level.DEBUG, "Received WelcomeCouponRequest: {}", new Object[] {1L}, null);
+	}
+}
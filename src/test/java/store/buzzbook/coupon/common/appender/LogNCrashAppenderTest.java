@@ -0,0 +1,177 @@
+package store.buzzbook.coupon.common.appender;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import store.buzzbook.coupon.adapter.LogNCrashAdapter;
+import store.buzzbook.coupon.common.appender.LogNCrashAppender.Batching;
+import store.buzzbook.coupon.common.appender.LogNCrashAppender.OverflowPolicy;
+import store.buzzbook.coupon.dto.log.LogNCrashRequest;
+
+@ExtendWith(MockitoExtension.class)
+class LogNCrashAppenderTest {
+
+	@Mock
+	private LogNCrashAdapter logNCrashAdapter;
+
+	private SimpleMeterRegistry meterRegistry;
+	private LogNCrashAppender appender;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (appender != null) {
+			appender.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("ship queued events in batches")
+	void shipInBatches() {
+		// given
+		List<List<LogNCrashRequest>> batches = Collections.synchronizedList(new ArrayList<>());
+		doAnswer(invocation -> batches.add(List.copyOf(invocation.getArgument(0))))
+			.when(logNCrashAdapter).sendLogs(anyList());
+		appender = createAppender(new Batching(64, 3, Duration.ofMillis(500), OverflowPolicy.DROP_OLDEST,
+			Level.WARN));
+		appender.start();
+
+		// when
+		for (int i = 0; i < 7; i++) {
+			appender.doAppend(event(Level.DEBUG, "message-" + i));
+		}
+
+		// then
+		verify(logNCrashAdapter, timeout(3000).times(3)).sendLogs(anyList());
+		assertEquals(List.of(3, 3, 1), batches.stream().map(List::size).toList());
+		assertEquals("message-0", batches.getFirst().getFirst().body());
+		assertEquals("DEBUG", batches.getFirst().getFirst().logLevel());
+		assertEquals(7.0, meterRegistry.get("logncrash.events.sent").functionCounter().count());
+	}
+
+	@Test
+	@DisplayName("drop the oldest event when the queue is full")
+	void dropOldest() {
+		// given
+		appender = createAppender(new Batching(2, 10, Duration.ofHours(1), OverflowPolicy.DROP_OLDEST,
+			Level.WARN));
+
+		// when
+		appender.enqueue(queuedLog(Level.INFO, "first"));
+		appender.enqueue(queuedLog(Level.INFO, "second"));
+		boolean enqueued = appender.enqueue(queuedLog(Level.DEBUG, "third"));
+
+		// then
+		assertTrue(enqueued);
+		assertEquals(2.0, meterRegistry.get("logncrash.queue.depth").gauge().value());
+		assertEquals(1.0, meterRegistry.get("logncrash.events.dropped").tag("reason", "overflow")
+			.functionCounter().count());
+	}
+
+	@Test
+	@DisplayName("drop events below the level when the queue is full")
+	void dropBelowLevel() {
+		// given
+		appender = createAppender(new Batching(2, 10, Duration.ofHours(1), OverflowPolicy.DROP_BELOW_LEVEL,
+			Level.WARN));
+		appender.enqueue(queuedLog(Level.INFO, "first"));
+		appender.enqueue(queuedLog(Level.INFO, "second"));
+
+		// when
+		boolean debugEnqueued = appender.enqueue(queuedLog(Level.DEBUG, "debug"));
+		boolean errorEnqueued = appender.enqueue(queuedLog(Level.ERROR, "error"));
+
+		// then
+		assertFalse(debugEnqueued);
+		assertTrue(errorEnqueued);
+		assertEquals(2.0, meterRegistry.get("logncrash.queue.depth").gauge().value());
+	}
+
+	@Test
+	@DisplayName("ignore events logged by the shipper thread")
+	void ignoreShipperThread() {
+		// given
+		LoggerContext loggerContext = (LoggerContext)LoggerFactory.getILoggerFactory();
+		Logger logger = loggerContext.getLogger("logncrash.appender.test");
+		logger.setAdditive(false);
+		logger.setLevel(Level.DEBUG);
+		doAnswer(invocation -> {
+			logger.warn("Feign call failed");
+			throw new IllegalStateException("unavailable");
+		}).when(logNCrashAdapter).sendLogs(anyList());
+		appender = createAppender(new Batching(64, 1, Duration.ofMillis(50), OverflowPolicy.DROP_OLDEST,
+			Level.WARN));
+		appender.setContext(loggerContext);
+		appender.start();
+		logger.addAppender(appender);
+
+		// when
+		logger.debug("coupon issued");
+
+		// then
+		verify(logNCrashAdapter, timeout(2000)).sendLogs(anyList());
+		appender.stop();
+		logger.detachAppender(appender);
+		verify(logNCrashAdapter, times(1)).sendLogs(anyList());
+		assertEquals(1.0, meterRegistry.get("logncrash.events.dropped").tag("reason", "send-failure")
+			.functionCounter().count());
+	}
+
+	@Test
+	@DisplayName("invalid batching settings")
+	void invalidSettings() {
+		// given
+
+		// when & then
+		assertThrows(IllegalArgumentException.class,
+			() -> new Batching(0, 1, Duration.ofSeconds(1), OverflowPolicy.DROP_OLDEST, Level.WARN));
+		assertThrows(IllegalArgumentException.class,
+			() -> new Batching(1, 0, Duration.ofSeconds(1), OverflowPolicy.DROP_OLDEST, Level.WARN));
+		assertThrows(IllegalArgumentException.class,
+			() -> new Batching(1, 1, Duration.ZERO, OverflowPolicy.DROP_OLDEST, Level.WARN));
+	}
+
+	private LogNCrashAppender createAppender(Batching batching) {
+		LogNCrashAppender logNCrashAppender = new LogNCrashAppender("1.0.0", "host", "platform", "v2", "source",
+			"type", "app-key", logNCrashAdapter, batching, null);
+		logNCrashAppender.bindTo(meterRegistry);
+		return logNCrashAppender;
+	}
+
+	private LoggingEvent event(Level level, String message) {
+		LoggingEvent event = new LoggingEvent();
+		event.setLevel(level);
+		event.setMessage(message);
+		event.setTimeStamp(System.currentTimeMillis());
+		return event;
+	}
+
+	private LogNCrashAppender.QueuedLog queuedLog(Level level, String message) {
+		return new LogNCrashAppender.QueuedLog(LogNCrashRequest.builder().body(message).build(), level,
+			System.currentTimeMillis());
+	}
+}
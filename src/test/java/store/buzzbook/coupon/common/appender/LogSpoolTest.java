@@ -0,0 +1,148 @@
+package store.buzzbook.coupon.common.appender;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LogSpoolTest {
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	@DisplayName("read records in order and commit them one by one")
+	void appendAndRead() throws IOException {
+		// given
+		try (LogSpool logSpool = new LogSpool(directory, 64, 4)) {
+			logSpool.append(bytes("first"));
+			logSpool.append(bytes("second"));
+
+			// when
+			String peeked = string(logSpool.peek());
+			String peekedAgain = string(logSpool.peek());
+			logSpool.commit();
+			String next = string(logSpool.peek());
+			logSpool.commit();
+
+			// then
+			assertEquals("first", peeked);
+			assertEquals("first", peekedAgain);
+			assertEquals("second", next);
+			assertNull(logSpool.peek());
+		}
+	}
+
+	@Test
+	@DisplayName("replay uncommitted records after reopening")
+	void replay() throws IOException {
+		// given
+		try (LogSpool logSpool = new LogSpool(directory, 32, 8)) {
+			for (int i = 0; i < 5; i++) {
+				logSpool.append(bytes("record-" + i));
+			}
+			logSpool.peek();
+			logSpool.commit();
+			logSpool.peek();
+			logSpool.commit();
+		}
+
+		// when
+		try (LogSpool reopened = new LogSpool(directory, 32, 8)) {
+			// then
+			for (int i = 2; i < 5; i++) {
+				assertEquals("record-" + i, string(reopened.peek()));
+				reopened.commit();
+			}
+			assertNull(reopened.peek());
+
+			reopened.append(bytes("record-5"));
+			assertEquals("record-5", string(reopened.peek()));
+		}
+	}
+
+	@Test
+	@DisplayName("delete fully read segments and drop the oldest when the spool is full")
+	void rollSegments() throws IOException {
+		// given
+		try (LogSpool logSpool = new LogSpool(directory, 24, 2)) {
+			// when
+			logSpool.append(bytes("segment-a"));
+			logSpool.append(bytes("segment-b"));
+			logSpool.append(bytes("segment-c"));
+
+			// then
+			assertEquals(2, logSpool.segmentCount());
+			assertEquals(1, logSpool.droppedSegments());
+			assertEquals("segment-b", string(logSpool.peek()));
+			logSpool.commit();
+			assertEquals("segment-c", string(logSpool.peek()));
+			assertEquals(1, logSpool.segmentCount());
+			assertEquals(1, countSegmentFiles());
+		}
+	}
+
+	@Test
+	@DisplayName("keep the new head when the peeked segment was dropped before commit")
+	void commitAfterDrop() throws IOException {
+		// given
+		try (LogSpool logSpool = new LogSpool(directory, 24, 2)) {
+			logSpool.append(bytes("segment-a"));
+			logSpool.append(bytes("segment-b"));
+			String inFlight = string(logSpool.peek());
+
+			// when
+			logSpool.append(bytes("segment-c"));
+			logSpool.commit();
+
+			// then
+			assertEquals("segment-a", inFlight);
+			assertEquals("segment-b", string(logSpool.peek()));
+		}
+	}
+
+	@Test
+	@DisplayName("reject records larger than a segment")
+	void tooLarge() throws IOException {
+		// given
+		try (LogSpool logSpool = new LogSpool(directory, 16, 2)) {
+			// when
+			boolean appended = logSpool.append(new byte[16]);
+
+			// then
+			assertFalse(appended);
+			assertNull(logSpool.peek());
+		}
+	}
+
+	@Test
+	@DisplayName("refuse a spool directory that is already open")
+	void alreadyOpen() throws IOException {
+		// given
+		try (LogSpool ignored = new LogSpool(directory, 64, 2)) {
+			// when & then
+			assertThrows(IOException.class, () -> new LogSpool(directory, 64, 2));
+		}
+	}
+
+	private long countSegmentFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> file.getFileName().toString().endsWith(".spool")).count();
+		}
+	}
+
+	private byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private String string(byte[] value) {
+		return new String(value, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,146 @@
+package store.buzzbook.coupon.common.appender;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import store.buzzbook.coupon.adapter.LogNCrashAdapter;
+import store.buzzbook.coupon.common.appender.SpooledLogSender.Backoff;
+import store.buzzbook.coupon.dto.log.LogNCrashRequest;
+
+@ExtendWith(MockitoExtension.class)
+class SpooledLogSenderTest {
+
+	private static final Request REQUEST = Request.create(Request.HttpMethod.POST, "/v2/log", Map.of(), null,
+		StandardCharsets.UTF_8, null);
+
+	@TempDir
+	private Path directory;
+
+	@Mock
+	private LogNCrashAdapter logNCrashAdapter;
+
+	private SimpleMeterRegistry meterRegistry;
+	private SpooledLogSender sender;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (sender != null) {
+			sender.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("retry a failed batch with backoff until it is sent")
+	void retry() throws IOException {
+		// given
+		doThrow(new RetryableException(-1, "connection refused", Request.HttpMethod.POST, (Long)null, REQUEST))
+			.doNothing()
+			.when(logNCrashAdapter).sendRawLogs(any());
+		sender = createSender(new LogSpool(directory, 4096, 4), false);
+		sender.start();
+
+		// when
+		boolean spooled = sender.spool(List.of(LogNCrashRequest.builder().body("coupon issued").build()));
+
+		// then
+		assertTrue(spooled);
+		ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+		verify(logNCrashAdapter, timeout(3000).times(2)).sendRawLogs(body.capture());
+		assertTrue(new String(body.getValue(), StandardCharsets.UTF_8).contains("\"body\":\"coupon issued\""));
+		assertEquals(1.0, meterRegistry.get("logncrash.spool.retries").functionCounter().count());
+	}
+
+	@Test
+	@DisplayName("drop a batch rejected with a client error")
+	void reject() throws IOException {
+		// given
+		doThrow(new FeignException.BadRequest("bad request", REQUEST, null, null))
+			.when(logNCrashAdapter).sendCompressedLogs(any());
+		sender = createSender(new LogSpool(directory, 4096, 4), true);
+		sender.start();
+
+		// when
+		sender.spool(List.of(LogNCrashRequest.builder().body("first").build()));
+		sender.spool(List.of(LogNCrashRequest.builder().body("second").build()));
+
+		// then
+		verify(logNCrashAdapter, timeout(3000).times(2)).sendCompressedLogs(any());
+		assertEquals(2.0, meterRegistry.get("logncrash.spool.batches.rejected").functionCounter().count());
+		assertEquals(0.0, meterRegistry.get("logncrash.spool.retries").functionCounter().count());
+	}
+
+	@Test
+	@DisplayName("send batches left in the spool by a previous run")
+	void replay() throws IOException {
+		// given
+		LogSpool previousSpool = new LogSpool(directory, 4096, 4);
+		new SpooledLogSender(previousSpool, logNCrashAdapter, new ObjectMapper(),
+			new Backoff(Duration.ofMillis(50), Duration.ofMillis(200)), false)
+			.spool(List.of(LogNCrashRequest.builder().body("before restart").build()));
+		previousSpool.close();
+
+		// when
+		sender = createSender(new LogSpool(directory, 4096, 4), false);
+		sender.start();
+
+		// then
+		verify(logNCrashAdapter, timeout(3000)).sendRawLogs(any());
+		verify(logNCrashAdapter, after(300).times(1)).sendRawLogs(any());
+	}
+
+	@Test
+	@DisplayName("mark the sender thread as sending during the adapter call")
+	void markSending() throws IOException {
+		// given
+		List<Boolean> sendingFlags = new CopyOnWriteArrayList<>();
+		doAnswer(invocation -> sendingFlags.add(LogNCrashAppender.SENDING.get()))
+			.when(logNCrashAdapter).sendRawLogs(any());
+		sender = createSender(new LogSpool(directory, 4096, 4), false);
+		sender.start();
+
+		// when
+		sender.spool(List.of(LogNCrashRequest.builder().body("coupon issued").build()));
+
+		// then
+		verify(logNCrashAdapter, timeout(3000)).sendRawLogs(any());
+		assertEquals(List.of(true), sendingFlags);
+		assertFalse(LogNCrashAppender.SENDING.get());
+	}
+
+	private SpooledLogSender createSender(LogSpool logSpool, boolean compressRequests) {
+		SpooledLogSender spooledLogSender = new SpooledLogSender(logSpool, logNCrashAdapter, new ObjectMapper(),
+			new Backoff(Duration.ofMillis(50), Duration.ofMillis(200)), compressRequests);
+		spooledLogSender.bindTo(meterRegistry);
+		return spooledLogSender;
+	}
+}
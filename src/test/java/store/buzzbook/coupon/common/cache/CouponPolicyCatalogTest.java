@@ -0,0 +1,146 @@
+package store.buzzbook.coupon.common.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import store.buzzbook.coupon.common.constant.CouponScope;
+import store.buzzbook.coupon.common.constant.DiscountType;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyResponse;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTarget;
+import store.buzzbook.coupon.entity.CouponPolicy;
+import store.buzzbook.coupon.entity.CouponType;
+import store.buzzbook.coupon.repository.CategoryCouponRepository;
+import store.buzzbook.coupon.repository.SpecificCouponRepository;
+import store.buzzbook.coupon.repository.couponpolicy.CouponPolicyRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CouponPolicyCatalogTest {
+
+	@Mock
+	private CouponPolicyRepository couponPolicyRepository;
+
+	@Mock
+	private SpecificCouponRepository specificCouponRepository;
+
+	@Mock
+	private CategoryCouponRepository categoryCouponRepository;
+
+	@InjectMocks
+	private CouponPolicyCatalog couponPolicyCatalog;
+
+	private CouponPolicy testBookPolicy;
+	private CouponPolicy testGlobalPolicy;
+	private CouponPolicy testBirthdayPolicy;
+	private CouponPolicy testUpcomingPolicy;
+
+	@BeforeEach
+	void setUp() {
+		CouponType testGlobalType = CouponType.builder()
+			.id(1)
+			.name(CouponScope.GLOBAL)
+			.build();
+
+		CouponType testBookType = CouponType.builder()
+			.id(2)
+			.name(CouponScope.BOOK)
+			.build();
+
+		testBookPolicy = createPolicy(1, "test", testBookType, LocalDate.now().minusDays(1));
+		testGlobalPolicy = createPolicy(2, "test", testGlobalType, LocalDate.now().minusDays(1));
+		testBirthdayPolicy = createPolicy(3, "생일 쿠폰", testGlobalType, LocalDate.now().minusDays(1));
+		testUpcomingPolicy = createPolicy(4, "test", testGlobalType, LocalDate.now().plusDays(1));
+	}
+
+	@Test
+	@DisplayName("get active policies by scope")
+	void getActivePolicies() {
+		// given
+		when(couponPolicyRepository.findAllByDeleted(false)).thenReturn(
+			List.of(testBookPolicy, testGlobalPolicy, testBirthdayPolicy, testUpcomingPolicy));
+
+		// when
+		List<CouponPolicyResponse> globalPolicies = couponPolicyCatalog.getActivePolicies(CouponScope.GLOBAL);
+		List<CouponPolicyResponse> bookPolicies = couponPolicyCatalog.getActivePolicies(CouponScope.BOOK);
+		List<CouponPolicyResponse> categoryPolicies = couponPolicyCatalog.getActivePolicies(CouponScope.CATEGORY);
+
+		// then
+		assertEquals(List.of(testGlobalPolicy.getId()), globalPolicies.stream().map(CouponPolicyResponse::id).toList());
+		assertEquals(List.of(testBookPolicy.getId()), bookPolicies.stream().map(CouponPolicyResponse::id).toList());
+		assertTrue(categoryPolicies.isEmpty());
+		verify(couponPolicyRepository, times(1)).findAllByDeleted(false);
+	}
+
+	@Test
+	@DisplayName("get active policies by book and category")
+	void getBookAndCategoryPolicies() {
+		// given
+		when(couponPolicyRepository.findAllByDeleted(false)).thenReturn(
+			List.of(testBookPolicy, testGlobalPolicy, testUpcomingPolicy));
+		when(specificCouponRepository.findAllTargets()).thenReturn(List.of(
+			new CouponPolicyTarget(10, testBookPolicy.getId()),
+			new CouponPolicyTarget(10, testUpcomingPolicy.getId()),
+			new CouponPolicyTarget(11, testBookPolicy.getId())));
+		when(categoryCouponRepository.findAllTargets()).thenReturn(List.of(
+			new CouponPolicyTarget(10, testGlobalPolicy.getId())));
+
+		// when
+		List<CouponPolicyResponse> bookPolicies = couponPolicyCatalog.getBookPolicies(10);
+		List<CouponPolicyResponse> otherBookPolicies = couponPolicyCatalog.getBookPolicies(11);
+		List<CouponPolicyResponse> categoryPolicies = couponPolicyCatalog.getCategoryPolicies(10);
+		List<CouponPolicyResponse> unknownPolicies = couponPolicyCatalog.getCategoryPolicies(11);
+
+		// then
+		assertEquals(List.of(testBookPolicy.getId()), bookPolicies.stream().map(CouponPolicyResponse::id).toList());
+		assertEquals(List.of(testBookPolicy.getId()),
+			otherBookPolicies.stream().map(CouponPolicyResponse::id).toList());
+		assertEquals(List.of(testGlobalPolicy.getId()),
+			categoryPolicies.stream().map(CouponPolicyResponse::id).toList());
+		assertTrue(unknownPolicies.isEmpty());
+	}
+
+	@Test
+	@DisplayName("reload after invalidate")
+	void invalidate() {
+		// given
+		when(couponPolicyRepository.findAllByDeleted(false))
+			.thenReturn(List.of(testBookPolicy))
+			.thenReturn(List.of());
+		couponPolicyCatalog.getActivePolicies(CouponScope.BOOK);
+
+		// when
+		couponPolicyCatalog.invalidate();
+		List<CouponPolicyResponse> bookPolicies = couponPolicyCatalog.getActivePolicies(CouponScope.BOOK);
+
+		// then
+		assertTrue(bookPolicies.isEmpty());
+		verify(couponPolicyRepository, times(2)).findAllByDeleted(false);
+	}
+
+	private CouponPolicy createPolicy(int id, String name, CouponType couponType, LocalDate startDate) {
+		return CouponPolicy.builder()
+			.id(id)
+			.couponType(couponType)
+			.standardPrice(1000)
+			.discountType(DiscountType.AMOUNT)
+			.discountAmount(1000)
+			.discountRate(0)
+			.period(14)
+			.startDate(startDate)
+			.endDate(LocalDate.now().plusDays(10))
+			.name(name)
+			.maxDiscountAmount(1000)
+			.deleted(false)
+			.build();
+	}
+}
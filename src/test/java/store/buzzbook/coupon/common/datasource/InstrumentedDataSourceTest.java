@@ -0,0 +1,128 @@
+package store.buzzbook.coupon.common.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import store.buzzbook.coupon.common.datasource.InstrumentedDataSource.AdaptiveSizing;
+
+class InstrumentedDataSourceTest {
+
+	private BasicDataSource pool;
+	private SimpleMeterRegistry meterRegistry;
+	private InstrumentedDataSource dataSource;
+
+	@BeforeEach
+	void setUp() {
+		pool = new BasicDataSource();
+		pool.setUrl("jdbc:h2:mem:instrumented;DB_CLOSE_DELAY=-1");
+		pool.setUsername("sa");
+		pool.setMaxTotal(4);
+		pool.setMaxIdle(4);
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() throws SQLException {
+		if (dataSource != null) {
+			dataSource.close();
+		}
+	}
+
+	@Test
+	@DisplayName("record borrow wait, hold time and pool usage")
+	void recordMetrics() throws SQLException {
+		// given
+		dataSource = new InstrumentedDataSource("primary", pool, null);
+		dataSource.bindTo(meterRegistry);
+
+		// when
+		double activeWhileHeld;
+		try (Connection connection = dataSource.getConnection()) {
+			activeWhileHeld = meterRegistry.get("datasource.pool.active").tag("pool", "primary").gauge().value();
+			assertInstanceOf(ConnectionProxy.class, connection);
+			assertTrue(connection.isValid(1));
+		}
+
+		// then
+		assertEquals(1.0, activeWhileHeld);
+		assertEquals(0.0, meterRegistry.get("datasource.pool.active").gauge().value());
+		assertEquals(1.0, meterRegistry.get("datasource.pool.idle").gauge().value());
+		assertEquals(4.0, meterRegistry.get("datasource.pool.max").gauge().value());
+		assertEquals(0.0, meterRegistry.get("datasource.pool.waiters").gauge().value());
+		assertEquals(1, meterRegistry.get("datasource.pool.borrow.wait").timer().count());
+		assertEquals(1, meterRegistry.get("datasource.pool.hold").timer().count());
+	}
+
+	@Test
+	@DisplayName("count failed borrows")
+	void borrowFailure() {
+		// given
+		pool.setUrl("jdbc:h2:mem:missing;IFEXISTS=TRUE");
+		dataSource = new InstrumentedDataSource("primary", pool, null);
+		dataSource.bindTo(meterRegistry);
+
+		// when & then
+		assertThrows(SQLException.class, () -> dataSource.getConnection());
+		assertEquals(1.0, meterRegistry.get("datasource.pool.borrow.failures").functionCounter().count());
+	}
+
+	@Test
+	@DisplayName("grow the pool when the average wait exceeds the target")
+	void grow() throws SQLException {
+		// given
+		dataSource = new InstrumentedDataSource("primary", pool,
+			new AdaptiveSizing(2, 5, Duration.ZERO, Duration.ofHours(1)));
+		dataSource.bindTo(meterRegistry);
+
+		// when
+		dataSource.getConnection().close();
+		dataSource.resize();
+		dataSource.getConnection().close();
+		dataSource.resize();
+
+		// then
+		assertEquals(5, pool.getMaxTotal());
+		assertEquals(1.0, meterRegistry.get("datasource.pool.resized").counter().count());
+	}
+
+	@Test
+	@DisplayName("shrink an idle pool down to the lower bound")
+	void shrink() {
+		// given
+		dataSource = new InstrumentedDataSource("primary", pool,
+			new AdaptiveSizing(3, 8, Duration.ofSeconds(1), Duration.ofHours(1)));
+
+		// when
+		dataSource.resize();
+		dataSource.resize();
+
+		// then
+		assertEquals(3, pool.getMaxTotal());
+		assertEquals(3, pool.getMaxIdle());
+	}
+
+	@Test
+	@DisplayName("invalid adaptive sizing settings")
+	void invalidSettings() {
+		// given
+
+		// when & then
+		assertThrows(IllegalArgumentException.class,
+			() -> new AdaptiveSizing(0, 5, Duration.ZERO, Duration.ofSeconds(1)));
+		assertThrows(IllegalArgumentException.class,
+			() -> new AdaptiveSizing(5, 4, Duration.ZERO, Duration.ofSeconds(1)));
+		assertThrows(IllegalArgumentException.class,
+			() -> new AdaptiveSizing(1, 4, Duration.ZERO, Duration.ZERO));
+	}
+}
@@ -0,0 +1,179 @@
+package store.buzzbook.coupon.common.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+	@Mock
+	private DataSource brokenReplica;
+
+	private DataSource primary;
+	private DataSource replica;
+	private ReplicaRoutingDataSource routingDataSource;
+
+	@BeforeEach
+	void setUp() {
+		primary = h2DataSource("routing_primary");
+		replica = h2DataSource("routing_replica");
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		if (routingDataSource != null) {
+			routingDataSource.close();
+		}
+	}
+
+	@Test
+	@DisplayName("read-only connections go to the replica and others to the primary")
+	void route() throws SQLException {
+		// given
+		routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofMinutes(1));
+
+		// when
+		String readDatabase = databaseName(true);
+		String writeDatabase = databaseName(false);
+
+		// then
+		assertEquals("ROUTING_REPLICA", readDatabase);
+		assertEquals("ROUTING_PRIMARY", writeDatabase);
+	}
+
+	@Test
+	@DisplayName("read-only connections fail over to the primary when the replica is down")
+	void failover() throws SQLException {
+		// given
+		when(brokenReplica.getConnection()).thenThrow(new SQLNonTransientConnectionException("replica down", "08S01"));
+		routingDataSource = new ReplicaRoutingDataSource(primary, List.of(brokenReplica), Duration.ofMinutes(1));
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		routingDataSource.bindTo(meterRegistry);
+
+		// when
+		String firstDatabase = databaseName(true);
+		String secondDatabase = databaseName(true);
+
+		// then
+		assertEquals("ROUTING_PRIMARY", firstDatabase);
+		assertEquals("ROUTING_PRIMARY", secondDatabase);
+		assertFalse(routingDataSource.isReplicaHealthy(0));
+		verify(brokenReplica, times(1)).getConnection();
+		assertEquals(2.0, meterRegistry.get("datasource.replica.failover").functionCounter().count());
+		assertEquals(0.0, meterRegistry.get("datasource.replica.healthy").gauge().value());
+	}
+
+	@Test
+	@DisplayName("read-only connections go to the primary without marking an exhausted replica pool unhealthy")
+	void poolExhausted() throws SQLException {
+		// given
+		BasicDataSource replicaPool = new BasicDataSource();
+		replicaPool.setUrl("jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1");
+		replicaPool.setUsername("sa");
+		replicaPool.setMaxTotal(1);
+		replicaPool.setMaxWait(Duration.ofMillis(50));
+		routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replicaPool), Duration.ofMinutes(1));
+
+		try (Connection ignored = replicaPool.getConnection()) {
+			// when
+			String readDatabase = databaseName(true);
+			routingDataSource.checkReplicas();
+
+			// then
+			assertEquals("ROUTING_PRIMARY", readDatabase);
+			assertTrue(routingDataSource.isReplicaHealthy(0));
+		}
+		assertEquals("ROUTING_REPLICA", databaseName(true));
+	}
+
+	@Test
+	@DisplayName("only connection and validation failures count as replica failures")
+	void isReplicaFailure() {
+		// given
+		SQLException refused = new SQLException("Cannot create PoolableConnectionFactory",
+			new SQLException("Communications link failure", "08S01"));
+		SQLException invalid = new SQLException("Cannot get a connection, general error",
+			new NoSuchElementException("Unable to validate object"));
+		SQLException exhausted = new SQLException("Cannot get a connection, pool error",
+			new NoSuchElementException("Timeout waiting for idle object, borrowMaxWaitDuration=PT3S"));
+
+		// when & then
+		assertTrue(ReplicaRoutingDataSource.isReplicaFailure(refused));
+		assertTrue(ReplicaRoutingDataSource.isReplicaFailure(invalid));
+		assertFalse(ReplicaRoutingDataSource.isReplicaFailure(exhausted));
+		assertFalse(ReplicaRoutingDataSource.isReplicaFailure(new SQLException("syntax error", "42000")));
+	}
+
+	@Test
+	@DisplayName("health check restores a recovered replica")
+	void checkReplicas() throws SQLException {
+		// given
+		Connection connection = mock(Connection.class);
+		when(brokenReplica.getConnection()).thenThrow(new SQLNonTransientConnectionException("replica down", "08S01")).thenReturn(connection);
+		when(connection.isValid(anyInt())).thenReturn(true);
+		routingDataSource = new ReplicaRoutingDataSource(primary, List.of(brokenReplica), Duration.ofMinutes(1));
+
+		// when
+		routingDataSource.checkReplicas();
+		boolean healthyAfterFailure = routingDataSource.isReplicaHealthy(0);
+		routingDataSource.checkReplicas();
+
+		// then
+		assertFalse(healthyAfterFailure);
+		assertTrue(routingDataSource.isReplicaHealthy(0));
+	}
+
+	@Test
+	@DisplayName("invalid replica settings")
+	void invalidSettings() {
+		// given
+
+		// when & then
+		assertThrows(IllegalArgumentException.class,
+			() -> new ReplicaRoutingDataSource(primary, List.of(), Duration.ofMinutes(1)));
+		assertThrows(IllegalArgumentException.class,
+			() -> new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ZERO));
+	}
+
+	private String databaseName(boolean readOnly) throws SQLException {
+		try (Connection connection = routingDataSource.getConnection()) {
+			connection.setReadOnly(readOnly);
+			try (Statement statement = connection.createStatement();
+				 ResultSet resultSet = statement.executeQuery("select database()")) {
+				resultSet.next();
+				return resultSet.getString(1);
+			}
+		}
+	}
+
+	private static DataSource h2DataSource(String name) {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+		dataSource.setUser("sa");
+		return dataSource;
+	}
+}
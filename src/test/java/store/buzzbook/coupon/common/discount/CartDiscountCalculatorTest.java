@@ -0,0 +1,117 @@
+package store.buzzbook.coupon.common.discount;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import store.buzzbook.coupon.common.cache.CouponPolicyCatalog;
+import store.buzzbook.coupon.common.constant.CouponScope;
+import store.buzzbook.coupon.common.constant.CouponStatus;
+import store.buzzbook.coupon.common.constant.DiscountType;
+import store.buzzbook.coupon.dto.coupon.OrderCouponResponse;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyResponse;
+import store.buzzbook.coupon.dto.coupontype.CouponTypeResponse;
+import store.buzzbook.coupon.dto.discount.ApplicableCouponResponse;
+import store.buzzbook.coupon.dto.discount.CartDiscountResponse;
+import store.buzzbook.coupon.dto.discount.CartItemRequest;
+import store.buzzbook.coupon.dto.discount.CouponAssignmentResponse;
+
+@ExtendWith(MockitoExtension.class)
+class CartDiscountCalculatorTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2024, 7, 1);
+
+	@Mock
+	private CouponPolicyCatalog couponPolicyCatalog;
+
+	@InjectMocks
+	private CartDiscountCalculator calculator;
+
+	private List<CartItemRequest> items;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(couponPolicyCatalog.getDiscountRule(any()))
+			.thenAnswer(invocation -> DiscountRule.from(invocation.getArgument(0)));
+
+		items = List.of(
+			new CartItemRequest(1, 10, 20000, 1),
+			new CartItemRequest(2, 10, 15000, 2)
+		);
+	}
+
+	@Test
+	@DisplayName("calculate optimal assignment")
+	void calculate() {
+		// given
+		OrderCouponResponse categoryRate = coupon("CATEGORY_RATE", CouponScope.CATEGORY, DiscountType.RATE, 0.2, 0,
+			0, 5000, 10, TODAY);
+		OrderCouponResponse bookAmount = coupon("BOOK_AMOUNT", CouponScope.BOOK, DiscountType.AMOUNT, 0, 3000,
+			10000, 0, 2, TODAY);
+		OrderCouponResponse globalAmount = coupon("GLOBAL_AMOUNT", CouponScope.GLOBAL, DiscountType.AMOUNT, 0, 2000,
+			50000, 0, 0, TODAY);
+
+		// when
+		CartDiscountResponse response = calculator.calculate(items, List.of(categoryRate, bookAmount, globalAmount),
+			TODAY);
+
+		// then
+		assertEquals(50000, response.subtotal());
+		assertEquals(4000 + 3000 + 2000, response.totalDiscount());
+		assertEquals(3, response.applicableCoupons().size());
+
+		ApplicableCouponResponse applicableCategoryRate = response.applicableCoupons().getFirst();
+		assertEquals(2, applicableCategoryRate.lineDiscounts().size());
+		assertEquals(4000, applicableCategoryRate.lineDiscounts().get(0).discount());
+		assertEquals(5000, applicableCategoryRate.lineDiscounts().get(1).discount());
+		assertEquals(2000, response.applicableCoupons().get(2).cartDiscount());
+
+		assertEquals(List.of(
+			new CouponAssignmentResponse("CATEGORY_RATE", 0, 4000),
+			new CouponAssignmentResponse("BOOK_AMOUNT", 1, 3000),
+			new CouponAssignmentResponse("GLOBAL_AMOUNT", null, 2000)
+		), response.assignments());
+	}
+
+	@Test
+	@DisplayName("calculate excludes expired and inapplicable coupons")
+	void calculateInapplicable() {
+		// given
+		OrderCouponResponse expired = coupon("EXPIRED", CouponScope.BOOK, DiscountType.AMOUNT, 0, 1000, 0, 0, 1,
+			TODAY.minusDays(1));
+		OrderCouponResponse otherBook = coupon("OTHER_BOOK", CouponScope.BOOK, DiscountType.AMOUNT, 0, 1000, 0, 0, 3,
+			TODAY);
+		OrderCouponResponse belowStandard = coupon("BELOW_STANDARD", CouponScope.GLOBAL, DiscountType.AMOUNT, 0, 1000,
+			100000, 0, 0, TODAY);
+
+		// when
+		CartDiscountResponse response = calculator.calculate(items, List.of(expired, otherBook, belowStandard), TODAY);
+
+		// then
+		assertEquals(0, response.totalDiscount());
+		assertTrue(response.applicableCoupons().isEmpty());
+		assertTrue(response.assignments().isEmpty());
+	}
+
+	private static OrderCouponResponse coupon(String code, CouponScope couponScope, DiscountType discountType,
+		double discountRate, int discountAmount, int standardPrice, int maxDiscountAmount, int targetId,
+		LocalDate expireDate) {
+		CouponPolicyResponse policy = new CouponPolicyResponse(code.hashCode() & Integer.MAX_VALUE, code,
+			discountType.toString(), discountRate, discountAmount, standardPrice, maxDiscountAmount, 30,
+			TODAY.minusDays(10), TODAY.plusDays(10), false, new CouponTypeResponse(1, couponScope.toString()));
+
+		return new OrderCouponResponse(code, TODAY.minusDays(1), expireDate, CouponStatus.AVAILABLE, policy,
+			couponScope == CouponScope.GLOBAL ? 0 : targetId);
+	}
+}
@@ -0,0 +1,109 @@
+package store.buzzbook.coupon.common.generator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static store.buzzbook.coupon.common.constant.IdGeneratorConstant.*;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import store.buzzbook.coupon.common.utils.CouponCodeCipher;
+import store.buzzbook.coupon.repository.CouponRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CouponCodeGeneratorTest {
+
+	@Mock
+	private CouponRepository couponRepository;
+
+	@Test
+	@DisplayName("create code with serial blocks")
+	void createCode() {
+		// given
+		CouponCodeGenerator generator = new CouponCodeGenerator(couponRepository, "test-secret", 2, true);
+		when(couponRepository.allocateIds(COUPON_CODE_SEQUENCE, 2)).thenReturn(1L, 3L);
+
+		// when
+		Set<String> couponCodes = new HashSet<>();
+		for (int i = 0; i < 4; i++) {
+			couponCodes.add(generator.createCode());
+		}
+
+		// then
+		verify(couponRepository, times(2)).allocateIds(COUPON_CODE_SEQUENCE, 2);
+		assertEquals(4, couponCodes.size());
+		assertTrue(couponCodes.stream().allMatch(generator::isWellFormed));
+	}
+
+	@Test
+	@DisplayName("create code while another thread is allocating a serial block")
+	void createCodeWhileAllocating() throws Exception {
+		// given
+		CouponCodeGenerator generator = new CouponCodeGenerator(couponRepository, "test-secret", 2, true);
+		CountDownLatch allocating = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(couponRepository.allocateIds(COUPON_CODE_SEQUENCE, 2))
+			.thenAnswer(invocation -> {
+				allocating.countDown();
+				release.await(5, TimeUnit.SECONDS);
+				return 1L;
+			})
+			.thenReturn(3L);
+		CompletableFuture<String> slowCode = CompletableFuture.supplyAsync(generator::createCode);
+		assertTrue(allocating.await(5, TimeUnit.SECONDS));
+
+		// when
+		String code = assertTimeoutPreemptively(Duration.ofSeconds(2), () -> generator.createCode());
+		release.countDown();
+
+		// then
+		assertNotEquals(code, slowCode.get(5, TimeUnit.SECONDS));
+		verify(couponRepository, times(2)).allocateIds(COUPON_CODE_SEQUENCE, 2);
+	}
+
+	@Test
+	@DisplayName("create codes")
+	void createCodes() {
+		// given
+		CouponCodeGenerator generator = new CouponCodeGenerator(couponRepository, "test-secret", 1000, true);
+		when(couponRepository.allocateIds(COUPON_CODE_SEQUENCE, 500)).thenReturn(1001L);
+
+		// when
+		List<String> couponCodes = generator.createCodes(500);
+
+		// then
+		assertEquals(500, couponCodes.size());
+		assertEquals(500, couponCodes.stream().distinct().count());
+		verify(couponRepository, never()).allocateIds(anyString(), eq(1000));
+	}
+
+	@Test
+	@DisplayName("is well formed without check character validation")
+	void isWellFormedWithoutCheckCharacter() {
+		// given
+		CouponCodeGenerator generator = new CouponCodeGenerator(couponRepository, "test-secret", 1000, false);
+		CouponCodeGenerator validatingGenerator = new CouponCodeGenerator(couponRepository, "test-secret", 1000, true);
+		String issuedCode = new CouponCodeCipher("test-secret").encrypt(1);
+		String tamperedCode = issuedCode.substring(0, 19) + (issuedCode.charAt(19) == 'A' ? 'B' : 'A');
+
+		// when & then
+		assertAll(
+			() -> assertTrue(generator.isWellFormed(tamperedCode)),
+			() -> assertFalse(generator.isWellFormed("ABCD-EFGH")),
+			() -> assertTrue(validatingGenerator.isWellFormed(issuedCode)),
+			() -> assertFalse(validatingGenerator.isWellFormed(tamperedCode))
+		);
+	}
+}
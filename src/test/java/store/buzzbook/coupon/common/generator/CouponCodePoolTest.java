@@ -0,0 +1,106 @@
+package store.buzzbook.coupon.common.generator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CouponCodePoolTest {
+
+	@Mock
+	private CouponCodeGenerator couponCodeGenerator;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	@DisplayName("take falls back to generator when pool is empty")
+	void takeFallback() {
+		// given
+		CouponCodePool pool = new CouponCodePool(couponCodeGenerator, meterRegistry, 0, 8, 4, 1);
+		when(couponCodeGenerator.createCode()).thenReturn("AAAAAAAAAAAAAAAAAAA1");
+
+		// when
+		String couponCode = pool.take();
+
+		// then
+		assertEquals("AAAAAAAAAAAAAAAAAAA1", couponCode);
+		assertEquals(1, meterRegistry.get("coupon.code.pool.fallback").counter().count());
+	}
+
+	@Test
+	@DisplayName("prefill fills pool up to high watermark")
+	void prefill() throws InterruptedException {
+		// given
+		CouponCodePool pool = new CouponCodePool(couponCodeGenerator, meterRegistry, 4, 16, 5, 2);
+		AtomicLong serial = new AtomicLong();
+		when(couponCodeGenerator.createCodes(anyInt())).thenAnswer(invocation -> {
+			int count = invocation.getArgument(0);
+			long first = serial.getAndAdd(count);
+			return LongStream.range(first, first + count).mapToObj(i -> "CODE-" + i).toList();
+		});
+
+		// when
+		pool.prefill();
+		awaitSize(pool, 16);
+
+		// then
+		assertEquals(16, pool.size());
+		String couponCode = pool.take();
+		assertTrue(couponCode.startsWith("CODE-"));
+		verify(couponCodeGenerator, never()).createCode();
+		assertEquals(0, meterRegistry.get("coupon.code.pool.fallback").counter().count());
+	}
+
+	@Test
+	@DisplayName("take refills pool below low watermark")
+	void takeRefill() throws InterruptedException {
+		// given
+		CouponCodePool pool = new CouponCodePool(couponCodeGenerator, meterRegistry, 4, 8, 8, 1);
+		when(couponCodeGenerator.createCodes(anyInt())).thenReturn(List.of("C1", "C2", "C3", "C4", "C5", "C6",
+			"C7", "C8"));
+		pool.prefill();
+		awaitSize(pool, 8);
+
+		// when
+		for (int i = 0; i < 5; i++) {
+			pool.take();
+		}
+		awaitSize(pool, 8);
+
+		// then
+		verify(couponCodeGenerator, times(2)).createCodes(anyInt());
+	}
+
+	@Test
+	@DisplayName("invalid watermarks")
+	void invalidWatermarks() {
+		// given & when & then
+		assertThrows(IllegalArgumentException.class,
+			() -> new CouponCodePool(couponCodeGenerator, meterRegistry, 8, 8, 4, 1));
+	}
+
+	private static void awaitSize(CouponCodePool pool, int size) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (pool.size() < size && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+}
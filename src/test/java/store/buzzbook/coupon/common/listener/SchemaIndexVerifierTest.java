@@ -0,0 +1,60 @@
+package store.buzzbook.coupon.common.listener;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import store.buzzbook.coupon.common.listener.SchemaIndexVerifier.ExpectedIndex;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SchemaIndexVerifierTest {
+
+	@Autowired
+	private DataSource dataSource;
+
+	private SchemaIndexVerifier schemaIndexVerifier;
+
+	@BeforeEach
+	void setUp() {
+		schemaIndexVerifier = new SchemaIndexVerifier(dataSource, true);
+	}
+
+	@Test
+	@DisplayName("expected indexes are declared by the schema")
+	void expectedIndexesPresent() throws SQLException {
+		// given
+
+		// when
+		List<ExpectedIndex> missingIndexes = schemaIndexVerifier.findMissingIndexes(
+			SchemaIndexVerifier.EXPECTED_INDEXES);
+
+		// then
+		assertThat(missingIndexes).isEmpty();
+	}
+
+	@Test
+	@DisplayName("index with a different column order is reported missing")
+	void missingIndex() throws SQLException {
+		// given
+		ExpectedIndex expiryFirst = new ExpectedIndex("coupon", List.of("expire_date", "status"));
+		ExpectedIndex policyPrefix = new ExpectedIndex("coupon_policy", List.of("deleted", "coupon_type_id"));
+
+		// when
+		List<ExpectedIndex> missingIndexes = schemaIndexVerifier.findMissingIndexes(
+			List.of(expiryFirst, policyPrefix));
+
+		// then
+		assertThat(missingIndexes).containsExactly(expiryFirst);
+	}
+}
@@ -0,0 +1,58 @@
+package store.buzzbook.coupon.common.listener;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VirtualThreadPinningMonitorTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private VirtualThreadPinningMonitor monitor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+	}
+
+	@AfterEach
+	void tearDown() {
+		monitor.stop();
+	}
+
+	@Test
+	@DisplayName("record a virtual thread blocked inside a synchronized block")
+	void recordPinnedThread() throws InterruptedException {
+		// given
+		monitor.start();
+		Object monitorLock = new Object();
+
+		// when
+		Thread.ofVirtual().start(() -> {
+			synchronized (monitorLock) {
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}).join();
+
+		// then
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (meterRegistry.get("jvm.threads.virtual.pinned").counter().count() == 0
+			&& System.nanoTime() < deadline) {
+			Thread.sleep(100);
+		}
+		assertTrue(meterRegistry.get("jvm.threads.virtual.pinned").counter().count() >= 1);
+		assertTrue(meterRegistry.get("jvm.threads.virtual.pinned.duration").timer().count() >= 1);
+	}
+}
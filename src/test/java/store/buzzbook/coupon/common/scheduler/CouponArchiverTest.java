@@ -0,0 +1,89 @@
+package store.buzzbook.coupon.common.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import store.buzzbook.coupon.common.constant.CouponStatus;
+import store.buzzbook.coupon.repository.CouponRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CouponArchiverTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+
+	@Mock
+	private CouponRepository couponRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+	}
+
+	@Test
+	@DisplayName("archive moves batches of each terminal status until a short batch")
+	void archive() {
+		// given
+		CouponArchiver archiver = new CouponArchiver(couponRepository, transactionManager, meterRegistry, 30, 2, 0);
+		LocalDate expiredBefore = TODAY.minusDays(30);
+
+		when(couponRepository.archiveCoupons(CouponStatus.USED, expiredBefore, TODAY, 2)).thenReturn(2, 1);
+		when(couponRepository.archiveCoupons(CouponStatus.EXPIRED, expiredBefore, TODAY, 2)).thenReturn(0);
+
+		// when
+		long archived = archiver.archive(TODAY);
+
+		// then
+		assertEquals(3, archived);
+		verify(couponRepository, times(2)).archiveCoupons(CouponStatus.USED, expiredBefore, TODAY, 2);
+		verify(couponRepository, times(1)).archiveCoupons(CouponStatus.EXPIRED, expiredBefore, TODAY, 2);
+		verify(couponRepository, never()).archiveCoupons(eq(CouponStatus.AVAILABLE), any(), any(), anyInt());
+		assertEquals(3.0, meterRegistry.get("coupon.archiver.archived").counter().count());
+		assertEquals(3, meterRegistry.get("coupon.archiver.batch").timer().count());
+	}
+
+	@Test
+	@DisplayName("archive stops after stop is requested")
+	void archiveStopped() {
+		// given
+		CouponArchiver archiver = new CouponArchiver(couponRepository, transactionManager, meterRegistry, 30, 2, 0);
+		archiver.stop();
+
+		// when
+		long archived = archiver.archive(TODAY);
+
+		// then
+		assertEquals(0, archived);
+		verify(couponRepository, never()).archiveCoupons(any(), any(), any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("invalid archiver settings")
+	void invalidSettings() {
+		// given
+
+		// when & then
+		assertThrows(IllegalArgumentException.class,
+			() -> new CouponArchiver(couponRepository, transactionManager, meterRegistry, -1, 2, 0));
+		assertThrows(IllegalArgumentException.class,
+			() -> new CouponArchiver(couponRepository, transactionManager, meterRegistry, 30, 0, 0));
+	}
+}
@@ -0,0 +1,122 @@
+package store.buzzbook.coupon.common.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import store.buzzbook.coupon.common.constant.CouponStatus;
+import store.buzzbook.coupon.dto.coupon.CouponExpiryKey;
+import store.buzzbook.coupon.repository.CouponRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CouponExpirySweeperTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+
+	@Mock
+	private CouponRepository couponRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+	}
+
+	@Test
+	@DisplayName("sweep walks keyset batches until a short batch")
+	void sweep() {
+		// given
+		CouponExpirySweeper sweeper = new CouponExpirySweeper(couponRepository, transactionManager, meterRegistry,
+			2, 1, Duration.ofMinutes(1), 0);
+		LocalDate expireDate = TODAY.minusDays(1);
+
+		when(couponRepository.findExpiryKeysAfter(CouponStatus.AVAILABLE, TODAY, LocalDate.EPOCH, 0, Limit.of(2)))
+			.thenReturn(List.of(new CouponExpiryKey(1, expireDate), new CouponExpiryKey(2, expireDate)));
+		when(couponRepository.findExpiryKeysAfter(CouponStatus.AVAILABLE, TODAY, expireDate, 2, Limit.of(2)))
+			.thenReturn(List.of(new CouponExpiryKey(5, expireDate)));
+		when(couponRepository.compareAndSetStatusByIdIn(List.of(1L, 2L), CouponStatus.AVAILABLE,
+			CouponStatus.EXPIRED)).thenReturn(2);
+		when(couponRepository.compareAndSetStatusByIdIn(List.of(5L), CouponStatus.AVAILABLE, CouponStatus.EXPIRED))
+			.thenReturn(0);
+
+		// when
+		long expired = sweeper.sweep(TODAY);
+
+		// then
+		assertEquals(2, expired);
+		assertEquals(2, meterRegistry.get("coupon.expiry.sweeper.expired").counter().count());
+		assertEquals(2, meterRegistry.get("coupon.expiry.sweeper.progress").gauge().value());
+		assertEquals(2, meterRegistry.get("coupon.expiry.sweeper.batch").timer().count());
+		verify(couponRepository, times(2)).findExpiryKeysAfter(any(), any(), any(), anyLong(), any());
+		verify(transactionManager, times(2)).commit(any());
+	}
+
+	@Test
+	@DisplayName("sweep stops when no coupon has expired")
+	void sweepNothing() {
+		// given
+		CouponExpirySweeper sweeper = new CouponExpirySweeper(couponRepository, transactionManager, meterRegistry,
+			10, 1, Duration.ofMinutes(1), 0);
+		when(couponRepository.findExpiryKeysAfter(any(), any(), any(), anyLong(), any())).thenReturn(List.of());
+
+		// when
+		long expired = sweeper.sweep(TODAY);
+
+		// then
+		assertEquals(0, expired);
+		verify(couponRepository, never()).compareAndSetStatusByIdIn(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("batch size shrinks when batches exceed target latency")
+	void shrinkBatchSize() {
+		// given
+		CouponExpirySweeper sweeper = new CouponExpirySweeper(couponRepository, transactionManager, meterRegistry,
+			8, 2, Duration.ofNanos(1), 0);
+		LocalDate expireDate = TODAY.minusDays(1);
+
+		when(couponRepository.findExpiryKeysAfter(any(), any(), any(), anyLong(), eq(Limit.of(8))))
+			.thenReturn(List.of(new CouponExpiryKey(1, expireDate), new CouponExpiryKey(2, expireDate),
+				new CouponExpiryKey(3, expireDate), new CouponExpiryKey(4, expireDate),
+				new CouponExpiryKey(5, expireDate), new CouponExpiryKey(6, expireDate),
+				new CouponExpiryKey(7, expireDate), new CouponExpiryKey(8, expireDate)));
+		when(couponRepository.findExpiryKeysAfter(any(), any(), any(), anyLong(), eq(Limit.of(4))))
+			.thenReturn(List.of());
+		when(couponRepository.compareAndSetStatusByIdIn(any(), any(), any())).thenReturn(8);
+
+		// when
+		sweeper.sweep(TODAY);
+
+		// then
+		assertEquals(4, meterRegistry.get("coupon.expiry.sweeper.batch.size").gauge().value());
+	}
+
+	@Test
+	@DisplayName("invalid settings are rejected")
+	void invalidSettings() {
+		assertThrows(IllegalArgumentException.class, () -> new CouponExpirySweeper(couponRepository,
+			transactionManager, meterRegistry, 1, 2, Duration.ofSeconds(1), 1.0));
+		assertThrows(IllegalArgumentException.class, () -> new CouponExpirySweeper(couponRepository,
+			transactionManager, meterRegistry, 10, 1, Duration.ZERO, 1.0));
+	}
+}
@@ -0,0 +1,104 @@
+package store.buzzbook.coupon.common.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AssignmentSolverTest {
+
+	@Test
+	@DisplayName("maximize prefers global optimum over greedy choice")
+	void maximize() {
+		// given
+		long[][] weights = {
+			{5000, 4000},
+			{4500, 0}
+		};
+
+		// when
+		int[] assignment = AssignmentSolver.maximize(weights);
+
+		// then
+		assertArrayEquals(new int[] {1, 0}, assignment);
+	}
+
+	@Test
+	@DisplayName("maximize leaves rows without positive weight unassigned")
+	void maximizeUnassigned() {
+		// given
+		long[][] weights = {
+			{0, 0},
+			{300, 150},
+			{200, 0}
+		};
+
+		// when
+		int[] assignment = AssignmentSolver.maximize(weights);
+
+		// then
+		assertArrayEquals(new int[] {AssignmentSolver.UNASSIGNED, 1, 0}, assignment);
+	}
+
+	@Test
+	@DisplayName("maximize matches brute force")
+	void maximizeMatchesBruteForce() {
+		// given
+		Random random = new Random(42);
+
+		for (int trial = 0; trial < 200; trial++) {
+			int rows = 1 + random.nextInt(5);
+			int columns = 1 + random.nextInt(5);
+			long[][] weights = new long[rows][columns];
+			for (long[] row : weights) {
+				for (int j = 0; j < columns; j++) {
+					row[j] = random.nextInt(3) == 0 ? 0 : random.nextInt(10_000);
+				}
+			}
+
+			// when
+			int[] assignment = AssignmentSolver.maximize(weights);
+
+			// then
+			long total = 0;
+			boolean[] usedColumns = new boolean[columns];
+			for (int i = 0; i < rows; i++) {
+				if (assignment[i] != AssignmentSolver.UNASSIGNED) {
+					assertFalse(usedColumns[assignment[i]]);
+					usedColumns[assignment[i]] = true;
+					total += weights[i][assignment[i]];
+				}
+			}
+			assertEquals(bruteForce(weights, 0, new boolean[columns]), total);
+		}
+	}
+
+	@Test
+	@DisplayName("maximize empty and ragged weights")
+	void maximizeInvalid() {
+		// given & when & then
+		assertAll(
+			() -> assertEquals(0, AssignmentSolver.maximize(new long[0][0]).length),
+			() -> assertThrows(IllegalArgumentException.class,
+				() -> AssignmentSolver.maximize(new long[][] {{1, 2}, {3}}))
+		);
+	}
+
+	private static long bruteForce(long[][] weights, int row, boolean[] usedColumns) {
+		if (row == weights.length) {
+			return 0;
+		}
+
+		long best = bruteForce(weights, row + 1, usedColumns);
+		for (int j = 0; j < usedColumns.length; j++) {
+			if (!usedColumns[j]) {
+				usedColumns[j] = true;
+				best = Math.max(best, weights[row][j] + bruteForce(weights, row + 1, usedColumns));
+				usedColumns[j] = false;
+			}
+		}
+		return best;
+	}
+}
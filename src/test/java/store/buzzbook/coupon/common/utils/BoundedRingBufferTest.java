@@ -0,0 +1,94 @@
+package store.buzzbook.coupon.common.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedRingBufferTest {
+
+	@Test
+	@DisplayName("offer and poll in order")
+	void offerAndPoll() {
+		// given
+		BoundedRingBuffer<String> buffer = new BoundedRingBuffer<>(3);
+
+		// when
+		for (int i = 0; i < buffer.capacity(); i++) {
+			assertTrue(buffer.offer("CODE-" + i));
+		}
+
+		// then
+		assertEquals(4, buffer.capacity());
+		assertEquals(4, buffer.size());
+		assertFalse(buffer.offer("OVERFLOW"));
+		for (int i = 0; i < buffer.capacity(); i++) {
+			assertEquals("CODE-" + i, buffer.poll());
+		}
+		assertNull(buffer.poll());
+		assertEquals(0, buffer.size());
+	}
+
+	@Test
+	@DisplayName("invalid capacity")
+	void invalidCapacity() {
+		// given & when & then
+		assertThrows(IllegalArgumentException.class, () -> new BoundedRingBuffer<>(0));
+	}
+
+	@Test
+	@DisplayName("concurrent offer and poll without loss or duplication")
+	void concurrentOfferAndPoll() throws Exception {
+		// given
+		BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(64);
+		int producers = 2;
+		int perProducer = 10_000;
+		int total = producers * perProducer;
+		Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+		AtomicInteger remaining = new AtomicInteger(total);
+
+		// when
+		try (ExecutorService executor = Executors.newFixedThreadPool(producers * 2)) {
+			for (int p = 0; p < producers; p++) {
+				int offset = p * perProducer;
+				executor.submit(() -> {
+					for (int i = 0; i < perProducer; i++) {
+						while (!buffer.offer(offset + i)) {
+							Thread.onSpinWait();
+						}
+					}
+				});
+			}
+			Future<?>[] consumers = new Future<?>[producers];
+			for (int c = 0; c < producers; c++) {
+				consumers[c] = executor.submit(() -> {
+					while (remaining.get() > 0) {
+						Integer value = buffer.poll();
+						if (Objects.nonNull(value)) {
+							consumed.add(value);
+							remaining.decrementAndGet();
+						} else {
+							Thread.onSpinWait();
+						}
+					}
+				});
+			}
+			for (Future<?> consumer : consumers) {
+				consumer.get(30, TimeUnit.SECONDS);
+			}
+		}
+
+		// then
+		assertEquals(total, consumed.size());
+		assertNull(buffer.poll());
+	}
+}
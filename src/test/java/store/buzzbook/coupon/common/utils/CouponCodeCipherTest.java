@@ -0,0 +1,106 @@
+package store.buzzbook.coupon.common.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CouponCodeCipherTest {
+
+	private final CouponCodeCipher cipher = new CouponCodeCipher("test-secret");
+
+	@Test
+	@DisplayName("encrypt and decrypt")
+	void encryptAndDecrypt() {
+		// given
+		long[] serials = {0, 1, 2, 35, 36, 1_000_000, Long.MAX_VALUE};
+
+		// when & then
+		for (long serial : serials) {
+			String couponCode = cipher.encrypt(serial);
+			assertEquals(CouponCodeCipher.CODE_LENGTH, couponCode.length());
+			assertTrue(cipher.isWellFormed(couponCode));
+			assertEquals(serial, cipher.decrypt(couponCode));
+		}
+	}
+
+	@Test
+	@DisplayName("encrypt without collisions")
+	void encryptWithoutCollisions() {
+		// given
+		Set<String> couponCodes = new HashSet<>();
+
+		// when
+		for (long serial = 1; serial <= 100_000; serial++) {
+			couponCodes.add(cipher.encrypt(serial));
+		}
+
+		// then
+		assertEquals(100_000, couponCodes.size());
+	}
+
+	@Test
+	@DisplayName("encrypt with different secrets")
+	void encryptWithDifferentSecrets() {
+		// given
+		CouponCodeCipher otherCipher = new CouponCodeCipher("other-secret");
+
+		// when & then
+		assertNotEquals(cipher.encrypt(1), otherCipher.encrypt(1));
+		assertNotEquals(cipher.encrypt(1).substring(0, 19), cipher.encrypt(2).substring(0, 19));
+	}
+
+	@Test
+	@DisplayName("reject single character errors and transpositions")
+	void rejectMalformedCodes() {
+		// given
+		String couponCode = cipher.encrypt(42);
+		char[] substituted = couponCode.toCharArray();
+		substituted[5] = substituted[5] == 'A' ? 'B' : 'A';
+		char[] transposed = couponCode.toCharArray();
+		int position = couponCode.charAt(3) != couponCode.charAt(4) ? 3 : 10;
+		char temp = transposed[position];
+		transposed[position] = transposed[position + 1];
+		transposed[position + 1] = temp;
+
+		// when & then
+		assertAll(
+			() -> assertFalse(cipher.isWellFormed(new String(substituted))),
+			() -> assertFalse(cipher.isWellFormed(new String(transposed))),
+			() -> assertFalse(cipher.isWellFormed(couponCode.substring(1))),
+			() -> assertFalse(cipher.isWellFormed(couponCode.toLowerCase())),
+			() -> assertFalse(cipher.isWellFormed(null)),
+			() -> assertThrows(IllegalArgumentException.class, () -> cipher.decrypt(new String(substituted)))
+		);
+	}
+
+	@Test
+	@DisplayName("has valid characters")
+	void hasValidCharacters() {
+		// given
+
+		// when & then
+		assertAll(
+			() -> assertTrue(CouponCodeCipher.hasValidCharacters("ABCDEFGHIJ0123456789")),
+			() -> assertFalse(CouponCodeCipher.hasValidCharacters("ABCDE-GHIJ0123456789")),
+			() -> assertFalse(CouponCodeCipher.hasValidCharacters("ABCDEFGHIJ012345678")),
+			() -> assertFalse(CouponCodeCipher.hasValidCharacters(null))
+		);
+	}
+
+	@Test
+	@DisplayName("create with illegalArgumentException")
+	void createWithIllegalArgumentException() {
+		// given
+
+		// when & then
+		assertAll(
+			() -> assertThrows(IllegalArgumentException.class, () -> new CouponCodeCipher(null)),
+			() -> assertThrows(IllegalArgumentException.class, () -> new CouponCodeCipher(" ")),
+			() -> assertThrows(IllegalArgumentException.class, () -> cipher.encrypt(-1))
+		);
+	}
+}
@@ -0,0 +1,43 @@
+package store.buzzbook.coupon.common.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IntObjectMapTest {
+
+	@Test
+	@DisplayName("put and get with resize")
+	void putAndGet() {
+		// given
+		IntObjectMap<String> map = new IntObjectMap<>(1);
+
+		// when
+		for (int key = 1; key <= 1000; key++) {
+			map.put(key, String.valueOf(key));
+		}
+		String previous = map.put(500, "changed");
+
+		// then
+		assertEquals(1000, map.size());
+		assertEquals("500", previous);
+		assertEquals("changed", map.get(500));
+		assertEquals("1000", map.get(1000));
+		assertNull(map.get(1001));
+		assertNull(map.get(0));
+	}
+
+	@Test
+	@DisplayName("put with illegalArgumentException")
+	void putWithIllegalArgumentException() {
+		// given
+		IntObjectMap<String> map = new IntObjectMap<>(1);
+
+		// when & then
+		assertAll(
+			() -> assertThrows(IllegalArgumentException.class, () -> map.put(0, "zero")),
+			() -> assertThrows(IllegalArgumentException.class, () -> map.put(-1, "negative"))
+		);
+	}
+}
@@ -22,13 +22,24 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import store.buzzbook.coupon.common.constant.CouponScope;
 import store.buzzbook.coupon.common.constant.CouponStatus;
 import store.buzzbook.coupon.common.constant.DiscountType;
+import store.buzzbook.coupon.common.exception.CouponStatusConflictException;
+import store.buzzbook.coupon.common.exception.CouponTransitionConflictException;
 import store.buzzbook.coupon.dto.coupon.CouponLogRequest;
 import store.buzzbook.coupon.dto.coupon.CouponResponse;
+import store.buzzbook.coupon.dto.coupon.CreateBulkCouponRequest;
+import store.buzzbook.coupon.dto.coupon.CreateBulkCouponResponse;
 import store.buzzbook.coupon.dto.coupon.CreateCouponRequest;
+import store.buzzbook.coupon.dto.coupon.CouponTransitionResult;
 import store.buzzbook.coupon.dto.coupon.CreateCouponResponse;
 import store.buzzbook.coupon.dto.coupon.OrderCouponResponse;
 import store.buzzbook.coupon.dto.coupon.UpdateCouponRequest;
+import store.buzzbook.coupon.dto.coupon.UpdateCouponsRequest;
+import store.buzzbook.coupon.dto.coupon.UpdateCouponsResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyResponse;
+import store.buzzbook.coupon.dto.discount.CartDiscountRequest;
+import store.buzzbook.coupon.dto.discount.CartDiscountResponse;
+import store.buzzbook.coupon.dto.discount.CartItemRequest;
+import store.buzzbook.coupon.dto.discount.CouponAssignmentResponse;
 import store.buzzbook.coupon.entity.Coupon;
 import store.buzzbook.coupon.entity.CouponPolicy;
 import store.buzzbook.coupon.entity.CouponType;
@@ -163,4 +174,139 @@ class CouponControllerTest {
 
 		verify(couponService).updateCoupon(any());
 	}
+
+	@Test
+	@DisplayName("create bulk coupons")
+	void createBulkCoupons() throws Exception {
+		CreateBulkCouponRequest request = new CreateBulkCouponRequest(1, 2);
+		CreateBulkCouponResponse response = CreateBulkCouponResponse.builder()
+			.couponPolicyId(1)
+			.count(2)
+			.couponCodes(List.of("aaa", "bbb"))
+			.build();
+
+		when(couponService.createBulkCoupons(any())).thenReturn(response);
+
+		mockMvc.perform(post("/api/coupons/bulk")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isCreated())
+			.andExpect(jsonPath("$.count").value(2))
+			.andExpect(jsonPath("$.couponCodes[1]").value("bbb"));
+
+		verify(couponService).createBulkCoupons(any());
+	}
+
+	@Test
+	@DisplayName("create bulk coupons with invalid count")
+	void createBulkCouponsWithInvalidCount() throws Exception {
+		CreateBulkCouponRequest request = new CreateBulkCouponRequest(1, 100_001);
+
+		mockMvc.perform(post("/api/coupons/bulk")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isBadRequest());
+
+		verify(couponService, never()).createBulkCoupons(any());
+	}
+
+	@Test
+	@DisplayName("update coupon with conflict")
+	void updateCouponWithConflict() throws Exception {
+		UpdateCouponRequest request = new UpdateCouponRequest("aaa", CouponStatus.USED);
+
+		when(couponService.updateCoupon(any())).thenThrow(new CouponStatusConflictException());
+
+		mockMvc.perform(put("/api/coupons")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isConflict());
+	}
+
+	@Test
+	@DisplayName("calculate cart discount")
+	void calculateCartDiscount() throws Exception {
+		CartDiscountRequest request = new CartDiscountRequest(List.of(new CartItemRequest(1, 2, 10000, 1)),
+			List.of("aaa"));
+		CartDiscountResponse response = CartDiscountResponse.builder()
+			.subtotal(10000)
+			.totalDiscount(3000)
+			.applicableCoupons(List.of())
+			.assignments(List.of(new CouponAssignmentResponse("aaa", 0, 3000)))
+			.build();
+
+		when(couponService.calculateCartDiscount(any())).thenReturn(response);
+
+		mockMvc.perform(post("/api/coupons/discount")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.totalDiscount").value(3000))
+			.andExpect(jsonPath("$.assignments[0].lineIndex").value(0));
+
+		verify(couponService).calculateCartDiscount(any());
+	}
+
+	@Test
+	@DisplayName("calculate cart discount with invalid quantity")
+	void calculateCartDiscountWithInvalidQuantity() throws Exception {
+		CartDiscountRequest request = new CartDiscountRequest(List.of(new CartItemRequest(1, 2, 10000, 0)),
+			List.of("aaa"));
+
+		mockMvc.perform(post("/api/coupons/discount")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isBadRequest());
+
+		verify(couponService, never()).calculateCartDiscount(any());
+	}
+
+	@Test
+	@DisplayName("update coupons")
+	void updateCoupons() throws Exception {
+		UpdateCouponsRequest request = new UpdateCouponsRequest(List.of(new UpdateCouponRequest("aaa",
+			CouponStatus.USED)));
+		UpdateCouponsResponse response = new UpdateCouponsResponse(true, List.of(new CouponTransitionResult("aaa",
+			CouponStatus.AVAILABLE, CouponStatus.USED, CouponTransitionResult.Outcome.UPDATED)));
+
+		when(couponService.updateCoupons(any())).thenReturn(response);
+
+		mockMvc.perform(put("/api/coupons/bulk")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.applied").value(true))
+			.andExpect(jsonPath("$.results[0].status").value("used"));
+
+		verify(couponService).updateCoupons(any());
+	}
+
+	@Test
+	@DisplayName("update coupons with conflict")
+	void updateCouponsWithConflict() throws Exception {
+		UpdateCouponsRequest request = new UpdateCouponsRequest(List.of(new UpdateCouponRequest("aaa",
+			CouponStatus.USED)));
+		UpdateCouponsResponse response = new UpdateCouponsResponse(false, List.of(new CouponTransitionResult("aaa",
+			CouponStatus.USED, CouponStatus.USED, CouponTransitionResult.Outcome.CONFLICT)));
+
+		when(couponService.updateCoupons(any())).thenThrow(new CouponTransitionConflictException(response));
+
+		mockMvc.perform(put("/api/coupons/bulk")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isConflict())
+			.andExpect(jsonPath("$.applied").value(false))
+			.andExpect(jsonPath("$.results[0].outcome").value("CONFLICT"));
+	}
+
+	@Test
+	@DisplayName("update coupons with empty request")
+	void updateCouponsWithEmptyRequest() throws Exception {
+		mockMvc.perform(put("/api/coupons/bulk")
+				.content(objectMapper.writeValueAsString(new UpdateCouponsRequest(List.of())))
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isBadRequest());
+
+		verify(couponService, never()).updateCoupons(any());
+	}
 }
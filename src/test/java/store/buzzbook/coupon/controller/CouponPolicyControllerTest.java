@@ -7,6 +7,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,7 +26,10 @@ import store.buzzbook.coupon.common.constant.CouponScope;
 import store.buzzbook.coupon.common.constant.DiscountType;
 import store.buzzbook.coupon.dto.coupon.CouponPoliciesResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyConditionRequest;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyCursorResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyResponse;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTargetRequest;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTargetResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CreateCouponPolicyRequest;
 import store.buzzbook.coupon.dto.couponpolicy.CreateCouponPolicyResponse;
 import store.buzzbook.coupon.dto.couponpolicy.UpdateCouponPolicyRequest;
@@ -202,6 +206,33 @@ class CouponPolicyControllerTest {
 		verify(couponPolicyService).getCouponPoliciesByPaging(any(), any());
 	}
 
+	@Test
+	@DisplayName("get coupon policies by cursor")
+	void getCouponPoliciesByCursor() throws Exception {
+		// given
+		CouponPolicyConditionRequest condition = new CouponPolicyConditionRequest("ALL", "false", "ALL");
+		CouponPolicyCursorResponse response = CouponPolicyCursorResponse.builder()
+			.content(List.of(testCouponPolicyResponse))
+			.nextCursor(testCouponPolicyResponse.id())
+			.hasNext(true)
+			.build();
+
+		when(couponPolicyService.getCouponPoliciesByCursor(eq(0), eq(1), any())).thenReturn(response);
+
+		// when & then
+		mockMvc.perform(post("/api/coupons/policies/condition")
+				.content(objectMapper.writeValueAsString(condition))
+				.param("cursor", "0")
+				.param("size", "1")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content[0].id").value(testCouponPolicyResponse.id()))
+			.andExpect(jsonPath("$.nextCursor").value(testCouponPolicyResponse.id()))
+			.andExpect(jsonPath("$.hasNext").value(true));
+
+		verify(couponPolicyService, never()).getCouponPoliciesByPaging(any(), any());
+	}
+
 	@Test
 	@DisplayName("get coupon policies by scope")
 	void getCouponPoliciesByScope() throws Exception {
@@ -223,4 +254,27 @@ class CouponPolicyControllerTest {
 
 		verify(couponPolicyService).getCouponPoliciesByScope(anyList());
 	}
+
+	@Test
+	@DisplayName("get coupon policies by targets")
+	void getCouponPoliciesByTargets() throws Exception {
+		// given
+		CouponPolicyTargetRequest request = new CouponPolicyTargetRequest(new int[] {1, 2}, new int[] {3});
+		CouponPolicyTargetResponse response = CouponPolicyTargetResponse.builder()
+			.bookCouponPolicies(Map.of(1, List.of(testCouponPolicyResponse), 2, List.of()))
+			.categoryCouponPolicies(Map.of(3, List.of()))
+			.build();
+
+		when(couponPolicyService.getCouponPoliciesByTargets(any())).thenReturn(response);
+
+		// when & then
+		mockMvc.perform(post("/api/coupons/policies/targets")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.bookCouponPolicies['1'][0].id").value(testCouponPolicyResponse.id()))
+			.andExpect(jsonPath("$.categoryCouponPolicies['3']").isEmpty());
+
+		verify(couponPolicyService).getCouponPoliciesByTargets(any());
+	}
 }
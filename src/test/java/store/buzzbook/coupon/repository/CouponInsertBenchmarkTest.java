@@ -0,0 +1,145 @@
+package store.buzzbook.coupon.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.coupon.common.constant.CouponScope;
+import store.buzzbook.coupon.common.constant.CouponStatus;
+import store.buzzbook.coupon.common.constant.DiscountType;
+import store.buzzbook.coupon.entity.Coupon;
+import store.buzzbook.coupon.entity.CouponPolicy;
+import store.buzzbook.coupon.entity.CouponType;
+import store.buzzbook.coupon.repository.couponpolicy.CouponPolicyRepository;
+
+/**
+ * 쿠폰 저장 방식별 처리량을 비교하는 벤치마크 테스트입니다.
+ * <p>
+ * 기본 빌드에서는 실행되지 않으며, {@code -Dbenchmark=true} 를 지정하면 실행됩니다.
+ * 행마다 flush 하는 방식은 IDENTITY 전략처럼 INSERT 마다 데이터베이스를 왕복하는 경우를 나타냅니다.
+ * </p>
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CouponInsertBenchmarkTest {
+
+	private static final int ROWS = 20_000;
+	private static final int CHUNK_SIZE = 1_000;
+
+	@Autowired
+	private CouponRepository couponRepository;
+
+	@Autowired
+	private CouponPolicyRepository couponPolicyRepository;
+
+	@Autowired
+	private CouponTypeRepository couponTypeRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private CouponPolicy testCouponPolicy;
+
+	@BeforeEach
+	void setUp() {
+		CouponType testCouponType = couponTypeRepository.save(CouponType.builder()
+			.name(CouponScope.GLOBAL)
+			.build());
+
+		testCouponPolicy = couponPolicyRepository.saveAndFlush(CouponPolicy.builder()
+			.couponType(testCouponType)
+			.standardPrice(1000)
+			.discountType(DiscountType.AMOUNT)
+			.discountAmount(1000)
+			.discountRate(1.0)
+			.period(7)
+			.startDate(LocalDate.now())
+			.endDate(LocalDate.now().plusDays(7))
+			.name("benchmark")
+			.maxDiscountAmount(1000)
+			.build());
+	}
+
+	@Test
+	@DisplayName("insert per row")
+	void insertPerRow() {
+		long startTime = System.nanoTime();
+
+		for (int i = 0; i < ROWS; i++) {
+			couponRepository.saveAndFlush(createCoupon("ROW-" + i));
+			if ((i + 1) % CHUNK_SIZE == 0) {
+				entityManager.clear();
+			}
+		}
+
+		report("insert per row", startTime);
+	}
+
+	@Test
+	@DisplayName("insert with pooled ids and hibernate batching")
+	void insertWithHibernateBatching() {
+		long startTime = System.nanoTime();
+
+		for (int from = 0; from < ROWS; from += CHUNK_SIZE) {
+			List<Coupon> chunk = new ArrayList<>(CHUNK_SIZE);
+			for (int i = from; i < from + CHUNK_SIZE; i++) {
+				chunk.add(createCoupon("HIB-" + i));
+			}
+			couponRepository.saveAll(chunk);
+			entityManager.flush();
+			entityManager.clear();
+		}
+
+		report("hibernate batching", startTime);
+	}
+
+	@Test
+	@DisplayName("insert with jdbc batch")
+	void insertWithJdbcBatch() {
+		long startTime = System.nanoTime();
+
+		for (int from = 0; from < ROWS; from += CHUNK_SIZE) {
+			List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+			for (int i = from; i < from + CHUNK_SIZE; i++) {
+				chunk.add("JDBC-" + i);
+			}
+			couponRepository.batchInsertCoupons(testCouponPolicy.getId(), chunk, LocalDate.now(),
+				LocalDate.now().plusDays(7), CHUNK_SIZE);
+		}
+
+		report("jdbc batch", startTime);
+	}
+
+	private Coupon createCoupon(String couponCode) {
+		return Coupon.builder()
+			.couponPolicy(testCouponPolicy)
+			.couponCode(couponCode)
+			.createDate(LocalDate.now())
+			.expireDate(LocalDate.now().plusDays(7))
+			.status(CouponStatus.AVAILABLE)
+			.build();
+	}
+
+	private void report(String name, long startTime) {
+		long elapsedNanos = System.nanoTime() - startTime;
+		assertEquals(ROWS, couponRepository.count());
+
+		log.info("{}: {} rows in {} ms ({} rows/s)", name, ROWS, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+			Math.round(ROWS * (double)TimeUnit.SECONDS.toNanos(1) / elapsedNanos));
+	}
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,9 +21,10 @@ import org.springframework.data.domain.Sort;
 import store.buzzbook.coupon.common.constant.CouponScope;
 import store.buzzbook.coupon.common.constant.CouponStatus;
 import store.buzzbook.coupon.common.constant.DiscountType;
-import store.buzzbook.coupon.common.utils.CodeCreator;
+import store.buzzbook.coupon.dto.coupon.CouponResponse;
 import store.buzzbook.coupon.dto.coupon.OrderCouponResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyConditionRequest;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyResponse;
 import store.buzzbook.coupon.entity.CategoryCoupon;
 import store.buzzbook.coupon.entity.Coupon;
 import store.buzzbook.coupon.entity.CouponPolicy;
@@ -136,7 +138,7 @@ class CouponPolicyQuerydslRepositoryImplTest {
 
 		testCoupon1 = Coupon.builder()
 			.couponPolicy(testCouponPolicy1)
-			.couponCode(CodeCreator.createCode())
+			.couponCode("AAAAAAAAAAAAAAAAAAA1")
 			.status(CouponStatus.AVAILABLE)
 			.createDate(LocalDate.now())
 			.expireDate(LocalDate.now().plusDays(testCouponPolicy1.getPeriod()))
@@ -145,7 +147,7 @@ class CouponPolicyQuerydslRepositoryImplTest {
 
 		testCoupon2 = Coupon.builder()
 			.couponPolicy(testCouponPolicy3)
-			.couponCode(CodeCreator.createCode())
+			.couponCode("AAAAAAAAAAAAAAAAAAA2")
 			.status(CouponStatus.AVAILABLE)
 			.createDate(LocalDate.now())
 			.expireDate(LocalDate.now().plusDays(testCouponPolicy3.getPeriod()))
@@ -154,48 +156,94 @@ class CouponPolicyQuerydslRepositoryImplTest {
 	}
 
 	@Test
-	@DisplayName("find all book id")
-	void findAllByBookId() {
+	@DisplayName("find all by coupon condition")
+	void findAllByCouponCondition() {
 		// given
+		Pageable pageable = PageRequest.of(0, 10, Sort.by("id").ascending());
+		CouponPolicyConditionRequest testCondition = new CouponPolicyConditionRequest(
+			"RATE",
+			"false",
+			"GLOBAL"
+		);
 
 		// when
-		List<CouponPolicy> result = couponPolicyRepository.findAllByBookId(1);
+		Page<CouponPolicyResponse> couponPolicies = couponPolicyRepository.findAllByCondition(pageable, testCondition);
 
 		// then
-		assertEquals(2, result.size());
+		assertThat(couponPolicies).isNotNull();
+		assertThat(couponPolicies.getContent()).isNotEmpty();
+		assertEquals(1, couponPolicies.getContent().size());
 	}
 
 	@Test
-	@DisplayName("find all by coupon scope")
-	void findAllByCouponScope() {
+	@DisplayName("find all by coupon condition counts total beyond the page")
+	void findAllByCouponConditionTotal() {
 		// given
-		CouponScope testCouponScope = CouponScope.BOOK;
+		Pageable pageable = PageRequest.of(0, 1);
+		CouponPolicyConditionRequest testCondition = new CouponPolicyConditionRequest("ALL", "false", "ALL");
 
 		// when
-		List<CouponPolicy> result = couponPolicyRepository.findAllByCouponScope(testCouponScope);
+		Page<CouponPolicyResponse> couponPolicies = couponPolicyRepository.findAllByCondition(pageable, testCondition);
 
 		// then
-		assertEquals(1, result.size());
+		assertEquals(1, couponPolicies.getContent().size());
+		assertEquals(3, couponPolicies.getTotalElements());
+		assertEquals(3, couponPolicies.getTotalPages());
 	}
 
 	@Test
-	@DisplayName("find all by coupon condition")
-	void findAllByCouponCondition() {
+	@DisplayName("find all by coupon condition after cursor")
+	void findAllByConditionAfter() {
 		// given
-		Pageable pageable = PageRequest.of(0, 10, Sort.by("id").ascending());
-		CouponPolicyConditionRequest testCondition = new CouponPolicyConditionRequest(
-			"RATE",
-			"false",
-			"GLOBAL"
-		);
+		CouponPolicyConditionRequest testCondition = new CouponPolicyConditionRequest("RATE", "ALL", "ALL");
 
 		// when
-		Page<CouponPolicy> couponPolicies = couponPolicyRepository.findAllByCondition(pageable, testCondition);
+		List<CouponPolicyResponse> firstPage = couponPolicyRepository.findAllByConditionAfter(0, 1, testCondition);
+		List<CouponPolicyResponse> nextPage = couponPolicyRepository.findAllByConditionAfter(firstPage.getLast().id(),
+			10, testCondition);
 
 		// then
-		assertThat(couponPolicies).isNotNull();
-		assertThat(couponPolicies.getContent()).isNotEmpty();
-		assertEquals(1, couponPolicies.getContent().size());
+		assertEquals(1, firstPage.size());
+		assertThat(nextPage).extracting(CouponPolicyResponse::id).containsExactly(testCouponPolicy3.getId());
+		assertThat(firstPage.getFirst().id()).isLessThan(nextPage.getFirst().id());
+		assertEquals(CouponScope.CATEGORY.toString(), nextPage.getFirst().couponTypeResponse().name());
+	}
+
+	@Test
+	@DisplayName("find coupon response by id and coupon code")
+	void findCouponResponse() {
+		// given
+		CouponResponse expected = CouponResponse.from(testCoupon1);
+
+		// when
+		CouponResponse byId = couponPolicyRepository.findCouponResponseById(testCoupon1.getId());
+		CouponResponse byCode = couponPolicyRepository.findCouponResponseByCouponCode(testCoupon1.getCouponCode());
+		CouponResponse missing = couponPolicyRepository.findCouponResponseByCouponCode("NONE");
+
+		// then
+		assertEquals(expected, byId);
+		assertEquals(expected, byCode);
+		assertNull(missing);
+	}
+
+	@Test
+	@DisplayName("find coupon responses by coupon code in")
+	void findCouponResponsesByCouponCodeIn() {
+		// given
+		testCoupon2.changeStatus(CouponStatus.USED);
+		couponRepository.saveAndFlush(testCoupon2);
+		List<String> testCouponCodes = List.of(testCoupon1.getCouponCode(), testCoupon2.getCouponCode(), "NONE");
+
+		// when
+		Map<String, CouponResponse> all = couponPolicyRepository.findCouponResponsesByCouponCodeIn(testCouponCodes,
+			null);
+		Map<String, CouponResponse> used = couponPolicyRepository.findCouponResponsesByCouponCodeIn(testCouponCodes,
+			CouponStatus.USED);
+
+		// then
+		assertThat(all).containsOnlyKeys(testCoupon1.getCouponCode(), testCoupon2.getCouponCode());
+		assertEquals(testCouponPolicy3.getId(), all.get(testCoupon2.getCouponCode()).couponPolicyResponse().id());
+		assertThat(used).containsOnlyKeys(testCoupon2.getCouponCode());
 	}
 
 	@Test
@@ -229,4 +277,35 @@ class CouponPolicyQuerydslRepositoryImplTest {
 		assertEquals(testCouponPolicy3.getId(), response.couponPolicyResponse().id());
 		assertEquals(1, response.targetId());
 	}
+
+	@Test
+	@DisplayName("find coupons with target ids")
+	void findCouponsWithTargetIds() {
+		// given
+		List<String> testCouponCodes = List.of(testCoupon2.getCouponCode(), testCoupon1.getCouponCode(), "NONE");
+
+		// when
+		List<OrderCouponResponse> responses = couponPolicyRepository.findCouponsWithTargetIds(testCouponCodes);
+
+		// then
+		assertThat(responses).extracting(OrderCouponResponse::code)
+			.containsExactlyInAnyOrder(testCoupon1.getCouponCode(), testCoupon2.getCouponCode());
+		assertThat(responses).extracting(OrderCouponResponse::targetId).containsOnly(1);
+	}
+
+	@Test
+	@DisplayName("find coupons with target ids keeps requested order")
+	void findCouponsWithTargetIdsInRequestedOrder() {
+		// given
+		List<String> testCouponCodes = List.of(testCoupon2.getCouponCode(), "NONE", testCoupon1.getCouponCode(),
+			testCoupon2.getCouponCode());
+
+		// when
+		List<OrderCouponResponse> responses = couponPolicyRepository.findCouponsWithTargetIds(testCouponCodes);
+
+		// then
+		assertThat(testCoupon2.getId()).isGreaterThan(testCoupon1.getId());
+		assertThat(responses).extracting(OrderCouponResponse::code)
+			.containsExactly(testCoupon2.getCouponCode(), testCoupon1.getCouponCode());
+	}
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,11 +13,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import store.buzzbook.coupon.common.constant.CouponScope;
 import store.buzzbook.coupon.common.constant.CouponStatus;
 import store.buzzbook.coupon.common.constant.DiscountType;
+import store.buzzbook.coupon.dto.coupon.CouponExpiryKey;
+import store.buzzbook.coupon.dto.coupon.CouponResponse;
+import store.buzzbook.coupon.dto.coupon.CouponStatusResponse;
 import store.buzzbook.coupon.entity.Coupon;
+import store.buzzbook.coupon.entity.CouponArchive;
 import store.buzzbook.coupon.entity.CouponPolicy;
 import store.buzzbook.coupon.entity.CouponType;
 import store.buzzbook.coupon.repository.couponpolicy.CouponPolicyRepository;
@@ -34,6 +40,9 @@ class CouponRepositoryTest {
 	@Autowired
 	private CouponTypeRepository couponTypeRepository;
 
+	@Autowired
+	private CouponArchiveRepository couponArchiveRepository;
+
 	private Coupon testCoupon;
 	private CouponPolicy testCouponPolicy;
 
@@ -105,6 +114,141 @@ class CouponRepositoryTest {
 		assertEquals(foundCoupon.getStatus(), updatedStatus);
 	}
 
+	@Test
+	@DisplayName("compare and set status")
+	void compareAndSetStatus() {
+		// given
+		String couponCode = testCoupon.getCouponCode();
+
+		// when
+		int redeemed = couponRepository.compareAndSetStatus(couponCode, CouponStatus.AVAILABLE, CouponStatus.USED);
+		int lostRace = couponRepository.compareAndSetStatus(couponCode, CouponStatus.AVAILABLE, CouponStatus.USED);
+		int missing = couponRepository.compareAndSetStatus("MISSING", CouponStatus.AVAILABLE, CouponStatus.USED);
+
+		// then
+		assertEquals(1, redeemed);
+		assertEquals(0, lostRace);
+		assertEquals(0, missing);
+		Optional<Coupon> foundCoupon = couponRepository.findByCouponCode(couponCode);
+		assertThat(foundCoupon).isPresent();
+		assertEquals(CouponStatus.USED, foundCoupon.get().getStatus());
+	}
+
+	@Test
+	@DisplayName("compare and set status in")
+	void compareAndSetStatusIn() {
+		// given
+		Coupon usedCoupon = couponRepository.save(Coupon.builder()
+			.couponPolicy(testCouponPolicy)
+			.couponCode("AAAA-AAAA-AAAC")
+			.createDate(LocalDate.now())
+			.expireDate(LocalDate.now().plusDays(2))
+			.status(CouponStatus.USED)
+			.build());
+		List<String> couponCodes = List.of(testCoupon.getCouponCode(), usedCoupon.getCouponCode(), "MISSING");
+
+		// when
+		int updated = couponRepository.compareAndSetStatusIn(couponCodes, CouponStatus.AVAILABLE, CouponStatus.USED);
+		List<CouponStatusResponse> statuses = couponRepository.findStatusesByCouponCodeIn(couponCodes);
+
+		// then
+		assertEquals(1, updated);
+		assertThat(statuses).containsExactlyInAnyOrder(
+			new CouponStatusResponse(testCoupon.getCouponCode(), CouponStatus.USED),
+			new CouponStatusResponse(usedCoupon.getCouponCode(), CouponStatus.USED));
+	}
+
+	@Test
+	@DisplayName("find expiry keys after and expire by ids")
+	void findExpiryKeysAfter() {
+		// given
+		LocalDate today = LocalDate.now();
+		Coupon firstExpired = couponRepository.save(Coupon.builder()
+			.couponPolicy(testCouponPolicy)
+			.couponCode("AAAA-AAAA-AAAD")
+			.createDate(today.minusDays(10))
+			.expireDate(today.minusDays(3))
+			.status(CouponStatus.AVAILABLE)
+			.build());
+		Coupon secondExpired = couponRepository.save(Coupon.builder()
+			.couponPolicy(testCouponPolicy)
+			.couponCode("AAAA-AAAA-AAAE")
+			.createDate(today.minusDays(10))
+			.expireDate(today.minusDays(1))
+			.status(CouponStatus.AVAILABLE)
+			.build());
+		couponRepository.save(Coupon.builder()
+			.couponPolicy(testCouponPolicy)
+			.couponCode("AAAA-AAAA-AAAF")
+			.createDate(today.minusDays(10))
+			.expireDate(today.minusDays(2))
+			.status(CouponStatus.USED)
+			.build());
+
+		// when
+		List<CouponExpiryKey> firstChunk = couponRepository.findExpiryKeysAfter(CouponStatus.AVAILABLE, today,
+			LocalDate.EPOCH, 0, Limit.of(1));
+		List<CouponExpiryKey> nextChunk = couponRepository.findExpiryKeysAfter(CouponStatus.AVAILABLE, today,
+			firstChunk.getLast().expireDate(), firstChunk.getLast().id(), Limit.of(10));
+		int expired = couponRepository.compareAndSetStatusByIdIn(
+			List.of(firstExpired.getId(), secondExpired.getId()), CouponStatus.AVAILABLE, CouponStatus.EXPIRED);
+
+		// then
+		assertThat(firstChunk).containsExactly(new CouponExpiryKey(firstExpired.getId(), today.minusDays(3)));
+		assertThat(nextChunk).containsExactly(new CouponExpiryKey(secondExpired.getId(), today.minusDays(1)));
+		assertEquals(2, expired);
+		assertEquals(CouponStatus.EXPIRED, couponRepository.findById(firstExpired.getId()).orElseThrow().getStatus());
+	}
+
+	@Test
+	@DisplayName("archive coupons and find archived coupons")
+	void archiveCoupons() {
+		// given
+		LocalDate today = LocalDate.now();
+		Coupon oldUsed = couponRepository.save(Coupon.builder()
+			.couponPolicy(testCouponPolicy)
+			.couponCode("AAAA-AAAA-AAAG")
+			.createDate(today.minusDays(100))
+			.expireDate(today.minusDays(40))
+			.status(CouponStatus.USED)
+			.build());
+		couponRepository.save(Coupon.builder()
+			.couponPolicy(testCouponPolicy)
+			.couponCode("AAAA-AAAA-AAAH")
+			.createDate(today.minusDays(100))
+			.expireDate(today.minusDays(35))
+			.status(CouponStatus.USED)
+			.build());
+		couponRepository.saveAndFlush(Coupon.builder()
+			.couponPolicy(testCouponPolicy)
+			.couponCode("AAAA-AAAA-AAAI")
+			.createDate(today.minusDays(10))
+			.expireDate(today.minusDays(5))
+			.status(CouponStatus.USED)
+			.build());
+
+		// when
+		int firstChunk = couponRepository.archiveCoupons(CouponStatus.USED, today.minusDays(30), today, 1);
+		int nextChunk = couponRepository.archiveCoupons(CouponStatus.USED, today.minusDays(30), today, 10);
+		int expiredChunk = couponRepository.archiveCoupons(CouponStatus.EXPIRED, today.minusDays(30), today, 10);
+		CouponResponse archived = couponPolicyRepository.findArchivedCouponResponseById(oldUsed.getId());
+
+		// then
+		assertEquals(1, firstChunk);
+		assertEquals(1, nextChunk);
+		assertEquals(0, expiredChunk);
+		assertFalse(couponRepository.existsByCouponCode("AAAA-AAAA-AAAG"));
+		assertTrue(couponRepository.existsByCouponCode("AAAA-AAAA-AAAI"));
+		assertThat(couponArchiveRepository.findAll())
+			.extracting(CouponArchive::getCouponCode)
+			.containsExactlyInAnyOrder("AAAA-AAAA-AAAG", "AAAA-AAAA-AAAH");
+		assertThat(archived).isNotNull();
+		assertEquals(CouponStatus.USED, archived.status());
+		assertEquals(testCouponPolicy.getId(), archived.couponPolicyResponse().id());
+		assertThat(couponPolicyRepository.findArchivedCouponResponsesByCouponCodeIn(
+			List.of("AAAA-AAAA-AAAG", "AAAA-AAAA-AAAI"), CouponStatus.USED)).containsOnlyKeys("AAAA-AAAA-AAAG");
+	}
+
 	@Test
 	@DisplayName("delete")
 	void delete() {
@@ -140,4 +284,52 @@ class CouponRepositoryTest {
 		// then
 		assertThat(coupons).hasSize(2);
 	}
+
+	@Test
+	@DisplayName("batch insert coupons")
+	void batchInsertCoupons() {
+		// given
+		List<String> couponCodes = List.of("BULK-0001", "BULK-0002", "BULK-0003");
+		couponRepository.flush();
+
+		// when
+		int inserted = couponRepository.batchInsertCoupons(testCouponPolicy.getId(), couponCodes, LocalDate.now(),
+			LocalDate.now().plusDays(2), 2);
+
+		// then
+		List<Coupon> coupons = couponRepository.findAll().stream()
+			.filter(coupon -> couponCodes.contains(coupon.getCouponCode()))
+			.toList();
+		assertEquals(3, inserted);
+		assertEquals(3, coupons.size());
+		assertThat(coupons).allMatch(coupon -> coupon.getStatus() == CouponStatus.AVAILABLE
+			&& coupon.getCouponPolicy().getId() == testCouponPolicy.getId());
+	}
+
+	@Test
+	@DisplayName("batch insert coupons with ids shared by pooled generator")
+	void batchInsertCouponsWithSharedIds() {
+		// given
+		List<String> couponCodes = List.of("BULK-0004", "BULK-0005");
+		couponRepository.flush();
+
+		// when
+		couponRepository.batchInsertCoupons(testCouponPolicy.getId(), couponCodes, LocalDate.now(),
+			LocalDate.now().plusDays(2), 10);
+		Coupon newCoupon = couponRepository.saveAndFlush(Coupon.builder()
+			.couponPolicy(testCouponPolicy)
+			.couponCode("AAAA-AAAA-AAAD")
+			.createDate(LocalDate.now())
+			.expireDate(LocalDate.now().plusDays(2))
+			.status(CouponStatus.AVAILABLE)
+			.build());
+
+		// then
+		List<Coupon> coupons = couponRepository.findAll();
+		assertEquals(4, coupons.size());
+		assertEquals(4, coupons.stream().map(Coupon::getId).distinct().count());
+		assertThat(coupons).filteredOn(coupon -> couponCodes.contains(coupon.getCouponCode()))
+			.hasSize(2)
+			.allMatch(coupon -> coupon.getId() > newCoupon.getId());
+	}
 }
@@ -3,6 +3,7 @@ package store.buzzbook.coupon.repository;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
 import store.buzzbook.coupon.common.constant.CouponScope;
 import store.buzzbook.coupon.common.constant.DiscountType;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTarget;
 import store.buzzbook.coupon.entity.CouponPolicy;
 import store.buzzbook.coupon.entity.CouponType;
 import store.buzzbook.coupon.entity.SpecificCoupon;
@@ -95,5 +97,17 @@ class SpecificCouponRepositoryTest {
 		// then
 		assertFalse(optionalSpecificCoupon.isPresent());
 	}
-}
 
+	@Test
+	@DisplayName("find all targets")
+	void findAllTargets() {
+		// given
+
+		// when
+		List<CouponPolicyTarget> targets = specificCouponRepository.findAllTargets();
+
+		// then
+		assertEquals(List.of(new CouponPolicyTarget(testSpecificCoupon.getBookId(), testCouponPolicy.getId())),
+			targets);
+	}
+}
@@ -23,12 +23,16 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import store.buzzbook.coupon.common.cache.CouponPolicyCatalog;
 import store.buzzbook.coupon.common.constant.CouponScope;
 import store.buzzbook.coupon.common.constant.DiscountType;
 import store.buzzbook.coupon.common.exception.CouponPolicyNotFoundException;
 import store.buzzbook.coupon.dto.coupon.CouponPoliciesResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyConditionRequest;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyCursorResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyResponse;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTargetRequest;
+import store.buzzbook.coupon.dto.couponpolicy.CouponPolicyTargetResponse;
 import store.buzzbook.coupon.dto.couponpolicy.CreateCouponPolicyRequest;
 import store.buzzbook.coupon.dto.couponpolicy.CreateCouponPolicyResponse;
 import store.buzzbook.coupon.dto.couponpolicy.UpdateCouponPolicyRequest;
@@ -56,6 +60,9 @@ class CouponPolicyServiceTest {
 	@Mock
 	private CategoryCouponRepository categoryCouponRepository;
 
+	@Mock
+	private CouponPolicyCatalog couponPolicyCatalog;
+
 	@InjectMocks
 	private CouponPolicyServiceImpl couponPolicyService;
 
@@ -112,7 +119,7 @@ class CouponPolicyServiceTest {
 			"BOOK"
 		);
 		when(couponPolicyRepository.findAllByCondition(any(), any())).thenReturn(
-			new PageImpl<>(List.of(testCouponPolicy1)));
+			new PageImpl<>(List.of(CouponPolicyResponse.from(testCouponPolicy1))));
 
 		// when
 		Page<CouponPolicyResponse> couponPolicies = couponPolicyService.getCouponPoliciesByPaging(pageable,
@@ -132,12 +139,61 @@ class CouponPolicyServiceTest {
 		assertThrows(IllegalArgumentException.class, () -> couponPolicyService.getCouponPoliciesByPaging(null, null));
 	}
 
+	@Test
+	@DisplayName("get coupon policies by cursor")
+	void getCouponPoliciesByCursor() {
+		// given
+		CouponPolicyConditionRequest testCondition = new CouponPolicyConditionRequest("ALL", "ALL", "ALL");
+		CouponPolicyResponse testCouponPolicyResponse = CouponPolicyResponse.from(testCouponPolicy1);
+		when(couponPolicyRepository.findAllByConditionAfter(0, 2, testCondition)).thenReturn(
+			List.of(testCouponPolicyResponse, testCouponPolicyResponse));
+
+		// when
+		CouponPolicyCursorResponse response = couponPolicyService.getCouponPoliciesByCursor(0, 1, testCondition);
+
+		// then
+		assertEquals(1, response.content().size());
+		assertTrue(response.hasNext());
+		assertEquals(testCouponPolicy1.getId(), response.nextCursor());
+	}
+
+	@Test
+	@DisplayName("get coupon policies by cursor on last page")
+	void getCouponPoliciesByCursorLastPage() {
+		// given
+		CouponPolicyConditionRequest testCondition = new CouponPolicyConditionRequest("ALL", "ALL", "ALL");
+		when(couponPolicyRepository.findAllByConditionAfter(5, 11, testCondition)).thenReturn(
+			List.of(CouponPolicyResponse.from(testCouponPolicy1)));
+
+		// when
+		CouponPolicyCursorResponse response = couponPolicyService.getCouponPoliciesByCursor(5, 10, testCondition);
+
+		// then
+		assertEquals(1, response.content().size());
+		assertFalse(response.hasNext());
+		assertNull(response.nextCursor());
+	}
+
+	@Test
+	@DisplayName("get coupon policies by cursor with invalid size")
+	void getCouponPoliciesByCursorWithInvalidSize() {
+		// given
+		CouponPolicyConditionRequest testCondition = new CouponPolicyConditionRequest("ALL", "ALL", "ALL");
+
+		// when & then
+		assertThrows(IllegalArgumentException.class,
+			() -> couponPolicyService.getCouponPoliciesByCursor(0, 0, testCondition));
+		assertThrows(IllegalArgumentException.class,
+			() -> couponPolicyService.getCouponPoliciesByCursor(-1, 10, testCondition));
+	}
+
 	@Test
 	@DisplayName("get coupon policies by book scope")
 	void getCouponPoliciesByBookScope() {
 		// given
 		List<String> testScopes = List.of("BOOK");
-		when(couponPolicyRepository.findAllByCouponScope(any())).thenReturn(List.of(testCouponPolicy1));
+		when(couponPolicyCatalog.getActivePolicies(CouponScope.BOOK)).thenReturn(
+			List.of(CouponPolicyResponse.from(testCouponPolicy1)));
 
 		// when
 		CouponPoliciesResponse couponPolicyResponse = couponPolicyService.getCouponPoliciesByScope(testScopes);
@@ -152,7 +208,7 @@ class CouponPolicyServiceTest {
 	void getCouponPoliciesByGlobalScope() {
 		// given
 		List<String> testScopes = List.of("GlOBAL");
-		when(couponPolicyRepository.findAllByCouponScope(any())).thenReturn(List.of(testCouponPolicy2));
+		when(couponPolicyCatalog.getActivePolicies(CouponScope.GLOBAL)).thenReturn(List.of());
 
 		// when
 		CouponPoliciesResponse couponPoliciesResponse = couponPolicyService.getCouponPoliciesByScope(testScopes);
@@ -177,7 +233,8 @@ class CouponPolicyServiceTest {
 	@DisplayName("get specific coupons by bookId")
 	void getSpecificCoupons() {
 		// given
-		when(couponPolicyRepository.findAllByBookId(anyInt())).thenReturn(List.of(testCouponPolicy1));
+		when(couponPolicyCatalog.getBookPolicies(anyInt())).thenReturn(
+			List.of(CouponPolicyResponse.from(testCouponPolicy1)));
 
 		// when
 		List<CouponPolicyResponse> result = couponPolicyService.getSpecificCoupons(1);
@@ -185,7 +242,40 @@ class CouponPolicyServiceTest {
 		// then
 		assertEquals(1, result.size());
 		assertEquals(testCouponPolicy1.getId(), result.getFirst().id());
-		verify(couponPolicyRepository, times(1)).findAllByBookId(anyInt());
+		verify(couponPolicyCatalog, times(1)).getBookPolicies(anyInt());
+	}
+
+	@Test
+	@DisplayName("get coupon policies by targets")
+	void getCouponPoliciesByTargets() {
+		// given
+		CouponPolicyTargetRequest testRequest = new CouponPolicyTargetRequest(new int[] {1, 2}, new int[] {3});
+		when(couponPolicyCatalog.getBookPolicies(1)).thenReturn(List.of(CouponPolicyResponse.from(testCouponPolicy1)));
+		when(couponPolicyCatalog.getBookPolicies(2)).thenReturn(List.of());
+		when(couponPolicyCatalog.getCategoryPolicies(3)).thenReturn(List.of());
+
+		// when
+		CouponPolicyTargetResponse result = couponPolicyService.getCouponPoliciesByTargets(testRequest);
+
+		// then
+		assertEquals(2, result.bookCouponPolicies().size());
+		assertEquals(1, result.bookCouponPolicies().get(1).size());
+		assertTrue(result.categoryCouponPolicies().get(3).isEmpty());
+	}
+
+	@Test
+	@DisplayName("get coupon policies by targets with illegalArgumentException")
+	void getCouponPoliciesByTargetsWithIllegalArgumentException() {
+		// given
+		CouponPolicyTargetRequest testRequest = new CouponPolicyTargetRequest(new int[] {0}, new int[] {});
+
+		// when & then
+		assertAll(
+			() -> assertThrows(IllegalArgumentException.class,
+				() -> couponPolicyService.getCouponPoliciesByTargets(null)),
+			() -> assertThrows(IllegalArgumentException.class,
+				() -> couponPolicyService.getCouponPoliciesByTargets(testRequest))
+		);
 	}
 
 	@Test
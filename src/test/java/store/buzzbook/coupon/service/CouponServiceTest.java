@@ -7,7 +7,9 @@ import static org.mockito.Mockito.*;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,14 +23,27 @@ import org.springframework.transaction.annotation.Transactional;
 import store.buzzbook.coupon.common.constant.CouponScope;
 import store.buzzbook.coupon.common.constant.CouponStatus;
 import store.buzzbook.coupon.common.constant.DiscountType;
+import store.buzzbook.coupon.common.discount.CartDiscountCalculator;
 import store.buzzbook.coupon.common.exception.CouponNotFoundException;
-import store.buzzbook.coupon.common.utils.CodeCreator;
+import store.buzzbook.coupon.common.exception.CouponStatusConflictException;
+import store.buzzbook.coupon.common.exception.CouponTransitionConflictException;
+import store.buzzbook.coupon.common.generator.CouponCodeGenerator;
+import store.buzzbook.coupon.common.generator.CouponCodePool;
 import store.buzzbook.coupon.dto.coupon.CouponLogRequest;
 import store.buzzbook.coupon.dto.coupon.CouponResponse;
+import store.buzzbook.coupon.dto.coupon.CouponStatusResponse;
+import store.buzzbook.coupon.dto.coupon.CouponTransitionResult;
+import store.buzzbook.coupon.dto.coupon.CreateBulkCouponRequest;
+import store.buzzbook.coupon.dto.coupon.CreateBulkCouponResponse;
 import store.buzzbook.coupon.dto.coupon.CreateCouponRequest;
 import store.buzzbook.coupon.dto.coupon.CreateCouponResponse;
 import store.buzzbook.coupon.dto.coupon.OrderCouponResponse;
 import store.buzzbook.coupon.dto.coupon.UpdateCouponRequest;
+import store.buzzbook.coupon.dto.coupon.UpdateCouponsRequest;
+import store.buzzbook.coupon.dto.coupon.UpdateCouponsResponse;
+import store.buzzbook.coupon.dto.discount.CartDiscountRequest;
+import store.buzzbook.coupon.dto.discount.CartDiscountResponse;
+import store.buzzbook.coupon.dto.discount.CartItemRequest;
 import store.buzzbook.coupon.entity.Coupon;
 import store.buzzbook.coupon.entity.CouponPolicy;
 import store.buzzbook.coupon.entity.CouponType;
@@ -49,6 +64,15 @@ class CouponServiceTest {
 	@Mock
 	private CouponPolicyService couponPolicyService;
 
+	@Mock
+	private CouponCodeGenerator couponCodeGenerator;
+
+	@Mock
+	private CouponCodePool couponCodePool;
+
+	@Mock
+	private CartDiscountCalculator cartDiscountCalculator;
+
 	@InjectMocks
 	private CouponServiceImpl couponService;
 
@@ -57,6 +81,8 @@ class CouponServiceTest {
 
 	@BeforeEach
 	void setUp() {
+		lenient().when(couponCodeGenerator.isWellFormed(anyString())).thenReturn(true);
+
 		CouponType testCouponType = CouponType.builder()
 			.name(CouponScope.BOOK)
 			.build();
@@ -76,7 +102,7 @@ class CouponServiceTest {
 
 		testCoupon = Coupon.builder()
 			.id(1L)
-			.couponCode(CodeCreator.createCode())
+			.couponCode("ABCDEFGHIJ0123456789")
 			.couponPolicy(testCouponPolicy)
 			.createDate(LocalDate.now())
 			.expireDate(LocalDate.now().plusDays(7))
@@ -88,7 +114,7 @@ class CouponServiceTest {
 	@DisplayName("get coupon")
 	void getCoupon() {
 		// given
-		when(couponRepository.findById(anyLong())).thenReturn(Optional.of(testCoupon));
+		when(couponPolicyRepository.findCouponResponseById(anyLong())).thenReturn(CouponResponse.from(testCoupon));
 
 		// when
 		CouponResponse couponResponse = couponService.getCoupon(1);
@@ -99,6 +125,32 @@ class CouponServiceTest {
 		assertEquals(testCoupon.getCouponPolicy().getId(), couponResponse.couponPolicyResponse().id());
 	}
 
+	@Test
+	@DisplayName("get archived coupon")
+	void getArchivedCoupon() {
+		// given
+		when(couponPolicyRepository.findCouponResponseById(anyLong())).thenReturn(null);
+		when(couponPolicyRepository.findArchivedCouponResponseById(anyLong()))
+			.thenReturn(CouponResponse.from(testCoupon));
+
+		// when
+		CouponResponse couponResponse = couponService.getCoupon(1);
+
+		// then
+		assertEquals(testCoupon.getId(), couponResponse.id());
+	}
+
+	@Test
+	@DisplayName("get coupon with not found")
+	void getCouponWithNotFound() {
+		// given
+		when(couponPolicyRepository.findCouponResponseById(anyLong())).thenReturn(null);
+		when(couponPolicyRepository.findArchivedCouponResponseById(anyLong())).thenReturn(null);
+
+		// when & then
+		assertThrows(CouponNotFoundException.class, () -> couponService.getCoupon(1));
+	}
+
 	@Test
 	@DisplayName("get coupon with illegalArgumentException")
 	void getCouponWithIllegalArgumentException() {
@@ -119,8 +171,8 @@ class CouponServiceTest {
 		List<CouponLogRequest> testRequests = List.of(new CouponLogRequest(testCoupon.getCouponCode(),
 			testCouponPolicy.getId()));
 		String testCouponStatusName = "all";
-		when(couponRepository.findByCouponCodeAndCouponPolicyId(anyString(), anyInt())).thenReturn(
-			Optional.of(testCoupon));
+		when(couponPolicyRepository.findCouponResponsesByCouponCodeIn(anyList(), isNull())).thenReturn(
+			Map.of(testCoupon.getCouponCode(), CouponResponse.from(testCoupon)));
 
 		// when
 		List<CouponResponse> couponResponses = couponService.getAllCouponsByStatus(testRequests, testCouponStatusName);
@@ -137,8 +189,8 @@ class CouponServiceTest {
 		List<CouponLogRequest> testRequests = List.of(new CouponLogRequest(testCoupon.getCouponCode(),
 			testCouponPolicy.getId()));
 		String testCouponStatusName = "available";
-		when(couponRepository.findByCouponCodeAndCouponPolicyIdAndStatus(anyString(), anyInt(), any())).thenReturn(
-			Optional.of(testCoupon));
+		when(couponPolicyRepository.findCouponResponsesByCouponCodeIn(anyList(), eq(CouponStatus.AVAILABLE))).thenReturn(
+			Map.of(testCoupon.getCouponCode(), CouponResponse.from(testCoupon)));
 
 		// when
 		List<CouponResponse> couponResponses = couponService.getAllCouponsByStatus(testRequests, testCouponStatusName);
@@ -148,6 +200,79 @@ class CouponServiceTest {
 		assertEquals(testRequests.size(), couponResponses.size());
 	}
 
+	@Test
+	@DisplayName("get all coupons by status with archived coupons")
+	void getAllCouponsByStatusWithArchivedCoupons() {
+		// given
+		String archivedCouponCode = testCoupon.getCouponCode() + "X";
+		List<CouponLogRequest> testRequests = List.of(
+			new CouponLogRequest(testCoupon.getCouponCode(), testCouponPolicy.getId()),
+			new CouponLogRequest(archivedCouponCode, testCouponPolicy.getId()));
+		when(couponPolicyRepository.findCouponResponsesByCouponCodeIn(anyList(), isNull())).thenReturn(
+			Map.of(testCoupon.getCouponCode(), CouponResponse.from(testCoupon)));
+		when(couponPolicyRepository.findArchivedCouponResponsesByCouponCodeIn(List.of(archivedCouponCode), null))
+			.thenReturn(Map.of(archivedCouponCode, CouponResponse.from(testCoupon)));
+
+		// when
+		List<CouponResponse> couponResponses = couponService.getAllCouponsByStatus(testRequests, "all");
+
+		// then
+		assertEquals(2, couponResponses.size());
+	}
+
+	@Test
+	@DisplayName("get all available coupons skips archive")
+	void getAllAvailableCouponsSkipsArchive() {
+		// given
+		List<CouponLogRequest> testRequests = List.of(new CouponLogRequest(testCoupon.getCouponCode(),
+			testCouponPolicy.getId()));
+		when(couponPolicyRepository.findCouponResponsesByCouponCodeIn(anyList(), eq(CouponStatus.AVAILABLE)))
+			.thenReturn(Map.of());
+
+		// when & then
+		assertThrows(CouponNotFoundException.class,
+			() -> couponService.getAllCouponsByStatus(testRequests, "available"));
+		verify(couponPolicyRepository, never()).findArchivedCouponResponsesByCouponCodeIn(anyList(), any());
+	}
+
+	@Test
+	@DisplayName("get all coupons by status with duplicated codes")
+	void getAllCouponsByStatusWithDuplicatedCodes() {
+		// given
+		CouponLogRequest testRequest = new CouponLogRequest(testCoupon.getCouponCode(), testCouponPolicy.getId());
+		List<CouponLogRequest> testRequests = List.of(testRequest, testRequest);
+		when(couponPolicyRepository.findCouponResponsesByCouponCodeIn(anyList(), isNull())).thenReturn(
+			Map.of(testCoupon.getCouponCode(), CouponResponse.from(testCoupon)));
+
+		// when
+		List<CouponResponse> couponResponses = couponService.getAllCouponsByStatus(testRequests, "all");
+
+		// then
+		verify(couponPolicyRepository, times(1)).findCouponResponsesByCouponCodeIn(List.of(testCoupon.getCouponCode()), null);
+		assertEquals(1, couponResponses.size());
+	}
+
+	@Test
+	@DisplayName("get all coupons by status with not found")
+	void getAllCouponsByStatusWithNotFound() {
+		// given
+		List<CouponLogRequest> testRequests = List.of(
+			new CouponLogRequest(testCoupon.getCouponCode(), testCouponPolicy.getId()),
+			new CouponLogRequest(testCoupon.getCouponCode() + "X", testCouponPolicy.getId()));
+		List<CouponLogRequest> testWrongPolicyRequests = List.of(
+			new CouponLogRequest(testCoupon.getCouponCode(), testCouponPolicy.getId() + 1));
+		when(couponPolicyRepository.findCouponResponsesByCouponCodeIn(anyList(), isNull())).thenReturn(
+			Map.of(testCoupon.getCouponCode(), CouponResponse.from(testCoupon)));
+
+		// when & then
+		assertAll(
+			() -> assertThrows(CouponNotFoundException.class,
+				() -> couponService.getAllCouponsByStatus(testRequests, "all")),
+			() -> assertThrows(CouponNotFoundException.class,
+				() -> couponService.getAllCouponsByStatus(testWrongPolicyRequests, "all"))
+		);
+	}
+
 	@Test
 	@DisplayName("get all coupons by status with exception")
 	void getAllCouponsByStatusWithException() {
@@ -173,7 +298,7 @@ class CouponServiceTest {
 		OrderCouponResponse response = OrderCouponResponse.from(testCoupon);
 		List<CouponLogRequest> testRequests = List.of(new CouponLogRequest(testCoupon.getCouponCode(),
 			testCouponPolicy.getId()));
-		when(couponPolicyRepository.findCouponsWithTargetId(anyString())).thenReturn(response);
+		when(couponPolicyRepository.findCouponsWithTargetIds(anyList())).thenReturn(List.of(response));
 
 		// when
 		List<OrderCouponResponse> couponResponses = couponService.getAvailableCoupons(testRequests);
@@ -195,6 +320,36 @@ class CouponServiceTest {
 		);
 	}
 
+	@Test
+	@DisplayName("calculate cart discount")
+	void calculateCartDiscount() {
+		// given
+		OrderCouponResponse response = OrderCouponResponse.from(testCoupon);
+		List<CartItemRequest> items = List.of(new CartItemRequest(1, 2, 20000, 1));
+		CartDiscountRequest request = new CartDiscountRequest(items,
+			List.of(testCoupon.getCouponCode(), testCoupon.getCouponCode(), "INVALID"));
+		CartDiscountResponse expected = CartDiscountResponse.builder().totalDiscount(10000).build();
+		when(couponCodeGenerator.isWellFormed("INVALID")).thenReturn(false);
+		when(couponPolicyRepository.findCouponsWithTargetIds(List.of(testCoupon.getCouponCode())))
+			.thenReturn(List.of(response));
+		when(cartDiscountCalculator.calculate(eq(items), eq(List.of(response)), any())).thenReturn(expected);
+
+		// when
+		CartDiscountResponse actual = couponService.calculateCartDiscount(request);
+
+		// then
+		assertEquals(expected, actual);
+	}
+
+	@Test
+	@DisplayName("calculate cart discount with exception")
+	void calculateCartDiscountWithException() {
+		// given
+
+		// when & then
+		assertThrows(IllegalArgumentException.class, () -> couponService.calculateCartDiscount(null));
+	}
+
 	@Test
 	@DisplayName("save")
 	void save() {
@@ -204,6 +359,7 @@ class CouponServiceTest {
 		);
 
 		when(couponPolicyService.getCouponPolicyById(anyInt())).thenReturn(testCouponPolicy);
+		when(couponCodePool.take()).thenReturn(testCoupon.getCouponCode());
 		when(couponRepository.save(any())).thenReturn(testCoupon);
 
 		// when
@@ -224,33 +380,212 @@ class CouponServiceTest {
 		assertThrows(IllegalArgumentException.class, () -> couponService.createCoupon(null));
 	}
 
+	@Test
+	@DisplayName("create bulk coupons")
+	void createBulkCoupons() {
+		// given
+		CreateBulkCouponRequest testRequest = new CreateBulkCouponRequest(1, 2_500);
+		when(couponPolicyService.getCouponPolicyById(anyInt())).thenReturn(testCouponPolicy);
+		when(couponCodeGenerator.createCodes(anyInt())).thenAnswer(invocation -> IntStream
+			.range(0, invocation.<Integer>getArgument(0))
+			.mapToObj(i -> UUID.randomUUID().toString())
+			.toList());
+		when(couponRepository.batchInsertCoupons(anyInt(), anyList(), any(), any(), anyInt()))
+			.thenAnswer(invocation -> invocation.<List<String>>getArgument(1).size());
+
+		// when
+		CreateBulkCouponResponse testResponse = couponService.createBulkCoupons(testRequest);
+
+		// then
+		verify(couponPolicyService, times(1)).getCouponPolicyById(1);
+		verify(couponCodeGenerator, times(3)).createCodes(anyInt());
+		verify(couponRepository, times(3)).batchInsertCoupons(anyInt(), anyList(), any(), any(), anyInt());
+		assertEquals(2_500, testResponse.count());
+		assertEquals(2_500, testResponse.couponCodes().stream().distinct().count());
+		assertTrue(testResponse.rowsPerSecond() > 0);
+	}
+
+	@Test
+	@DisplayName("create bulk coupons with illegalArgumentException")
+	void createBulkCouponsWithIllegalArgumentException() {
+		// given
+
+		// when & then
+		assertAll(
+			() -> assertThrows(IllegalArgumentException.class, () -> couponService.createBulkCoupons(null)),
+			() -> assertThrows(IllegalArgumentException.class,
+				() -> couponService.createBulkCoupons(new CreateBulkCouponRequest(1, 0)))
+		);
+	}
+
 	@Test
 	@DisplayName("update coupon")
 	void updateCoupon() {
 		// given
 		UpdateCouponRequest testRequest = new UpdateCouponRequest(testCoupon.getCouponCode(), CouponStatus.USED);
-		when(couponRepository.findByCouponCode(anyString())).thenReturn(Optional.of(testCoupon));
-		when(couponRepository.existsByCouponCode(anyString())).thenReturn(true);
+		when(couponRepository.compareAndSetStatus(testCoupon.getCouponCode(), CouponStatus.AVAILABLE,
+			CouponStatus.USED)).thenAnswer(invocation -> {
+				testCoupon.changeStatus(CouponStatus.USED);
+				return 1;
+			});
+		when(couponPolicyRepository.findCouponResponseByCouponCode(anyString()))
+			.thenAnswer(invocation -> CouponResponse.from(testCoupon));
 
 		// when
 		CouponResponse couponResponse = couponService.updateCoupon(testRequest);
 
 		// then
-		verify(couponRepository, times(1)).findByCouponCode(anyString());
+		verify(couponRepository, never()).existsByCouponCode(anyString());
 		assertEquals(CouponStatus.USED, couponResponse.status());
 	}
 
+	@Test
+	@DisplayName("restore coupon")
+	void restoreCoupon() {
+		// given
+		UpdateCouponRequest testRequest = new UpdateCouponRequest(testCoupon.getCouponCode(), CouponStatus.AVAILABLE);
+		when(couponRepository.compareAndSetStatus(testCoupon.getCouponCode(), CouponStatus.USED,
+			CouponStatus.AVAILABLE)).thenReturn(1);
+		when(couponPolicyRepository.findCouponResponseByCouponCode(anyString()))
+			.thenReturn(CouponResponse.from(testCoupon));
+
+		// when
+		CouponResponse couponResponse = couponService.updateCoupon(testRequest);
+
+		// then
+		assertEquals(CouponStatus.AVAILABLE, couponResponse.status());
+	}
+
+	@Test
+	@DisplayName("update coupon with lost race")
+	void updateCouponWithConflict() {
+		// given
+		UpdateCouponRequest testRequest = new UpdateCouponRequest(testCoupon.getCouponCode(), CouponStatus.USED);
+		when(couponRepository.compareAndSetStatus(anyString(), any(), any())).thenReturn(0);
+		when(couponRepository.existsByCouponCode(anyString())).thenReturn(true);
+
+		// when & then
+		assertThrows(CouponStatusConflictException.class, () -> couponService.updateCoupon(testRequest));
+		verify(couponPolicyRepository, never()).findCouponResponseByCouponCode(anyString());
+	}
+
 	@Test
 	@DisplayName("update coupon with exception")
 	void updateCouponWithIllegalArgumentException() {
 		// given
 		UpdateCouponRequest testRequest = new UpdateCouponRequest(testCoupon.getCouponCode(), CouponStatus.USED);
+		UpdateCouponRequest nullStatusRequest = new UpdateCouponRequest(testCoupon.getCouponCode(), null);
+		when(couponRepository.compareAndSetStatus(anyString(), any(), any())).thenReturn(0);
 		when(couponRepository.existsByCouponCode(anyString())).thenReturn(Boolean.FALSE);
 
 		// when & then
 		assertAll(
 			() -> assertThrows(IllegalArgumentException.class, () -> couponService.updateCoupon(null)),
+			() -> assertThrows(IllegalArgumentException.class, () -> couponService.updateCoupon(nullStatusRequest)),
 			() -> assertThrows(CouponNotFoundException.class, () -> couponService.updateCoupon(testRequest))
 		);
 	}
+
+	@Test
+	@DisplayName("update coupon with malformed code")
+	void updateCouponWithMalformedCode() {
+		// given
+		UpdateCouponRequest testRequest = new UpdateCouponRequest("malformed", CouponStatus.USED);
+		when(couponCodeGenerator.isWellFormed("malformed")).thenReturn(false);
+
+		// when & then
+		assertThrows(CouponNotFoundException.class, () -> couponService.updateCoupon(testRequest));
+		verify(couponRepository, never()).compareAndSetStatus(anyString(), any(), any());
+	}
+
+	@Test
+	@DisplayName("update coupons")
+	void updateCoupons() {
+		// given
+		UpdateCouponsRequest request = new UpdateCouponsRequest(List.of(
+			new UpdateCouponRequest("AAAAAAAAAAAAAAAAAAA1", CouponStatus.USED),
+			new UpdateCouponRequest("AAAAAAAAAAAAAAAAAAA2", CouponStatus.USED),
+			new UpdateCouponRequest("AAAAAAAAAAAAAAAAAAA3", CouponStatus.AVAILABLE)));
+		when(couponRepository.findStatusesByCouponCodeIn(anyList())).thenReturn(List.of(
+			new CouponStatusResponse("AAAAAAAAAAAAAAAAAAA1", CouponStatus.AVAILABLE),
+			new CouponStatusResponse("AAAAAAAAAAAAAAAAAAA2", CouponStatus.AVAILABLE),
+			new CouponStatusResponse("AAAAAAAAAAAAAAAAAAA3", CouponStatus.USED)));
+		when(couponRepository.compareAndSetStatusIn(List.of("AAAAAAAAAAAAAAAAAAA1", "AAAAAAAAAAAAAAAAAAA2"),
+			CouponStatus.AVAILABLE, CouponStatus.USED)).thenReturn(2);
+		when(couponRepository.compareAndSetStatusIn(List.of("AAAAAAAAAAAAAAAAAAA3"), CouponStatus.USED,
+			CouponStatus.AVAILABLE)).thenReturn(1);
+
+		// when
+		UpdateCouponsResponse response = couponService.updateCoupons(request);
+
+		// then
+		assertTrue(response.applied());
+		assertEquals(3, response.results().size());
+		assertTrue(response.results().stream()
+			.allMatch(result -> result.outcome() == CouponTransitionResult.Outcome.UPDATED));
+		assertEquals(CouponStatus.AVAILABLE, response.results().get(2).status());
+	}
+
+	@Test
+	@DisplayName("update coupons with conflict")
+	void updateCouponsWithConflict() {
+		// given
+		UpdateCouponsRequest request = new UpdateCouponsRequest(List.of(
+			new UpdateCouponRequest("AAAAAAAAAAAAAAAAAAA1", CouponStatus.USED),
+			new UpdateCouponRequest("AAAAAAAAAAAAAAAAAAA2", CouponStatus.USED),
+			new UpdateCouponRequest("AAAAAAAAAAAAAAAAAAA3", CouponStatus.USED)));
+		when(couponRepository.findStatusesByCouponCodeIn(anyList())).thenReturn(List.of(
+			new CouponStatusResponse("AAAAAAAAAAAAAAAAAAA1", CouponStatus.AVAILABLE),
+			new CouponStatusResponse("AAAAAAAAAAAAAAAAAAA2", CouponStatus.USED)));
+
+		// when
+		CouponTransitionConflictException exception = assertThrows(CouponTransitionConflictException.class,
+			() -> couponService.updateCoupons(request));
+
+		// then
+		List<CouponTransitionResult> results = exception.getResponse().results();
+		assertFalse(exception.getResponse().applied());
+		assertEquals(CouponTransitionResult.Outcome.ROLLED_BACK, results.get(0).outcome());
+		assertEquals(CouponTransitionResult.Outcome.CONFLICT, results.get(1).outcome());
+		assertEquals(CouponTransitionResult.Outcome.NOT_FOUND, results.get(2).outcome());
+		verify(couponRepository, never()).compareAndSetStatusIn(anyList(), any(), any());
+	}
+
+	@Test
+	@DisplayName("update coupons with lost race")
+	void updateCouponsWithLostRace() {
+		// given
+		UpdateCouponsRequest request = new UpdateCouponsRequest(List.of(
+			new UpdateCouponRequest("AAAAAAAAAAAAAAAAAAA1", CouponStatus.USED),
+			new UpdateCouponRequest("AAAAAAAAAAAAAAAAAAA2", CouponStatus.USED)));
+		when(couponRepository.findStatusesByCouponCodeIn(anyList())).thenReturn(List.of(
+			new CouponStatusResponse("AAAAAAAAAAAAAAAAAAA1", CouponStatus.AVAILABLE),
+			new CouponStatusResponse("AAAAAAAAAAAAAAAAAAA2", CouponStatus.AVAILABLE)));
+		when(couponRepository.compareAndSetStatusIn(anyList(), any(), any())).thenReturn(1);
+
+		// when
+		CouponTransitionConflictException exception = assertThrows(CouponTransitionConflictException.class,
+			() -> couponService.updateCoupons(request));
+
+		// then
+		assertTrue(exception.getResponse().results().stream()
+			.allMatch(result -> result.outcome() == CouponTransitionResult.Outcome.CONFLICT));
+	}
+
+	@Test
+	@DisplayName("update coupons with exception")
+	void updateCouponsWithException() {
+		// given
+		UpdateCouponsRequest duplicated = new UpdateCouponsRequest(List.of(
+			new UpdateCouponRequest("AAAAAAAAAAAAAAAAAAA1", CouponStatus.USED),
+			new UpdateCouponRequest("AAAAAAAAAAAAAAAAAAA1", CouponStatus.AVAILABLE)));
+
+		// when & then
+		assertAll(
+			() -> assertThrows(IllegalArgumentException.class, () -> couponService.updateCoupons(null)),
+			() -> assertThrows(IllegalArgumentException.class,
+				() -> couponService.updateCoupons(new UpdateCouponsRequest(List.of()))),
+			() -> assertThrows(IllegalArgumentException.class, () -> couponService.updateCoupons(duplicated))
+		);
+	}
 }